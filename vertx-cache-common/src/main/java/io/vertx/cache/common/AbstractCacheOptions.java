@@ -1,5 +1,8 @@
 package io.vertx.cache.common;
 
+import io.vertx.cache.common.serialization.SerializerRegistry;
+import io.vertx.cache.common.time.Ticker;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.core.json.JsonObject;
 
 import java.util.concurrent.TimeUnit;
@@ -11,18 +14,46 @@ public abstract class AbstractCacheOptions {
 
     public static final long DEFAULT_TTL = 5;
     public static final TimeUnit DEFAULT_TTL_TIMEUNIT = TimeUnit.SECONDS;
+    public static final long DEFAULT_CLOCK_RESOLUTION = 0;
+    public static final TimeUnit DEFAULT_CLOCK_RESOLUTION_TIMEUNIT = TimeUnit.MILLISECONDS;
+    public static final long DEFAULT_REFRESH_AFTER_WRITE = 0;
+    public static final TimeUnit DEFAULT_REFRESH_AFTER_WRITE_TIMEUNIT = TimeUnit.SECONDS;
+    public static final long DEFAULT_NEGATIVE_TTL = 0;
+    public static final TimeUnit DEFAULT_NEGATIVE_TTL_TIMEUNIT = TimeUnit.SECONDS;
 
     private long defaultTtl;
     private TimeUnit defaultTtlTimeUnit;
+    private long clockResolution;
+    private TimeUnit clockResolutionTimeUnit;
+    private long refreshAfterWrite;
+    private TimeUnit refreshAfterWriteTimeUnit;
+    private long negativeTtl;
+    private TimeUnit negativeTtlTimeUnit;
+    private Ticker ticker;
+    private SerializerRegistry serializerRegistry;
 
     protected AbstractCacheOptions() {
         this.defaultTtl = DEFAULT_TTL;
         this.defaultTtlTimeUnit = DEFAULT_TTL_TIMEUNIT;
+        this.clockResolution = DEFAULT_CLOCK_RESOLUTION;
+        this.clockResolutionTimeUnit = DEFAULT_CLOCK_RESOLUTION_TIMEUNIT;
+        this.refreshAfterWrite = DEFAULT_REFRESH_AFTER_WRITE;
+        this.refreshAfterWriteTimeUnit = DEFAULT_REFRESH_AFTER_WRITE_TIMEUNIT;
+        this.negativeTtl = DEFAULT_NEGATIVE_TTL;
+        this.negativeTtlTimeUnit = DEFAULT_NEGATIVE_TTL_TIMEUNIT;
     }
 
     protected AbstractCacheOptions(AbstractCacheOptions other) {
         this.defaultTtl = other.defaultTtl;
         this.defaultTtlTimeUnit = other.defaultTtlTimeUnit;
+        this.clockResolution = other.clockResolution;
+        this.clockResolutionTimeUnit = other.clockResolutionTimeUnit;
+        this.refreshAfterWrite = other.refreshAfterWrite;
+        this.refreshAfterWriteTimeUnit = other.refreshAfterWriteTimeUnit;
+        this.negativeTtl = other.negativeTtl;
+        this.negativeTtlTimeUnit = other.negativeTtlTimeUnit;
+        this.ticker = other.ticker;
+        this.serializerRegistry = other.serializerRegistry;
     }
 
     /**
@@ -68,6 +99,181 @@ public abstract class AbstractCacheOptions {
         return this;
     }
 
+    /**
+     * @return the resolution of the cached clock
+     */
+    public long getClockResolution() {
+        return clockResolution;
+    }
+
+    /**
+     * Set the resolution of the cached clock used by the cache instead of reading the system clock on every operation. The cached clock is refreshed by a periodic timer, so
+     * expiration checks and event timestamps may be off by up to this resolution. 0 reads the system clock every time. Ignored when a {@link #setTicker(Ticker) ticker} is set.
+     *
+     * @param clockResolution the resolution of the cached clock
+     * @return a reference to this, so the API can be used fluently
+     */
+    public AbstractCacheOptions setClockResolution(long clockResolution) {
+        this.clockResolution = clockResolution;
+        return this;
+    }
+
+    /**
+     * @return the resolution of the cached clock in milliseconds
+     */
+    public long getClockResolutionMillis() {
+        return clockResolutionTimeUnit.toMillis(clockResolution);
+    }
+
+    /**
+     * @return the time unit of the cached clock resolution
+     */
+    public TimeUnit getClockResolutionTimeUnit() {
+        return clockResolutionTimeUnit;
+    }
+
+    /**
+     * Set the time unit of the cached clock resolution
+     *
+     * @param clockResolutionTimeUnit the time unit of the cached clock resolution
+     * @return a reference to this, so the API can be used fluently
+     */
+    public AbstractCacheOptions setClockResolutionTimeUnit(TimeUnit clockResolutionTimeUnit) {
+        this.clockResolutionTimeUnit = clockResolutionTimeUnit;
+        return this;
+    }
+
+    /**
+     * @return the time after which the values loaded by {@code getOrLoad} are refreshed
+     */
+    public long getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
+    /**
+     * Set the time after which the values loaded by {@code getOrLoad} are refreshed. The first {@code getOrLoad} reading a value older than this returns it right away and
+     * reloads it in the background, so that hot keys are reloaded before they expire instead of making a caller wait for the loader. The time-to-live still bounds how long a
+     * value that is not read again is kept. 0 disables refreshing.
+     *
+     * @param refreshAfterWrite the time after which values are refreshed
+     * @return a reference to this, so the API can be used fluently
+     */
+    public AbstractCacheOptions setRefreshAfterWrite(long refreshAfterWrite) {
+        this.refreshAfterWrite = refreshAfterWrite;
+        return this;
+    }
+
+    /**
+     * @return the time after which values are refreshed in milliseconds
+     */
+    public long getRefreshAfterWriteMillis() {
+        return refreshAfterWriteTimeUnit.toMillis(refreshAfterWrite);
+    }
+
+    /**
+     * @return the time unit of the time after which values are refreshed
+     */
+    public TimeUnit getRefreshAfterWriteTimeUnit() {
+        return refreshAfterWriteTimeUnit;
+    }
+
+    /**
+     * Set the time unit of the time after which values are refreshed
+     *
+     * @param refreshAfterWriteTimeUnit the time unit of the time after which values are refreshed
+     * @return a reference to this, so the API can be used fluently
+     */
+    public AbstractCacheOptions setRefreshAfterWriteTimeUnit(TimeUnit refreshAfterWriteTimeUnit) {
+        this.refreshAfterWriteTimeUnit = refreshAfterWriteTimeUnit;
+        return this;
+    }
+
+    /**
+     * @return the time-to-live of the absence of the keys a loader found nothing for
+     */
+    public long getNegativeTtl() {
+        return negativeTtl;
+    }
+
+    /**
+     * Set the time-to-live of the absence of the keys a loader found nothing for. When the loader of {@code getOrLoad} completes with null, a tombstone is stored for the key
+     * with this time-to-live, and {@code getOrLoad} returns null for the key without calling the loader again until the tombstone expires. Tombstones are never returned as
+     * values. 0 disables negative caching.
+     *
+     * @param negativeTtl the time-to-live of the tombstones
+     * @return a reference to this, so the API can be used fluently
+     */
+    public AbstractCacheOptions setNegativeTtl(long negativeTtl) {
+        this.negativeTtl = negativeTtl;
+        return this;
+    }
+
+    /**
+     * @return the time-to-live of the tombstones in milliseconds
+     */
+    public long getNegativeTtlMillis() {
+        return negativeTtlTimeUnit.toMillis(negativeTtl);
+    }
+
+    /**
+     * @return the time unit of the time-to-live of the tombstones
+     */
+    public TimeUnit getNegativeTtlTimeUnit() {
+        return negativeTtlTimeUnit;
+    }
+
+    /**
+     * Set the time unit of the time-to-live of the tombstones
+     *
+     * @param negativeTtlTimeUnit the time unit of the time-to-live of the tombstones
+     * @return a reference to this, so the API can be used fluently
+     */
+    public AbstractCacheOptions setNegativeTtlTimeUnit(TimeUnit negativeTtlTimeUnit) {
+        this.negativeTtlTimeUnit = negativeTtlTimeUnit;
+        return this;
+    }
+
+    /**
+     * @return the ticker used by the cache to read the current time, or null to derive it from the clock resolution
+     */
+    @GenIgnore
+    public Ticker getTicker() {
+        return ticker;
+    }
+
+    /**
+     * Set the ticker used by the cache to read the current time, for example a {@link Ticker#manual(long) manual ticker} in tests. The cache does not close a ticker set here.
+     *
+     * @param ticker the ticker
+     * @return a reference to this, so the API can be used fluently
+     */
+    @GenIgnore
+    public AbstractCacheOptions setTicker(Ticker ticker) {
+        this.ticker = ticker;
+        return this;
+    }
+
+    /**
+     * @return the registry serializing the values of types without a serializer of their own, or null to use a registry of the built-in codecs
+     */
+    @GenIgnore
+    public SerializerRegistry getSerializerRegistry() {
+        return serializerRegistry;
+    }
+
+    /**
+     * Set the registry serializing the values of types without a serializer of their own. Types registered with an explicit id are encoded more compactly than the types whose
+     * id is derived from their class name.
+     *
+     * @param serializerRegistry the serializer registry
+     * @return a reference to this, so the API can be used fluently
+     */
+    @GenIgnore
+    public AbstractCacheOptions setSerializerRegistry(SerializerRegistry serializerRegistry) {
+        this.serializerRegistry = serializerRegistry;
+        return this;
+    }
+
     /**
      * Convert to JSON
      *
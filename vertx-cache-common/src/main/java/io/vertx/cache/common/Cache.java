@@ -81,6 +81,14 @@ public interface Cache {
      */
     <T> ValueOperation<T> value(Class<T> clazz, CacheSerializer<T> serializer, CacheDeserializer<T> deserializer);
 
+    /**
+     * Takes a snapshot of the statistics of the cache: reads, loads, evictions and expirations since the cache was created, and its current size. Recording the statistics is
+     * always on and cheap enough for the hot path; taking a snapshot sums the counters of every operation.
+     *
+     * @return The statistics of the cache, with the statistics of each operation family
+     */
+    CacheStats stats();
+
     /**
      * Clears all keys from the cache.
      *
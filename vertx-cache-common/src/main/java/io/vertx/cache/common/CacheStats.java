@@ -0,0 +1,298 @@
+package io.vertx.cache.common;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Snapshot of the statistics of a cache, taken by {@link Cache#stats()}. The counters are cumulative since the cache was created.
+ *
+ * The stats of a cache sum the stats of its operation families, which are also available on their own through {@link #getOperations()}. The stats of an operation family only
+ * hold the read and load counters; evictions, expirations and the size belong to the cache as a whole.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class CacheStats {
+
+    /**
+     * The operation family of {@link Cache#strings()}.
+     */
+    public static final String STRINGS = "strings";
+
+    /**
+     * The operation family of {@link Cache#integers()}.
+     */
+    public static final String INTEGERS = "integers";
+
+    /**
+     * The operation family of {@link Cache#floats()}.
+     */
+    public static final String FLOATS = "floats";
+
+    /**
+     * The operation family of {@link Cache#jsonOperation()}.
+     */
+    public static final String JSON = "json";
+
+    /**
+     * The operation family of {@link Cache#binaryOperation()}.
+     */
+    public static final String BINARY = "binary";
+
+    /**
+     * The operation family of {@link Cache#value(Class)}, over all value types.
+     */
+    public static final String VALUE = "value";
+
+    private long hitCount;
+    private long missCount;
+    private long loadSuccessCount;
+    private long loadFailureCount;
+    private long totalLoadTime;
+    private long evictionCount;
+    private long expirationCount;
+    private long size;
+    private long weight;
+    private Map<String, CacheStats> operations;
+
+    /**
+     * Creates empty stats.
+     */
+    public CacheStats() {
+        this.operations = new LinkedHashMap<>();
+    }
+
+    /**
+     * Creates stats from JSON.
+     *
+     * @param json The JSON object to create the stats from
+     */
+    public CacheStats(JsonObject json) {
+        this();
+        CacheStatsConverter.fromJson(json, this);
+    }
+
+    /**
+     * Sets the number of reads that found a value.
+     *
+     * @param hitCount The number of hits
+     */
+    public void setHitCount(long hitCount) {
+        this.hitCount = hitCount;
+    }
+
+    /**
+     * Gets the number of reads that found a value. Each key of a multi-key read counts as one read.
+     *
+     * @return The number of hits
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Sets the number of reads that found no value.
+     *
+     * @param missCount The number of misses
+     */
+    public void setMissCount(long missCount) {
+        this.missCount = missCount;
+    }
+
+    /**
+     * Gets the number of reads that found no value. Each key of a multi-key read counts as one read.
+     *
+     * @return The number of misses
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Sets the number of loads that succeeded.
+     *
+     * @param loadSuccessCount The number of successful loads
+     */
+    public void setLoadSuccessCount(long loadSuccessCount) {
+        this.loadSuccessCount = loadSuccessCount;
+    }
+
+    /**
+     * Gets the number of loads that succeeded, including the loads that found nothing for their key.
+     *
+     * @return The number of successful loads
+     */
+    public long getLoadSuccessCount() {
+        return loadSuccessCount;
+    }
+
+    /**
+     * Sets the number of loads that failed.
+     *
+     * @param loadFailureCount The number of failed loads
+     */
+    public void setLoadFailureCount(long loadFailureCount) {
+        this.loadFailureCount = loadFailureCount;
+    }
+
+    /**
+     * Gets the number of loads that failed or threw.
+     *
+     * @return The number of failed loads
+     */
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    /**
+     * Sets the total time spent loading values.
+     *
+     * @param totalLoadTime The total load time in nanoseconds
+     */
+    public void setTotalLoadTime(long totalLoadTime) {
+        this.totalLoadTime = totalLoadTime;
+    }
+
+    /**
+     * Gets the total time spent loading values, successfully or not.
+     *
+     * @return The total load time in nanoseconds
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime;
+    }
+
+    /**
+     * Sets the number of entries evicted to keep the cache within its capacity.
+     *
+     * @param evictionCount The number of evictions
+     */
+    public void setEvictionCount(long evictionCount) {
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Gets the number of entries evicted to keep the cache within its capacity.
+     *
+     * @return The number of evictions
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Sets the number of entries that expired.
+     *
+     * @param expirationCount The number of expirations
+     */
+    public void setExpirationCount(long expirationCount) {
+        this.expirationCount = expirationCount;
+    }
+
+    /**
+     * Gets the number of entries that expired.
+     *
+     * @return The number of expirations
+     */
+    public long getExpirationCount() {
+        return expirationCount;
+    }
+
+    /**
+     * Sets the number of entries in the cache.
+     *
+     * @param size The number of entries, or -1 if it is unknown
+     */
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    /**
+     * Gets the number of entries in the cache when the snapshot was taken.
+     *
+     * @return The number of entries, or -1 if the cache does not know it
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Sets the total weight of the entries in the cache.
+     *
+     * @param weight The total weight, or -1 if it is unknown
+     */
+    public void setWeight(long weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Gets the total weight of the entries in the cache when the snapshot was taken. Entries weigh 1 unless the cache is bounded by weight.
+     *
+     * @return The total weight, or -1 if the cache does not know it
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    /**
+     * Sets the stats of the operation families.
+     *
+     * @param operations The stats by operation family
+     */
+    public void setOperations(Map<String, CacheStats> operations) {
+        this.operations = operations;
+    }
+
+    /**
+     * Gets the stats of the operation families, keyed by {@link #STRINGS}, {@link #INTEGERS}, {@link #FLOATS}, {@link #JSON}, {@link #BINARY} and {@link #VALUE}.
+     *
+     * @return The stats by operation family
+     */
+    public Map<String, CacheStats> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Gets the stats of an operation family.
+     *
+     * @param family The operation family
+     * @return The stats of the family, or null if the cache has no such family
+     */
+    public CacheStats operation(String family) {
+        return operations.get(family);
+    }
+
+    /**
+     * Gets the ratio of reads that found a value.
+     *
+     * @return The hit rate, or 1 if nothing was read
+     */
+    public double hitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Gets the average time spent loading a value.
+     *
+     * @return The average load time in nanoseconds, or 0 if nothing was loaded
+     */
+    public double averageLoadPenalty() {
+        long loadCount = loadSuccessCount + loadFailureCount;
+        return loadCount == 0 ? 0.0 : (double) totalLoadTime / loadCount;
+    }
+
+    /**
+     * Converts the stats to a JSON object.
+     *
+     * @return A JSON object representing the stats
+     */
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        CacheStatsConverter.toJson(this, json);
+        return json;
+    }
+}
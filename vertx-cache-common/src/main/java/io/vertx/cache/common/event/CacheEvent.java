@@ -31,9 +31,20 @@ public class CacheEvent {
      * @param key The key that the event is related to (can be null for events like CACHE_CLEARED)
      */
     public CacheEvent(EventType type, String key) {
+        this(type, key, System.currentTimeMillis());
+    }
+
+    /**
+     * Creates a new cache event that occurred at the given time.
+     *
+     * @param type The type of the event
+     * @param key The key that the event is related to (can be null for events like CACHE_CLEARED)
+     * @param timestamp The timestamp in milliseconds since epoch
+     */
+    public CacheEvent(EventType type, String key, long timestamp) {
         this.type = type;
         this.key = key;
-        this.timestamp = System.currentTimeMillis();
+        this.timestamp = timestamp;
     }
 
     /**
@@ -120,6 +131,11 @@ public class CacheEvent {
          */
         KEY_EXPIRED,
 
+        /**
+         * A key was evicted from the cache to keep it within its capacity.
+         */
+        KEY_EVICTED,
+
         /**
          * The cache was cleared.
          */
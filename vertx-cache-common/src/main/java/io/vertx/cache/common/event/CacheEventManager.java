@@ -57,6 +57,15 @@ public interface CacheEventManager extends Closeable {
      */
     Future<String> registerKeyEventHandler(String key, Handler<CacheEvent> handler);
 
+    /**
+     * Registers a handler for cache events related to the keys starting with a prefix.
+     *
+     * @param prefix The key prefix to handle events for
+     * @param handler The handler to register
+     * @return A Future that will be completed with the registration ID when the handler is registered
+     */
+    Future<String> registerKeyPrefixEventHandler(String prefix, Handler<CacheEvent> handler);
+
     /**
      * Unregisters a previously registered event handler.
      *
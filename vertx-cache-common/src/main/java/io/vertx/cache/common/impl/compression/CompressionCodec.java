@@ -0,0 +1,65 @@
+package io.vertx.cache.common.impl.compression;
+
+import io.vertx.cache.common.serialization.CacheCompression;
+
+/**
+ * A block compression algorithm. Blocks are compressed whole, and decompressing a block requires its original length.
+ */
+public interface CompressionCodec {
+
+    /**
+     * Gets the codec of a compression.
+     *
+     * @param compression The compression
+     * @return The codec, or null for {@link CacheCompression#NONE}
+     */
+    static CompressionCodec of(CacheCompression compression) {
+        return switch (compression) {
+            case NONE -> null;
+            case LZ4 -> Lz4BlockCodec.INSTANCE;
+            case DEFLATE -> DeflateCodec.INSTANCE;
+        };
+    }
+
+    /**
+     * Gets a codec from its identifier.
+     *
+     * @param id The identifier written in the header of compressed values
+     * @return The codec
+     * @throws IllegalArgumentException if no codec has this identifier
+     */
+    static CompressionCodec byId(int id) {
+        return switch (id) {
+            case Lz4BlockCodec.ID -> Lz4BlockCodec.INSTANCE;
+            case DeflateCodec.ID -> DeflateCodec.INSTANCE;
+            default -> throw new IllegalArgumentException("Unknown compression codec: " + id);
+        };
+    }
+
+    /**
+     * @return The identifier of the codec, written in the header of the values it compresses
+     */
+    int id();
+
+    /**
+     * Compresses a block.
+     *
+     * @param src The bytes to compress
+     * @param dst The array receiving the compressed bytes
+     * @param dstOffset The offset in {@code dst} of the compressed bytes
+     * @return The number of compressed bytes, or -1 if they do not fit in {@code dst}
+     */
+    int compress(byte[] src, byte[] dst, int dstOffset);
+
+    /**
+     * Decompresses a block.
+     *
+     * @param src The array holding the compressed bytes
+     * @param srcOffset The offset of the compressed bytes
+     * @param srcLength The number of compressed bytes
+     * @param originalLength The length of the block before compression
+     * @return The decompressed bytes
+     * @throws IllegalArgumentException if the block is corrupted
+     */
+    byte[] decompress(byte[] src, int srcOffset, int srcLength, int originalLength);
+}
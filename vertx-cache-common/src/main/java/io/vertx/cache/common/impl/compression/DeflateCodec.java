@@ -0,0 +1,60 @@
+package io.vertx.cache.common.impl.compression;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Raw Deflate codec of the JDK, compressing at the fastest level.
+ */
+public final class DeflateCodec implements CompressionCodec {
+
+    public static final int ID = 2;
+    public static final DeflateCodec INSTANCE = new DeflateCodec();
+
+    private DeflateCodec() {
+    }
+
+    @Override
+    public int id() {
+        return ID;
+    }
+
+    @Override
+    public int compress(byte[] src, byte[] dst, int dstOffset) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(src);
+            deflater.finish();
+            int length = deflater.deflate(dst, dstOffset, dst.length - dstOffset);
+            return deflater.finished() ? length : -1;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] src, int srcOffset, int srcLength, int originalLength) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(src, srcOffset, srcLength);
+            byte[] dst = new byte[originalLength];
+            int length = 0;
+            while (length < originalLength && !inflater.finished()) {
+                int n = inflater.inflate(dst, length, originalLength - length);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += n;
+            }
+            if (length != originalLength) {
+                throw new IllegalArgumentException("Corrupted deflate block");
+            }
+            return dst;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupted deflate block", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
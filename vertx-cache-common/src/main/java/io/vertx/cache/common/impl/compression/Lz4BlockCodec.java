@@ -0,0 +1,209 @@
+package io.vertx.cache.common.impl.compression;
+
+import java.util.Arrays;
+
+/**
+ * Pure Java codec of the LZ4 block format.
+ *
+ * A block is a series of sequences, each made of a token, literals copied as is, and a match copying bytes already decoded. The high nibble of the token is the number of
+ * literals and its low nibble the match length minus 4; a nibble of 15 is followed by bytes adding to it, until a byte lower than 255. The match is given by a 2 bytes little
+ * endian offset back from the current position. The last sequence only has literals, and the last 5 bytes of a block are always literals.
+ *
+ * Matches are found through a hash table of the 4 bytes sequences seen so far, and the search moves faster over data that does not compress.
+ */
+public final class Lz4BlockCodec implements CompressionCodec {
+
+    public static final int ID = 1;
+    public static final Lz4BlockCodec INSTANCE = new Lz4BlockCodec();
+
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int MF_LIMIT = 12;
+    private static final int MAX_DISTANCE = 65535;
+    private static final int HASH_LOG = 12;
+    private static final int SKIP_TRIGGER = 6;
+
+    private Lz4BlockCodec() {
+    }
+
+    @Override
+    public int id() {
+        return ID;
+    }
+
+    @Override
+    public int compress(byte[] src, byte[] dst, int dstOffset) {
+        int srcLength = src.length;
+        int op = dstOffset;
+        int anchor = 0;
+
+        if (srcLength >= MF_LIMIT + 1) {
+            int[] table = new int[1 << HASH_LOG];
+            Arrays.fill(table, -1);
+
+            int matchLimit = srcLength - LAST_LITERALS;
+            int mfLimit = srcLength - MF_LIMIT;
+            int ip = 0;
+
+            while (ip < mfLimit) {
+                int sequence = readInt(src, ip);
+                int h = hash(sequence);
+                int ref = table[h];
+                table[h] = ip;
+
+                if (ref < 0 || ip - ref > MAX_DISTANCE || readInt(src, ref) != sequence) {
+                    // Move faster the longer no match has been found
+                    ip += 1 + ((ip - anchor) >>> SKIP_TRIGGER);
+                    continue;
+                }
+
+                // Extend the match backwards over the pending literals, then forwards
+                while (ip > anchor && ref > 0 && src[ip - 1] == src[ref - 1]) {
+                    ip--;
+                    ref--;
+                }
+                int matchLength = MIN_MATCH;
+                while (ip + matchLength < matchLimit && src[ip + matchLength] == src[ref + matchLength]) {
+                    matchLength++;
+                }
+
+                op = writeSequence(src, anchor, ip - anchor, dst, op, ip - ref, matchLength);
+                if (op < 0) {
+                    return -1;
+                }
+
+                ip += matchLength;
+                anchor = ip;
+                if (ip < mfLimit) {
+                    // Index a position inside the match, which often starts the next one
+                    table[hash(readInt(src, ip - 2))] = ip - 2;
+                }
+            }
+        }
+
+        op = writeSequence(src, anchor, srcLength - anchor, dst, op, 0, 0);
+        return op < 0 ? -1 : op - dstOffset;
+    }
+
+    @Override
+    public byte[] decompress(byte[] src, int srcOffset, int srcLength, int originalLength) {
+        byte[] dst = new byte[originalLength];
+        int ip = srcOffset;
+        int srcEnd = srcOffset + srcLength;
+        int op = 0;
+
+        try {
+            while (true) {
+                int token = src[ip++] & 0xFF;
+
+                int literalLength = token >>> 4;
+                if (literalLength == 15) {
+                    int b;
+                    do {
+                        b = src[ip++] & 0xFF;
+                        literalLength += b;
+                    } while (b == 255);
+                }
+                if (ip + literalLength > srcEnd) {
+                    throw new IllegalArgumentException("Corrupted LZ4 block");
+                }
+                System.arraycopy(src, ip, dst, op, literalLength);
+                ip += literalLength;
+                op += literalLength;
+
+                // The last sequence has no match
+                if (ip == srcEnd) {
+                    break;
+                }
+
+                int offset = (src[ip] & 0xFF) | (src[ip + 1] & 0xFF) << 8;
+                ip += 2;
+                int matchLength = token & 0x0F;
+                if (matchLength == 15) {
+                    int b;
+                    do {
+                        b = src[ip++] & 0xFF;
+                        matchLength += b;
+                    } while (b == 255);
+                }
+                matchLength += MIN_MATCH;
+
+                int ref = op - offset;
+                if (offset == 0 || ref < 0 || op + matchLength > originalLength) {
+                    throw new IllegalArgumentException("Corrupted LZ4 block");
+                }
+                if (offset >= matchLength) {
+                    System.arraycopy(dst, ref, dst, op, matchLength);
+                    op += matchLength;
+                } else {
+                    // The match overlaps the bytes it produces, so it is copied byte by byte
+                    for (int i = 0; i < matchLength; i++) {
+                        dst[op++] = dst[ref++];
+                    }
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Corrupted LZ4 block", e);
+        }
+
+        if (op != originalLength) {
+            throw new IllegalArgumentException("Corrupted LZ4 block");
+        }
+        return dst;
+    }
+
+    /**
+     * Writes a sequence, or the last literals when the match length is 0.
+     *
+     * @return The position after the sequence, or -1 if it does not fit in {@code dst}
+     */
+    private static int writeSequence(byte[] src, int literalStart, int literalLength, byte[] dst, int op, int offset, int matchLength) {
+        int required = 1 + literalLength + literalLength / 255 + 1 + (matchLength > 0 ? 2 + matchLength / 255 + 1 : 0);
+        if (op + required > dst.length) {
+            return -1;
+        }
+
+        int tokenPosition = op++;
+        int token;
+        if (literalLength >= 15) {
+            token = 15 << 4;
+            op = writeLength(dst, op, literalLength - 15);
+        } else {
+            token = literalLength << 4;
+        }
+        System.arraycopy(src, literalStart, dst, op, literalLength);
+        op += literalLength;
+
+        if (matchLength > 0) {
+            dst[op++] = (byte) offset;
+            dst[op++] = (byte) (offset >>> 8);
+            int length = matchLength - MIN_MATCH;
+            if (length >= 15) {
+                token |= 15;
+                op = writeLength(dst, op, length - 15);
+            } else {
+                token |= length;
+            }
+        }
+
+        dst[tokenPosition] = (byte) token;
+        return op;
+    }
+
+    private static int writeLength(byte[] dst, int op, int length) {
+        while (length >= 255) {
+            dst[op++] = (byte) 255;
+            length -= 255;
+        }
+        dst[op++] = (byte) length;
+        return op;
+    }
+
+    private static int readInt(byte[] src, int i) {
+        return (src[i] & 0xFF) | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF) << 16 | (src[i + 3] & 0xFF) << 24;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+}
@@ -0,0 +1,243 @@
+package io.vertx.cache.common.impl.event;
+
+import io.vertx.cache.common.event.CacheEvent;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Routes cache events to the handlers interested in them. Handlers are indexed by what they subscribed to: every event, an event type, an exact key or a key prefix. Dispatching
+ * an event costs a lookup per index, plus one lookup per distinct prefix length, regardless of how many handlers listen to other types or keys.
+ *
+ * Each handler is called on the context it was registered from. Registrations are rare and copy the affected index entry, so dispatching never takes a lock.
+ */
+public final class CacheEventDispatcher {
+
+    private static final int[] NO_LENGTHS = new int[0];
+
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final List<Subscription> allSubscriptions = new CopyOnWriteArrayList<>();
+    private final Map<CacheEvent.EventType, List<Subscription>> typeSubscriptions = new EnumMap<>(CacheEvent.EventType.class);
+    private final Map<String, List<Subscription>> keySubscriptions = new ConcurrentHashMap<>();
+    private final Map<String, List<Subscription>> prefixSubscriptions = new ConcurrentHashMap<>();
+    private volatile int[] prefixLengths = NO_LENGTHS;
+
+    public CacheEventDispatcher() {
+        for (CacheEvent.EventType type : CacheEvent.EventType.values()) {
+            typeSubscriptions.put(type, new CopyOnWriteArrayList<>());
+        }
+    }
+
+    /**
+     * Registers a handler for every event.
+     *
+     * @param handler The handler
+     * @param context The context the handler is called on
+     * @return The registration id
+     */
+    public String register(Handler<CacheEvent> handler, Context context) {
+        return register(new Subscription(Kind.ALL, null, null, handler, context));
+    }
+
+    /**
+     * Registers a handler for the events of a type.
+     *
+     * @param type The event type
+     * @param handler The handler
+     * @param context The context the handler is called on
+     * @return The registration id
+     */
+    public String register(CacheEvent.EventType type, Handler<CacheEvent> handler, Context context) {
+        return register(new Subscription(Kind.TYPE, type, null, handler, context));
+    }
+
+    /**
+     * Registers a handler for the events of a key.
+     *
+     * @param key The key
+     * @param handler The handler
+     * @param context The context the handler is called on
+     * @return The registration id
+     */
+    public String registerKey(String key, Handler<CacheEvent> handler, Context context) {
+        return register(new Subscription(Kind.KEY, null, key, handler, context));
+    }
+
+    /**
+     * Registers a handler for the events of the keys starting with a prefix.
+     *
+     * @param prefix The key prefix
+     * @param handler The handler
+     * @param context The context the handler is called on
+     * @return The registration id
+     */
+    public String registerKeyPrefix(String prefix, Handler<CacheEvent> handler, Context context) {
+        return register(new Subscription(Kind.PREFIX, null, prefix, handler, context));
+    }
+
+    /**
+     * Removes a registration.
+     *
+     * @param registrationId The registration id
+     * @return true if the registration existed
+     */
+    public synchronized boolean unregister(String registrationId) {
+        Subscription subscription = subscriptions.remove(registrationId);
+        if (subscription == null) {
+            return false;
+        }
+
+        switch (subscription.kind) {
+            case ALL -> allSubscriptions.remove(subscription);
+            case TYPE -> typeSubscriptions.get(subscription.type).remove(subscription);
+            case KEY -> remove(keySubscriptions, subscription);
+            case PREFIX -> {
+                remove(prefixSubscriptions, subscription);
+                updatePrefixLengths();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes all registrations.
+     */
+    public synchronized void clear() {
+        subscriptions.clear();
+        allSubscriptions.clear();
+        typeSubscriptions.values().forEach(List::clear);
+        keySubscriptions.clear();
+        prefixSubscriptions.clear();
+        prefixLengths = NO_LENGTHS;
+    }
+
+    /**
+     * @return true if no handler is registered
+     */
+    public boolean isEmpty() {
+        return subscriptions.isEmpty();
+    }
+
+    /**
+     * Checks whether any handler would receive an event, so that publishers can avoid creating events nobody listens to.
+     *
+     * @param type The type of the event
+     * @param key The key of the event, or null
+     * @return true if at least one handler listens to the event
+     */
+    public boolean hasListeners(CacheEvent.EventType type, String key) {
+        if (subscriptions.isEmpty()) {
+            return false;
+        }
+        if (!allSubscriptions.isEmpty() || !typeSubscriptions.get(type).isEmpty()) {
+            return true;
+        }
+        if (key == null) {
+            return false;
+        }
+        if (!keySubscriptions.isEmpty() && keySubscriptions.containsKey(key)) {
+            return true;
+        }
+        for (int length : prefixLengths) {
+            if (length > key.length()) {
+                break;
+            }
+            if (prefixSubscriptions.containsKey(key.substring(0, length))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Delivers an event to the handlers interested in it.
+     *
+     * @param event The event
+     */
+    public void dispatch(CacheEvent event) {
+        dispatch(allSubscriptions, event);
+        dispatch(typeSubscriptions.get(event.getType()), event);
+
+        String key = event.getKey();
+        if (key == null) {
+            return;
+        }
+
+        dispatch(keySubscriptions.get(key), event);
+        for (int length : prefixLengths) {
+            if (length > key.length()) {
+                break;
+            }
+            dispatch(prefixSubscriptions.get(key.substring(0, length)), event);
+        }
+    }
+
+    private static void dispatch(List<Subscription> subscriptions, CacheEvent event) {
+        if (subscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : subscriptions) {
+            subscription.context.runOnContext(v -> subscription.handler.handle(event));
+        }
+    }
+
+    private synchronized String register(Subscription subscription) {
+        String registrationId = UUID.randomUUID().toString();
+        switch (subscription.kind) {
+            case ALL -> allSubscriptions.add(subscription);
+            case TYPE -> typeSubscriptions.get(subscription.type).add(subscription);
+            case KEY -> keySubscriptions.computeIfAbsent(subscription.key, k -> new CopyOnWriteArrayList<>()).add(subscription);
+            case PREFIX -> {
+                prefixSubscriptions.computeIfAbsent(subscription.key, k -> new CopyOnWriteArrayList<>()).add(subscription);
+                updatePrefixLengths();
+            }
+        }
+        subscriptions.put(registrationId, subscription);
+        return registrationId;
+    }
+
+    private static void remove(Map<String, List<Subscription>> index, Subscription subscription) {
+        List<Subscription> list = index.get(subscription.key);
+        if (list != null) {
+            list.remove(subscription);
+            // Drop the entry once empty, so the key no longer counts as listened to
+            if (list.isEmpty()) {
+                index.remove(subscription.key);
+            }
+        }
+    }
+
+    private void updatePrefixLengths() {
+        prefixLengths = prefixSubscriptions.keySet().stream().mapToInt(String::length).distinct().sorted().toArray();
+    }
+
+    private enum Kind {
+        ALL,
+        TYPE,
+        KEY,
+        PREFIX
+    }
+
+    private static final class Subscription {
+
+        final Kind kind;
+        final CacheEvent.EventType type;
+        final String key;
+        final Handler<CacheEvent> handler;
+        final Context context;
+
+        Subscription(Kind kind, CacheEvent.EventType type, String key, Handler<CacheEvent> handler, Context context) {
+            this.kind = kind;
+            this.type = type;
+            this.key = key;
+            this.handler = handler;
+            this.context = context;
+        }
+    }
+}
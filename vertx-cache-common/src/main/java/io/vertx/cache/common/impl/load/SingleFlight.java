@@ -0,0 +1,151 @@
+package io.vertx.cache.common.impl.load;
+
+import io.vertx.cache.common.operation.CacheOperation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.PromiseInternal;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces the concurrent loads of a key: while a load of the key is in flight, further loads of the key join it instead of calling the loader again. A flight is shared by
+ * callers on any context, so each caller gets its own future of the flight, completing on the caller's context.
+ *
+ * @param <V> The type of values loaded
+ */
+public class SingleFlight<V> {
+
+    private static final Logger log = LoggerFactory.getLogger(SingleFlight.class);
+
+    private final ConcurrentMap<String, Future<V>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Runs a load of a key, unless one is already in flight.
+     *
+     * @param key The key
+     * @param load The load, only called if no load of the key is in flight
+     * @return The future of the load in flight, completing on the context of the caller
+     */
+    public Future<V> run(String key, Supplier<Future<V>> load) {
+        Promise<V> promise = Promise.promise();
+        Future<V> flight = flights.putIfAbsent(key, promise.future());
+        if (flight != null) {
+            return onCallerContext(flight);
+        }
+
+        Future<V> result;
+        try {
+            result = load.get();
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+
+        // The flight is over before its callers see the result, so that a caller loading the key again starts a new one
+        result.onComplete(ar -> {
+            flights.remove(key, promise.future());
+            promise.handle(ar);
+        });
+        return onCallerContext(promise.future());
+    }
+
+    /**
+     * Gets a future of a flight completing on the context of the caller, as the flight completes on whichever context the load completes on.
+     */
+    private static <V> Future<V> onCallerContext(Future<V> flight) {
+        ContextInternal context = (ContextInternal) Vertx.currentContext();
+        if (context == null) {
+            return flight;
+        }
+
+        PromiseInternal<V> promise = context.promise();
+        flight.onComplete(promise);
+        return promise.future();
+    }
+
+    /**
+     * Gets the value of a key from an operation, loading it on a miss.
+     *
+     * @param operation The operation
+     * @param key The key
+     * @param loader The loader of the value
+     * @param ttl The time-to-live of the loaded value, or 0 for no expiration
+     * @param unit The time unit of the ttl
+     * @return The cached or loaded value
+     * @see #load(CacheOperation, String, Supplier, long, TimeUnit)
+     */
+    public Future<V> getOrLoad(CacheOperation<V> operation, String key, Supplier<Future<V>> loader, long ttl, TimeUnit unit) {
+        return operation.get(key).compose(cached -> cached != null ? Future.succeededFuture(cached) : load(operation, key, loader, ttl, unit));
+    }
+
+    /**
+     * Loads the value of a key and writes it to an operation, joining the load of the key in flight if any. The flight only ends once the value is written, so that the callers
+     * arriving after it read the value instead of loading it again. Null values are not written.
+     *
+     * @param operation The operation
+     * @param key The key
+     * @param loader The loader of the value
+     * @param ttl The time-to-live of the loaded value, or 0 for no expiration
+     * @param unit The time unit of the ttl
+     * @return The loaded value
+     */
+    public Future<V> load(CacheOperation<V> operation, String key, Supplier<Future<V>> loader, long ttl, TimeUnit unit) {
+        return run(key, () -> loadAndSet(operation, key, loader, ttl, unit));
+    }
+
+    /**
+     * Loads the value of a key and writes it to an operation, without coalescing. Null values are not written.
+     *
+     * @param operation The operation
+     * @param key The key
+     * @param loader The loader of the value
+     * @param ttl The time-to-live of the loaded value, or 0 for no expiration
+     * @param unit The time unit of the ttl
+     * @return The loaded value, once written
+     */
+    public static <V> Future<V> loadAndSet(CacheOperation<V> operation, String key, Supplier<Future<V>> loader, long ttl, TimeUnit unit) {
+        Future<V> load;
+        try {
+            load = loader.get();
+        } catch (Throwable t) {
+            return Future.failedFuture(t);
+        }
+
+        return load.compose(value -> {
+            if (value == null) {
+                return Future.succeededFuture();
+            }
+            Future<Void> write = ttl > 0 ? operation.set(key, value, ttl, unit) : operation.set(key, value);
+            return write.map(value);
+        });
+    }
+
+    /**
+     * Reloads the value of a key in the background, unless a load of the key is already in flight. The current value stays in place if the reload fails.
+     *
+     * @param operation The operation
+     * @param key The key
+     * @param loader The loader of the value
+     * @param ttl The time-to-live of the loaded value, or 0 for no expiration
+     * @param unit The time unit of the ttl
+     */
+    public void refresh(CacheOperation<V> operation, String key, Supplier<Future<V>> loader, long ttl, TimeUnit unit) {
+        refresh(key, () -> loadAndSet(operation, key, loader, ttl, unit));
+    }
+
+    /**
+     * Runs a reload of a key in the background, unless a load of the key is already in flight. Failures are logged.
+     *
+     * @param key The key
+     * @param load The reload
+     */
+    public void refresh(String key, Supplier<Future<V>> load) {
+        run(key, load).onFailure(err -> log.warn("Failed to refresh the value of " + key, err));
+    }
+}
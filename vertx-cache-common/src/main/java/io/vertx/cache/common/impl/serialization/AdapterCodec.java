@@ -0,0 +1,31 @@
+package io.vertx.cache.common.impl.serialization;
+
+import io.vertx.cache.common.serialization.CacheDeserializer;
+import io.vertx.cache.common.serialization.CacheSerializer;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Codec delegating to a serializer and a deserializer registered by the user.
+ *
+ * @param <T> The type of values
+ */
+class AdapterCodec<T> extends TypeCodec<T> {
+
+    private final CacheSerializer<T> serializer;
+    private final CacheDeserializer<T> deserializer;
+
+    AdapterCodec(CacheSerializer<T> serializer, CacheDeserializer<T> deserializer) {
+        this.serializer = serializer;
+        this.deserializer = deserializer;
+    }
+
+    @Override
+    public void write(Buffer out, T value) {
+        out.appendBuffer(serializer.serialize(value));
+    }
+
+    @Override
+    public T read(Buffer in, int start, int end) {
+        return deserializer.deserialize(in.slice(start, end));
+    }
+}
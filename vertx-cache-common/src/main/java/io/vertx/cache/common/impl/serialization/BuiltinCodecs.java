@@ -0,0 +1,186 @@
+package io.vertx.cache.common.impl.serialization;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Codecs of the types every registry supports. Numbers are written in big endian order with their fixed width, and text in UTF-8.
+ */
+public final class BuiltinCodecs {
+
+    public static final TypeCodec<Boolean> BOOLEAN = new FixedCodec<>(1) {
+        @Override
+        public void write(Buffer out, Boolean value) {
+            out.appendByte(value ? (byte) 1 : 0);
+        }
+
+        @Override
+        public Boolean read(Buffer in, int start, int end) {
+            return in.getByte(start) != 0;
+        }
+    };
+
+    public static final TypeCodec<Byte> BYTE = new FixedCodec<>(1) {
+        @Override
+        public void write(Buffer out, Byte value) {
+            out.appendByte(value);
+        }
+
+        @Override
+        public Byte read(Buffer in, int start, int end) {
+            return in.getByte(start);
+        }
+    };
+
+    public static final TypeCodec<Short> SHORT = new FixedCodec<>(2) {
+        @Override
+        public void write(Buffer out, Short value) {
+            out.appendShort(value);
+        }
+
+        @Override
+        public Short read(Buffer in, int start, int end) {
+            return in.getShort(start);
+        }
+    };
+
+    public static final TypeCodec<Character> CHARACTER = new FixedCodec<>(2) {
+        @Override
+        public void write(Buffer out, Character value) {
+            out.appendShort((short) value.charValue());
+        }
+
+        @Override
+        public Character read(Buffer in, int start, int end) {
+            return (char) in.getShort(start);
+        }
+    };
+
+    public static final TypeCodec<Integer> INTEGER = new FixedCodec<>(4) {
+        @Override
+        public void write(Buffer out, Integer value) {
+            out.appendInt(value);
+        }
+
+        @Override
+        public Integer read(Buffer in, int start, int end) {
+            return in.getInt(start);
+        }
+    };
+
+    public static final TypeCodec<Long> LONG = new FixedCodec<>(8) {
+        @Override
+        public void write(Buffer out, Long value) {
+            out.appendLong(value);
+        }
+
+        @Override
+        public Long read(Buffer in, int start, int end) {
+            return in.getLong(start);
+        }
+    };
+
+    public static final TypeCodec<Float> FLOAT = new FixedCodec<>(4) {
+        @Override
+        public void write(Buffer out, Float value) {
+            out.appendFloat(value);
+        }
+
+        @Override
+        public Float read(Buffer in, int start, int end) {
+            return in.getFloat(start);
+        }
+    };
+
+    public static final TypeCodec<Double> DOUBLE = new FixedCodec<>(8) {
+        @Override
+        public void write(Buffer out, Double value) {
+            out.appendDouble(value);
+        }
+
+        @Override
+        public Double read(Buffer in, int start, int end) {
+            return in.getDouble(start);
+        }
+    };
+
+    public static final TypeCodec<String> STRING = new TypeCodec<>() {
+        @Override
+        public void write(Buffer out, String value) {
+            out.appendString(value);
+        }
+
+        @Override
+        public String read(Buffer in, int start, int end) {
+            return in.getString(start, end, StandardCharsets.UTF_8.name());
+        }
+    };
+
+    public static final TypeCodec<byte[]> BYTE_ARRAY = new TypeCodec<>() {
+        @Override
+        public void write(Buffer out, byte[] value) {
+            out.appendBytes(value);
+        }
+
+        @Override
+        public byte[] read(Buffer in, int start, int end) {
+            return in.getBytes(start, end);
+        }
+    };
+
+    public static final TypeCodec<Buffer> BUFFER = new TypeCodec<>() {
+        @Override
+        public void write(Buffer out, Buffer value) {
+            out.appendBuffer(value);
+        }
+
+        @Override
+        public Buffer read(Buffer in, int start, int end) {
+            return in.getBuffer(start, end);
+        }
+    };
+
+    public static final TypeCodec<JsonObject> JSON_OBJECT = new TypeCodec<>() {
+        @Override
+        public void write(Buffer out, JsonObject value) {
+            out.appendBuffer(value.toBuffer());
+        }
+
+        @Override
+        public JsonObject read(Buffer in, int start, int end) {
+            return new JsonObject(in.slice(start, end));
+        }
+    };
+
+    public static final TypeCodec<JsonArray> JSON_ARRAY = new TypeCodec<>() {
+        @Override
+        public void write(Buffer out, JsonArray value) {
+            out.appendBuffer(value.toBuffer());
+        }
+
+        @Override
+        public JsonArray read(Buffer in, int start, int end) {
+            return new JsonArray(in.slice(start, end));
+        }
+    };
+
+    private BuiltinCodecs() {
+    }
+
+    private abstract static class FixedCodec<T> extends TypeCodec<T> {
+
+        private final int length;
+
+        FixedCodec(int length) {
+            this.length = length;
+        }
+
+        @Override
+        public int fixedLength() {
+            return length;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.vertx.cache.common.impl.serialization;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Codec of a data object, written as the JSON it converts to and created back from it.
+ *
+ * @param <T> The data object type
+ */
+class DataObjectCodec<T> extends TypeCodec<T> {
+
+    private final Method toJson;
+    private final Constructor<T> constructor;
+
+    private DataObjectCodec(Method toJson, Constructor<T> constructor) {
+        this.toJson = toJson;
+        this.constructor = constructor;
+    }
+
+    /**
+     * Creates the codec of a data object type.
+     *
+     * @return The codec, or null if the type has no {@code toJson()} method or no constructor taking a {@code JsonObject}
+     */
+    static <T> DataObjectCodec<T> of(Class<T> type) {
+        try {
+            Method toJson = type.getMethod("toJson");
+            if (toJson.getReturnType() != JsonObject.class) {
+                return null;
+            }
+            return new DataObjectCodec<>(toJson, type.getConstructor(JsonObject.class));
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void write(Buffer out, T value) {
+        try {
+            out.appendBuffer(((JsonObject) toJson.invoke(value)).toBuffer());
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Failed to convert " + value.getClass().getName() + " to JSON", e);
+        }
+    }
+
+    @Override
+    public T read(Buffer in, int start, int end) {
+        try {
+            return constructor.newInstance(new JsonObject(in.slice(start, end)));
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Failed to create " + constructor.getDeclaringClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.vertx.cache.common.impl.serialization;
+
+import io.vertx.core.buffer.Buffer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Codec of the constants of an enum, written by name so that reordering the constants does not change their meaning.
+ *
+ * @param <E> The enum type
+ */
+class EnumCodec<E extends Enum<E>> extends TypeCodec<E> {
+
+    private final Class<E> type;
+
+    EnumCodec(Class<E> type) {
+        this.type = type;
+    }
+
+    @Override
+    public void write(Buffer out, E value) {
+        out.appendString(value.name());
+    }
+
+    @Override
+    public E read(Buffer in, int start, int end) {
+        return Enum.valueOf(type, in.getString(start, end, StandardCharsets.UTF_8.name()));
+    }
+}
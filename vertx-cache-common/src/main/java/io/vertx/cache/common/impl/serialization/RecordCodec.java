@@ -0,0 +1,72 @@
+package io.vertx.cache.common.impl.serialization;
+
+import io.vertx.core.buffer.Buffer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+
+/**
+ * Codec of a record, writing its components one after the other as nested values.
+ *
+ * @param <R> The record type
+ */
+class RecordCodec<R extends Record> extends TypeCodec<R> {
+
+    private final SerializerRegistryImpl registry;
+    private final Method[] accessors;
+    private final Class<?>[] componentTypes;
+    private final Constructor<R> constructor;
+
+    RecordCodec(SerializerRegistryImpl registry, Class<R> type) {
+        this.registry = registry;
+
+        RecordComponent[] components = type.getRecordComponents();
+        this.accessors = new Method[components.length];
+        this.componentTypes = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            accessors[i] = components[i].getAccessor();
+            accessors[i].setAccessible(true);
+            componentTypes[i] = components[i].getType();
+            try {
+                registry.checkNested(componentTypes[i]);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("The component " + components[i].getName() + " of " + type.getName() + " is not supported", e);
+            }
+        }
+
+        try {
+            this.constructor = type.getDeclaredConstructor(componentTypes);
+            this.constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("No canonical constructor for " + type.getName(), e);
+        }
+    }
+
+    @Override
+    public void write(Buffer out, R value) {
+        try {
+            for (Method accessor : accessors) {
+                registry.writeNested(out, accessor.invoke(value));
+            }
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Failed to read the components of " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public R read(Buffer in, int start, int end) {
+        Object[] values = new Object[componentTypes.length];
+        int[] position = { start };
+        for (int i = 0; i < componentTypes.length; i++) {
+            values[i] = registry.readNested(in, position, componentTypes[i]);
+        }
+
+        try {
+            return constructor.newInstance(values);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Failed to create " + constructor.getDeclaringClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package io.vertx.cache.common.impl.serialization;
+
+import io.vertx.cache.common.serialization.CacheDeserializer;
+import io.vertx.cache.common.serialization.CacheSerializer;
+import io.vertx.cache.common.serialization.SerializerRegistry;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Implementation of the serializer registry.
+ *
+ * A serialized value is the variable length type id of its codec followed by its encoding. Values nested in records also carry the variable length size of their encoding,
+ * unless their codec has a fixed length, and null nested values are written as the type id 0.
+ */
+public class SerializerRegistryImpl implements SerializerRegistry {
+
+    private static final int NULL_ID = 0;
+    private static final int DERIVED_ID_BIT = 1 << 16;
+
+    private final ConcurrentMap<Class<?>, Entry> byType = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, Entry> byId = new ConcurrentHashMap<>();
+    private final List<Entry> builtins = new ArrayList<>();
+    private final Set<Class<?>> deriving = new HashSet<>();
+
+    public SerializerRegistryImpl() {
+        builtin(1, Boolean.class, boolean.class, BuiltinCodecs.BOOLEAN);
+        builtin(2, Byte.class, byte.class, BuiltinCodecs.BYTE);
+        builtin(3, Short.class, short.class, BuiltinCodecs.SHORT);
+        builtin(4, Character.class, char.class, BuiltinCodecs.CHARACTER);
+        builtin(5, Integer.class, int.class, BuiltinCodecs.INTEGER);
+        builtin(6, Long.class, long.class, BuiltinCodecs.LONG);
+        builtin(7, Float.class, float.class, BuiltinCodecs.FLOAT);
+        builtin(8, Double.class, double.class, BuiltinCodecs.DOUBLE);
+        builtin(9, String.class, null, BuiltinCodecs.STRING);
+        builtin(10, byte[].class, null, BuiltinCodecs.BYTE_ARRAY);
+        builtin(11, Buffer.class, null, BuiltinCodecs.BUFFER);
+        builtin(12, JsonObject.class, null, BuiltinCodecs.JSON_OBJECT);
+        builtin(13, JsonArray.class, null, BuiltinCodecs.JSON_ARRAY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void builtin(int id, Class<?> type, Class<?> primitive, TypeCodec<?> codec) {
+        Entry entry = new Entry(id, type, (TypeCodec<Object>) codec);
+        builtins.add(entry);
+        byType.put(type, entry);
+        byId.put(id, entry);
+        if (primitive != null) {
+            byType.put(primitive, entry);
+        }
+    }
+
+    @Override
+    public <T> SerializerRegistry register(Class<T> type, int typeId) {
+        checkUserTypeId(typeId);
+        TypeCodec<Object> codec = derive(type);
+        if (codec == null) {
+            throw new IllegalArgumentException("No codec can be derived for " + type.getName() + ", it must be registered with a serializer");
+        }
+        bind(type, typeId, codec);
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> SerializerRegistry register(Class<T> type, int typeId, CacheSerializer<T> serializer, CacheDeserializer<T> deserializer) {
+        checkUserTypeId(typeId);
+        bind(type, typeId, (TypeCodec<Object>) new AdapterCodec<>(serializer, deserializer));
+        return this;
+    }
+
+    private static void checkUserTypeId(int typeId) {
+        if (typeId < FIRST_USER_TYPE_ID || typeId > LAST_USER_TYPE_ID) {
+            throw new IllegalArgumentException("Type ids must be between " + FIRST_USER_TYPE_ID + " and " + LAST_USER_TYPE_ID + ": " + typeId);
+        }
+    }
+
+    private synchronized Entry bind(Class<?> type, int id, TypeCodec<Object> codec) {
+        Entry registered = byType.get(type);
+        if (registered != null) {
+            throw new IllegalStateException(type.getName() + " is already registered with the type id " + registered.id);
+        }
+        registered = byId.get(id);
+        if (registered != null) {
+            throw new IllegalStateException("The type id " + id + " of " + type.getName() + " is already bound to " + registered.type.getName());
+        }
+
+        Entry entry = new Entry(id, type, codec);
+        byId.put(id, entry);
+        byType.put(type, entry);
+        return entry;
+    }
+
+    /**
+     * Derives the codec of an enum, record or data object type.
+     *
+     * @return The codec, or null if the type is none of these
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private TypeCodec<Object> derive(Class<?> type) {
+        if (type.isEnum()) {
+            return (TypeCodec<Object>) new EnumCodec(type);
+        }
+        if (type.isRecord()) {
+            return (TypeCodec<Object>) new RecordCodec(this, type);
+        }
+        return (TypeCodec<Object>) DataObjectCodec.of(type);
+    }
+
+    /**
+     * Gets the entry of a type, deriving its codec if needed.
+     *
+     * @throws IllegalArgumentException if the type is not supported
+     */
+    Entry entry(Class<?> type) {
+        Entry entry = byType.get(type);
+        if (entry != null) {
+            return entry;
+        }
+
+        synchronized (this) {
+            entry = byType.get(type);
+            if (entry != null) {
+                return entry;
+            }
+
+            // Enum constants with a body are instances of an anonymous subclass of their enum
+            if (Enum.class.isAssignableFrom(type) && !type.isEnum()) {
+                entry = entry(type.getSuperclass());
+                byType.put(type, entry);
+                return entry;
+            }
+
+            TypeCodec<Object> codec;
+            deriving.add(type);
+            try {
+                codec = derive(type);
+            } finally {
+                deriving.remove(type);
+            }
+            if (codec != null) {
+                int id = type.getName().hashCode() & Integer.MAX_VALUE | DERIVED_ID_BIT;
+                try {
+                    return bind(type, id, codec);
+                } catch (IllegalStateException e) {
+                    throw new IllegalStateException("The type id derived for " + type.getName() + " is already taken, the type must be registered with an explicit id", e);
+                }
+            }
+
+            // Implementations of the built-in types, such as the buffer implementations
+            for (Entry builtin : builtins) {
+                if (builtin.type.isAssignableFrom(type)) {
+                    byType.put(type, builtin);
+                    return builtin;
+                }
+            }
+        }
+        throw new IllegalArgumentException("No codec for " + type.getName());
+    }
+
+    /**
+     * Checks that the values of a type nested in a derived type are supported, the types being derived included.
+     *
+     * @throws IllegalArgumentException if the type is not supported
+     */
+    synchronized void checkNested(Class<?> type) {
+        if (!deriving.contains(type)) {
+            entry(type);
+        }
+    }
+
+    private Entry entry(int id, Class<?> expectedType) {
+        Entry entry = byId.get(id);
+        if (entry == null && expectedType != null) {
+            // The derived id of the expected type is bound on first use
+            entry(expectedType);
+            entry = byId.get(id);
+        }
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown type id: " + id);
+        }
+        return entry;
+    }
+
+    @Override
+    public boolean supports(Class<?> type) {
+        try {
+            entry(type);
+            return true;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public <T> CacheSerializer<T> serializer(Class<T> type) {
+        entry(type);
+        return this::serialize;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CacheDeserializer<T> deserializer(Class<T> type) {
+        entry(type);
+        return data -> (T) decode(data, type);
+    }
+
+    @Override
+    public Buffer serialize(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        Entry entry = entry(value.getClass());
+        Buffer out = Buffer.buffer();
+        Varint.write(out, entry.id);
+        entry.codec.write(out, value);
+        return out;
+    }
+
+    @Override
+    public Object deserialize(Buffer data) {
+        return decode(data, null);
+    }
+
+    private Object decode(Buffer data, Class<?> expectedType) {
+        if (data == null) {
+            return null;
+        }
+
+        int[] position = { 0 };
+        int id = Varint.read(data, position);
+        if (id == NULL_ID) {
+            return null;
+        }
+        return entry(id, expectedType).codec.read(data, position[0], data.length());
+    }
+
+    /**
+     * Appends a value nested in another one.
+     */
+    void writeNested(Buffer out, Object value) {
+        if (value == null) {
+            Varint.write(out, NULL_ID);
+            return;
+        }
+
+        Entry entry = entry(value.getClass());
+        Varint.write(out, entry.id);
+        if (entry.codec.fixedLength() >= 0) {
+            entry.codec.write(out, value);
+        } else {
+            Buffer encoded = Buffer.buffer();
+            entry.codec.write(encoded, value);
+            Varint.write(out, encoded.length());
+            out.appendBuffer(encoded);
+        }
+    }
+
+    /**
+     * Reads a value nested in another one.
+     *
+     * @param position A single element array holding the position of the value, advanced past it
+     * @param declaredType The declared type of the value
+     */
+    Object readNested(Buffer in, int[] position, Class<?> declaredType) {
+        int id = Varint.read(in, position);
+        if (id == NULL_ID) {
+            return null;
+        }
+
+        Entry entry = entry(id, declaredType);
+        int length = entry.codec.fixedLength();
+        if (length < 0) {
+            length = Varint.read(in, position);
+        }
+        int start = position[0];
+        position[0] += length;
+        return entry.codec.read(in, start, start + length);
+    }
+
+    record Entry(int id, Class<?> type, TypeCodec<Object> codec) {
+    }
+}
@@ -0,0 +1,36 @@
+package io.vertx.cache.common.impl.serialization;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Binary codec of the values of a type, writing into and reading from a shared buffer so that nested values do not need buffers of their own.
+ *
+ * @param <T> The type of values
+ */
+public abstract class TypeCodec<T> {
+
+    /**
+     * @return The number of bytes of every encoded value, or -1 if it varies
+     */
+    public int fixedLength() {
+        return -1;
+    }
+
+    /**
+     * Appends a value to a buffer.
+     *
+     * @param out The buffer
+     * @param value The value, never null
+     */
+    public abstract void write(Buffer out, T value);
+
+    /**
+     * Reads a value from a buffer.
+     *
+     * @param in The buffer
+     * @param start The position of the value
+     * @param end The position after the value
+     * @return The value
+     */
+    public abstract T read(Buffer in, int start, int end);
+}
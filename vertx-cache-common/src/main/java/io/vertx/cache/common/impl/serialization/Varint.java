@@ -0,0 +1,40 @@
+package io.vertx.cache.common.impl.serialization;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Unsigned variable length integers, written 7 bits per byte with the high bit set on every byte but the last.
+ */
+public final class Varint {
+
+    private Varint() {
+    }
+
+    public static void write(Buffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.appendByte((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.appendByte((byte) value);
+    }
+
+    /**
+     * Reads a variable length integer.
+     *
+     * @param in The buffer
+     * @param position A single element array holding the position to read from, advanced past the integer
+     * @return The integer
+     * @throws IllegalArgumentException if the integer is malformed
+     */
+    public static int read(Buffer in, int[] position) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.getByte(position[0]++);
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable length integer");
+    }
+}
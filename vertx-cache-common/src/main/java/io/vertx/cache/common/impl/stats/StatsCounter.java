@@ -0,0 +1,169 @@
+package io.vertx.cache.common.impl.stats;
+
+import io.vertx.cache.common.CacheStats;
+import io.vertx.cache.common.event.CacheEvent;
+import io.vertx.core.Future;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Records the statistics of a cache or of one of its operations. The counters are striped {@link LongAdder}s, so recording from many threads at once neither contends on a single
+ * cache line nor allocates; the cost is paid by {@link #snapshot()}, which sums the stripes.
+ */
+public final class StatsCounter {
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+
+    /**
+     * Records a read of a single key.
+     *
+     * @param value The value read, or null if the key had none
+     */
+    public void recordGet(Object value) {
+        if (value != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+    }
+
+    /**
+     * Records a read of several keys.
+     *
+     * @param hits The number of keys that had a value
+     * @param misses The number of keys that had none
+     */
+    public void recordGetAll(int hits, int misses) {
+        hitCount.add(hits);
+        missCount.add(misses);
+    }
+
+    /**
+     * Records a load that succeeded.
+     *
+     * @param loadTime The time the load took, in nanoseconds
+     */
+    public void recordLoadSuccess(long loadTime) {
+        loadSuccessCount.increment();
+        totalLoadTime.add(loadTime);
+    }
+
+    /**
+     * Records a load that failed.
+     *
+     * @param loadTime The time the load took, in nanoseconds
+     */
+    public void recordLoadFailure(long loadTime) {
+        loadFailureCount.increment();
+        totalLoadTime.add(loadTime);
+    }
+
+    /**
+     * Records an entry leaving the cache, if the cause is an eviction or an expiration.
+     *
+     * @param cause The cause of the removal
+     */
+    public void recordRemoval(CacheEvent.EventType cause) {
+        if (cause == CacheEvent.EventType.KEY_EVICTED) {
+            evictionCount.increment();
+        } else if (cause == CacheEvent.EventType.KEY_EXPIRED) {
+            expirationCount.increment();
+        }
+    }
+
+    /**
+     * Wraps a loader so that each of its loads is recorded, with the time it took until its future completed.
+     *
+     * @param loader The loader
+     * @return The recording loader
+     */
+    public <T> Supplier<Future<T>> recordLoads(Supplier<Future<T>> loader) {
+        return () -> {
+            long start = System.nanoTime();
+            Future<T> load;
+            try {
+                load = loader.get();
+            } catch (Throwable t) {
+                recordLoadFailure(System.nanoTime() - start);
+                return Future.failedFuture(t);
+            }
+
+            return load.andThen(ar -> {
+                if (ar.succeeded()) {
+                    recordLoadSuccess(System.nanoTime() - start);
+                } else {
+                    recordLoadFailure(System.nanoTime() - start);
+                }
+            });
+        };
+    }
+
+    /**
+     * Adds the counts of another counter to this one.
+     *
+     * @param other The other counter
+     */
+    public void incrementBy(StatsCounter other) {
+        hitCount.add(other.hitCount.sum());
+        missCount.add(other.missCount.sum());
+        loadSuccessCount.add(other.loadSuccessCount.sum());
+        loadFailureCount.add(other.loadFailureCount.sum());
+        totalLoadTime.add(other.totalLoadTime.sum());
+        evictionCount.add(other.evictionCount.sum());
+        expirationCount.add(other.expirationCount.sum());
+    }
+
+    /**
+     * Takes a snapshot of the counts. Counts recorded while the snapshot is taken may or may not be part of it.
+     *
+     * @return The stats, with an unknown size and weight
+     */
+    public CacheStats snapshot() {
+        CacheStats stats = new CacheStats();
+        stats.setHitCount(hitCount.sum());
+        stats.setMissCount(missCount.sum());
+        stats.setLoadSuccessCount(loadSuccessCount.sum());
+        stats.setLoadFailureCount(loadFailureCount.sum());
+        stats.setTotalLoadTime(totalLoadTime.sum());
+        stats.setEvictionCount(evictionCount.sum());
+        stats.setExpirationCount(expirationCount.sum());
+        stats.setSize(-1);
+        stats.setWeight(-1);
+        return stats;
+    }
+
+    /**
+     * Takes a snapshot of the stats of a cache, as the sum of the counters of its operation families and of its own counter.
+     *
+     * @param families The counters of the operation families, by family
+     * @param cache The counter of the cache, recording evictions and expirations
+     * @return The stats of the cache, with the stats of each family, and an unknown size and weight
+     */
+    public static CacheStats snapshot(Map<String, StatsCounter> families, StatsCounter cache) {
+        StatsCounter total = new StatsCounter();
+        Map<String, CacheStats> operations = new LinkedHashMap<>();
+        families.forEach((family, counter) -> {
+            CacheStats stats = counter.snapshot();
+            operations.put(family, stats);
+            total.hitCount.add(stats.getHitCount());
+            total.missCount.add(stats.getMissCount());
+            total.loadSuccessCount.add(stats.getLoadSuccessCount());
+            total.loadFailureCount.add(stats.getLoadFailureCount());
+            total.totalLoadTime.add(stats.getTotalLoadTime());
+        });
+        total.incrementBy(cache);
+
+        CacheStats stats = total.snapshot();
+        stats.setOperations(operations);
+        return stats;
+    }
+}
@@ -0,0 +1,158 @@
+package io.vertx.cache.common.impl.stream;
+
+import io.vertx.cache.common.operation.KeyOperation;
+import io.vertx.cache.common.operation.KeyScanPage;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.streams.ReadStream;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Function;
+
+/**
+ * Read stream of the keys returned by a cursor-based scan, see {@link KeyOperation#scan(String, String, int)}. Each step of the scan is only requested once the keys of the previous step have been delivered and the stream still
+ * has demand, so at most one step of keys is held at a time whatever the number of keys scanned.
+ *
+ * Every step completes on a later turn of the stream's context, so a backend whose steps complete immediately still yields the event loop between steps.
+ */
+public class KeyScanStream implements ReadStream<String> {
+
+    private final Context context;
+    private final Function<String, Future<KeyScanPage>> scan;
+    private final Deque<String> pending = new ArrayDeque<>();
+
+    private Handler<String> handler;
+    private Handler<Void> endHandler;
+    private Handler<Throwable> exceptionHandler;
+    private long demand = Long.MAX_VALUE;
+    private boolean fetching;
+    private boolean exhausted;
+    private boolean ended;
+    private String cursor = KeyOperation.START_CURSOR;
+
+    /**
+     * Creates a stream of the keys of a scan.
+     *
+     * @param context The context delivering the keys
+     * @param scan The function taking the step of the scan starting at a cursor
+     */
+    public KeyScanStream(Context context, Function<String, Future<KeyScanPage>> scan) {
+        this.context = context;
+        this.scan = scan;
+    }
+
+    @Override
+    public synchronized KeyScanStream exceptionHandler(Handler<Throwable> handler) {
+        this.exceptionHandler = handler;
+        return this;
+    }
+
+    @Override
+    public KeyScanStream handler(Handler<String> handler) {
+        synchronized (this) {
+            this.handler = handler;
+        }
+        if (handler != null) {
+            context.runOnContext(v -> drain());
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized KeyScanStream pause() {
+        demand = 0;
+        return this;
+    }
+
+    @Override
+    public KeyScanStream resume() {
+        return fetch(Long.MAX_VALUE);
+    }
+
+    @Override
+    public KeyScanStream fetch(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Invalid fetch amount: " + amount);
+        }
+        synchronized (this) {
+            demand += amount;
+            if (demand < 0) {
+                demand = Long.MAX_VALUE;
+            }
+        }
+        context.runOnContext(v -> drain());
+        return this;
+    }
+
+    @Override
+    public synchronized KeyScanStream endHandler(Handler<Void> endHandler) {
+        this.endHandler = endHandler;
+        return this;
+    }
+
+    private void drain() {
+        Handler<String> handler;
+        String key;
+        while (true) {
+            synchronized (this) {
+                handler = this.handler;
+                if (ended || handler == null || demand == 0) {
+                    return;
+                }
+                key = pending.poll();
+                if (key == null) {
+                    break;
+                }
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+            }
+            handler.handle(key);
+        }
+
+        Handler<Void> endHandler = null;
+        String step = null;
+        synchronized (this) {
+            if (fetching) {
+                return;
+            }
+            if (exhausted) {
+                ended = true;
+                endHandler = this.endHandler;
+            } else {
+                fetching = true;
+                step = cursor;
+            }
+        }
+
+        if (step != null) {
+            scan.apply(step).onComplete(ar -> context.runOnContext(v -> completeStep(ar.result(), ar.cause())));
+        } else if (endHandler != null) {
+            endHandler.handle(null);
+        }
+    }
+
+    private void completeStep(KeyScanPage page, Throwable failure) {
+        Handler<Throwable> exceptionHandler;
+        synchronized (this) {
+            fetching = false;
+            if (failure == null) {
+                pending.addAll(page.getKeys());
+                cursor = page.getCursor();
+                exhausted = page.isComplete();
+                exceptionHandler = null;
+            } else {
+                ended = true;
+                exceptionHandler = this.exceptionHandler;
+            }
+        }
+
+        if (failure == null) {
+            drain();
+        } else if (exceptionHandler != null) {
+            exceptionHandler.handle(failure);
+        }
+    }
+}
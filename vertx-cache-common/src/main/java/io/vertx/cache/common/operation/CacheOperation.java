@@ -4,7 +4,10 @@ import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Base interface for value-related operations in the cache.
@@ -21,6 +24,26 @@ public interface CacheOperation<V> {
      */
     Future<V> get(String key);
 
+    /**
+     * Gets the value for a key, loading it on a miss. Concurrent calls loading the same key on this node share a single call to the loader, and the loaded value is written back
+     * to the cache with the given expiration time. A null loaded value is returned without being cached.
+     *
+     * @param key The key to get the value for
+     * @param loader The loader of the value, called on a miss
+     * @param ttl The time-to-live of the loaded value in the cache, or 0 for no expiration
+     * @param unit The time unit for the ttl parameter
+     * @return A Future that will be completed with the cached or loaded value, or failed with the failure of the loader
+     */
+    Future<V> getOrLoad(String key, Supplier<Future<V>> loader, long ttl, TimeUnit unit);
+
+    /**
+     * Gets the values of several keys at once. The distributed cache fetches them in a single round trip.
+     *
+     * @param keys The keys to get the values for
+     * @return A Future that will be completed with the values by key; keys that don't exist are absent from the map
+     */
+    Future<Map<String, V>> getAll(List<String> keys);
+
     /**
      * Gets the current value for a key and sets it to a new value.
      *
@@ -58,6 +81,24 @@ public interface CacheOperation<V> {
      */
     Future<Void> set(String key, V value, long ttl, TimeUnit unit);
 
+    /**
+     * Sets the values of several keys at once. The distributed cache writes them in a single round trip.
+     *
+     * @param entries The values to set, by key
+     * @return A Future that will be completed when the operation is done
+     */
+    Future<Void> setAll(Map<String, V> entries);
+
+    /**
+     * Sets the values of several keys at once, with the same expiration time. The distributed cache writes them in a single round trip.
+     *
+     * @param entries The values to set, by key
+     * @param ttl The time-to-live for the values in the cache, or 0 for no expiration
+     * @param unit The time unit for the ttl parameter
+     * @return A Future that will be completed when the operation is done
+     */
+    Future<Void> setAll(Map<String, V> entries, long ttl, TimeUnit unit);
+
     /**
      * Sets the value for a key only if the key does not already exist.
      *
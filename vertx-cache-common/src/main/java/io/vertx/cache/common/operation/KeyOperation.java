@@ -2,6 +2,7 @@ package io.vertx.cache.common.operation;
 
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
+import io.vertx.core.streams.ReadStream;
 
 import java.util.Set;
 
@@ -10,6 +11,17 @@ import java.util.Set;
  */
 @VertxGen
 public interface KeyOperation {
+
+    /**
+     * The default number of keys examined by each step of a scan.
+     */
+    int DEFAULT_SCAN_COUNT = 100;
+
+    /**
+     * The cursor starting a scan, which is also the cursor returned by its last step.
+     */
+    String START_CURSOR = "0";
+
     /**
      * Gets all keys matching a pattern.
      *
@@ -24,4 +36,39 @@ public interface KeyOperation {
      * @return A Future that will be completed with the set of all keys
      */
     Future<Set<String>> keys();
+
+    /**
+     * Scans the keys matching a pattern, see {@link #scan(String, int)}.
+     *
+     * @param pattern The pattern to match (supports glob-style patterns)
+     * @return A stream of the matching keys
+     */
+    ReadStream<String> scan(String pattern);
+
+    /**
+     * Scans the keys matching a pattern incrementally. Unlike {@link #keys(String)}, the keys are never all materialized at once: each step of the scan examines about
+     * {@code count} keys and the next step is only taken once the stream has demand again, so the consumer controls the pace through {@link ReadStream#pause()} and
+     * {@link ReadStream#fetch(long)}.
+     *
+     * The scan is weakly consistent: a key present during the whole scan is returned at least once, while keys added or removed during the scan may or may not be.
+     *
+     * @param pattern The pattern to match (supports glob-style patterns)
+     * @param count The number of keys examined by each step, a hint for the backend
+     * @return A stream of the matching keys
+     */
+    ReadStream<String> scan(String pattern, int count);
+
+    /**
+     * Takes a step of a cursor-based scan of the keys matching a pattern. A scan starts with {@link #START_CURSOR}, each step returns the cursor of the next one, and the scan is
+     * complete once the returned cursor is {@link #START_CURSOR} again. The cursor holds the whole state of the scan, so a scan can be resumed from any of its cursors, by any
+     * caller, and abandoning it costs nothing. {@link #scan(String, int)} streams the pages of such a scan.
+     *
+     * The scan gives the guarantees of {@link #scan(String, int)}. A page may be empty or hold a few more keys than {@code count} without the scan being complete.
+     *
+     * @param cursor The cursor returned by the previous step, or {@link #START_CURSOR} to start the scan
+     * @param pattern The pattern to match (supports glob-style patterns)
+     * @param count The number of keys examined by the step, a hint for the backend
+     * @return A Future that will be completed with the keys found by the step and the cursor of the next step
+     */
+    Future<KeyScanPage> scan(String cursor, String pattern, int count);
 }
@@ -0,0 +1,103 @@
+package io.vertx.cache.common.operation;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Page of keys returned by a step of a cursor-based scan, see {@link KeyOperation#scan(String, String, int)}.
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class KeyScanPage {
+
+    private String cursor;
+    private List<String> keys;
+
+    /**
+     * Creates an empty page ending the scan.
+     */
+    public KeyScanPage() {
+        this(KeyOperation.START_CURSOR, new ArrayList<>());
+    }
+
+    /**
+     * Creates a page.
+     *
+     * @param cursor The cursor of the next step
+     * @param keys The keys found by the step
+     */
+    public KeyScanPage(String cursor, List<String> keys) {
+        this.cursor = cursor;
+        this.keys = keys;
+    }
+
+    /**
+     * Creates a page from JSON.
+     *
+     * @param json The JSON object to create the page from
+     */
+    public KeyScanPage(JsonObject json) {
+        this();
+        KeyScanPageConverter.fromJson(json, this);
+    }
+
+    /**
+     * Sets the cursor of the next step.
+     *
+     * @param cursor The cursor
+     */
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * Gets the cursor to pass to the next step of the scan. It is {@link KeyOperation#START_CURSOR} once the scan is complete.
+     *
+     * @return The cursor
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Sets the keys found by the step.
+     *
+     * @param keys The keys
+     */
+    public void setKeys(List<String> keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Gets the keys found by the step. A page may be empty even though the scan is not complete.
+     *
+     * @return The keys
+     */
+    public List<String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Checks whether this page is the last one of the scan.
+     *
+     * @return true if the scan is complete
+     */
+    public boolean isComplete() {
+        return KeyOperation.START_CURSOR.equals(cursor);
+    }
+
+    /**
+     * Converts the page to JSON.
+     *
+     * @return The JSON representation of the page
+     */
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        KeyScanPageConverter.toJson(this, json);
+        return json;
+    }
+}
@@ -0,0 +1,25 @@
+package io.vertx.cache.common.serialization;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The codecs compressing the serialized values, see {@link CompressingSerializer}.
+ */
+@VertxGen
+public enum CacheCompression {
+
+    /**
+     * Values are not compressed.
+     */
+    NONE,
+
+    /**
+     * Values are compressed in the LZ4 block format, which is very fast and typically halves the size of text payloads.
+     */
+    LZ4,
+
+    /**
+     * Values are compressed with Deflate, which is slower than LZ4 but compresses better.
+     */
+    DEFLATE
+}
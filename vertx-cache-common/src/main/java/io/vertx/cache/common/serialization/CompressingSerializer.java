@@ -0,0 +1,95 @@
+package io.vertx.cache.common.serialization;
+
+import io.vertx.cache.common.impl.compression.CompressionCodec;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Serializer compressing the values of another serializer, and deserializer decompressing them for another deserializer.
+ *
+ * Only the values whose serialized form reaches the threshold are compressed, and only if compression makes them smaller. A compressed value starts with a 6 bytes header: the
+ * byte {@code 0xFF}, which never starts a UTF-8 text, the identifier of the codec and the length of the value before compression. Values are otherwise written as is, so values
+ * written before compression was enabled remain readable; the rare uncompressed values starting with {@code 0xFF} are written behind a header with the codec identifier 0.
+ * Values are read according to their header, whatever the codec configured.
+ *
+ * @param <T> The type of values
+ */
+public class CompressingSerializer<T> implements CacheSerializer<T>, CacheDeserializer<T> {
+
+    private static final byte MAGIC = (byte) 0xFF;
+    private static final int STORED = 0;
+    private static final int HEADER_LENGTH = 6;
+
+    private final CacheSerializer<T> serializer;
+    private final CacheDeserializer<T> deserializer;
+    private final CompressionCodec codec;
+    private final int threshold;
+
+    /**
+     * @param serializer The serializer of the values, or null if this instance is only used to deserialize
+     * @param deserializer The deserializer of the values, or null if this instance is only used to serialize
+     * @param compression The compression of the values written
+     * @param threshold The size in bytes from which serialized values are compressed
+     */
+    public CompressingSerializer(CacheSerializer<T> serializer, CacheDeserializer<T> deserializer, CacheCompression compression, int threshold) {
+        this.serializer = serializer;
+        this.deserializer = deserializer;
+        this.codec = CompressionCodec.of(compression);
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Buffer serialize(T object) {
+        Buffer data = serializer.serialize(object);
+        if (data == null) {
+            return null;
+        }
+
+        int length = data.length();
+        if (codec != null && length >= threshold && length > HEADER_LENGTH) {
+            byte[] src = data.getBytes();
+            // Compressed values are only kept if they are smaller, so the output never has to grow beyond the original length
+            byte[] dst = new byte[length - 1];
+            int compressedLength = codec.compress(src, dst, HEADER_LENGTH);
+            if (compressedLength >= 0) {
+                writeHeader(dst, codec.id(), length);
+                return Buffer.buffer(dst).slice(0, HEADER_LENGTH + compressedLength);
+            }
+        }
+
+        if (length > 0 && data.getByte(0) == MAGIC) {
+            byte[] header = new byte[HEADER_LENGTH];
+            writeHeader(header, STORED, length);
+            return Buffer.buffer(length + HEADER_LENGTH).appendBytes(header).appendBuffer(data);
+        }
+        return data;
+    }
+
+    @Override
+    public T deserialize(Buffer data) {
+        if (data == null || data.length() == 0 || data.getByte(0) != MAGIC) {
+            return deserializer.deserialize(data);
+        }
+        if (data.length() < HEADER_LENGTH) {
+            throw new IllegalArgumentException("Truncated compressed value");
+        }
+
+        int id = data.getUnsignedByte(1);
+        int originalLength = data.getInt(2);
+        if (id == STORED) {
+            return deserializer.deserialize(data.slice(HEADER_LENGTH, data.length()));
+        }
+
+        byte[] compressed = data.getBytes();
+        byte[] decompressed = CompressionCodec.byId(id).decompress(compressed, HEADER_LENGTH, compressed.length - HEADER_LENGTH, originalLength);
+        return deserializer.deserialize(Buffer.buffer(decompressed));
+    }
+
+    private static void writeHeader(byte[] dst, int id, int originalLength) {
+        dst[0] = MAGIC;
+        dst[1] = (byte) id;
+        dst[2] = (byte) (originalLength >>> 24);
+        dst[3] = (byte) (originalLength >>> 16);
+        dst[4] = (byte) (originalLength >>> 8);
+        dst[5] = (byte) originalLength;
+    }
+}
@@ -0,0 +1,102 @@
+package io.vertx.cache.common.serialization;
+
+import io.vertx.cache.common.impl.serialization.SerializerRegistryImpl;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Registry of binary codecs, each bound to a type and to a compact type id written before the values it encodes, so that serialized values are self-describing.
+ *
+ * Every registry supports the boxed primitives, {@code String}, {@code byte[]}, {@code Buffer}, {@code JsonObject} and {@code JsonArray}, with ids below
+ * {@link #FIRST_USER_TYPE_ID}. It also derives codecs for enums, for records whose components are supported, and for data objects, that is classes with a {@code toJson()} method
+ * and a constructor taking a {@code JsonObject}, as generated for {@code @DataObject} classes. These types get an id derived from their class name unless they are registered
+ * with an explicit id, which is more compact and survives renaming the class. Nodes sharing a distributed cache must register the same types with the same ids.
+ */
+public interface SerializerRegistry {
+
+    /**
+     * The smallest id of the types registered by users, the ids below are reserved for the built-in types.
+     */
+    int FIRST_USER_TYPE_ID = 64;
+
+    /**
+     * The largest id of the types registered by users, the ids above are reserved for the ids derived from class names.
+     */
+    int LAST_USER_TYPE_ID = 65535;
+
+    /**
+     * Creates a registry of the built-in codecs.
+     *
+     * @return The registry
+     */
+    static SerializerRegistry create() {
+        return new SerializerRegistryImpl();
+    }
+
+    /**
+     * Registers an enum, record or data object type with an explicit id, its codec being derived from the type.
+     *
+     * @param type The type
+     * @param typeId The id, between {@link #FIRST_USER_TYPE_ID} and {@link #LAST_USER_TYPE_ID}
+     * @return this
+     * @throws IllegalArgumentException if no codec can be derived for the type, or if the id is out of range
+     * @throws IllegalStateException if the type or the id is already registered
+     */
+    <T> SerializerRegistry register(Class<T> type, int typeId);
+
+    /**
+     * Registers a type with an explicit id and its own serializer.
+     *
+     * @param type The type
+     * @param typeId The id, between {@link #FIRST_USER_TYPE_ID} and {@link #LAST_USER_TYPE_ID}
+     * @param serializer The serializer of the values
+     * @param deserializer The deserializer of the values
+     * @return this
+     * @throws IllegalArgumentException if the id is out of range
+     * @throws IllegalStateException if the type or the id is already registered
+     */
+    <T> SerializerRegistry register(Class<T> type, int typeId, CacheSerializer<T> serializer, CacheDeserializer<T> deserializer);
+
+    /**
+     * Checks whether values of a type can be serialized, because the type is registered or a codec can be derived for it.
+     *
+     * @param type The type
+     * @return true if the type is supported
+     */
+    boolean supports(Class<?> type);
+
+    /**
+     * Gets a serializer of the values of a type.
+     *
+     * @param type The type
+     * @return The serializer, writing the type id of each value followed by its encoding
+     * @throws IllegalArgumentException if the type is not supported
+     */
+    <T> CacheSerializer<T> serializer(Class<T> type);
+
+    /**
+     * Gets a deserializer of the values of a type.
+     *
+     * @param type The type
+     * @return The deserializer, decoding each value with the codec of its type id
+     * @throws IllegalArgumentException if the type is not supported
+     */
+    <T> CacheDeserializer<T> deserializer(Class<T> type);
+
+    /**
+     * Serializes a value of any supported type.
+     *
+     * @param value The value
+     * @return The type id of the value followed by its encoding, or null for a null value
+     * @throws IllegalArgumentException if the type of the value is not supported
+     */
+    Buffer serialize(Object value);
+
+    /**
+     * Deserializes a value serialized by {@link #serialize(Object)} or by a {@link #serializer(Class) serializer} of the registry.
+     *
+     * @param data The serialized value
+     * @return The value, or null for null data
+     * @throws IllegalArgumentException if the type id is unknown
+     */
+    Object deserialize(Buffer data);
+}
@@ -0,0 +1,32 @@
+package io.vertx.cache.common.time;
+
+import io.vertx.core.Vertx;
+
+/**
+ * A ticker caching the system clock in a volatile field, refreshed by a Vert.x periodic timer. The cached time lags behind the system clock by up to the timer period, and by
+ * more if the event loop running the timer is blocked.
+ */
+public final class CoarseTicker implements Ticker {
+
+    private final Vertx vertx;
+    private final long timerId;
+    private volatile long millis;
+
+    CoarseTicker(Vertx vertx, long resolutionMillis) {
+        this.vertx = vertx;
+        this.millis = System.currentTimeMillis();
+        this.timerId = vertx.setPeriodic(resolutionMillis, id -> millis = System.currentTimeMillis());
+    }
+
+    @Override
+    public long millis() {
+        return millis;
+    }
+
+    /**
+     * Cancels the timer refreshing this ticker. The ticker keeps returning the last time it read.
+     */
+    public void close() {
+        vertx.cancelTimer(timerId);
+    }
+}
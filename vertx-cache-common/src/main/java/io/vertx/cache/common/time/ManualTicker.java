@@ -0,0 +1,44 @@
+package io.vertx.cache.common.time;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A ticker whose time only changes when it is advanced or set explicitly, for deterministic expiration tests.
+ */
+public final class ManualTicker implements Ticker {
+
+    private final AtomicLong millis;
+
+    ManualTicker(long initialMillis) {
+        this.millis = new AtomicLong(initialMillis);
+    }
+
+    @Override
+    public long millis() {
+        return millis.get();
+    }
+
+    /**
+     * Moves the time forward.
+     *
+     * @param duration The duration to advance by
+     * @param unit The unit of the duration
+     * @return this
+     */
+    public ManualTicker advance(long duration, TimeUnit unit) {
+        millis.addAndGet(unit.toMillis(duration));
+        return this;
+    }
+
+    /**
+     * Sets the time.
+     *
+     * @param millis The time in milliseconds since the epoch
+     * @return this
+     */
+    public ManualTicker set(long millis) {
+        this.millis.set(millis);
+        return this;
+    }
+}
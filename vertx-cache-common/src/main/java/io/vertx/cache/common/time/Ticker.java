@@ -0,0 +1,68 @@
+package io.vertx.cache.common.time;
+
+import io.vertx.cache.common.AbstractCacheOptions;
+import io.vertx.core.Vertx;
+
+/**
+ * A source of the current time used by caches to compute and check expiration times and to timestamp events. Replacing the system clock lets hot paths avoid a system call per
+ * read, and lets tests control time.
+ */
+@FunctionalInterface
+public interface Ticker {
+
+    /**
+     * Returns a ticker reading the system clock on every call.
+     *
+     * @return The system ticker
+     */
+    static Ticker system() {
+        return System::currentTimeMillis;
+    }
+
+    /**
+     * Returns a ticker caching the system clock, refreshed by a Vert.x periodic timer. Reading it costs a volatile read, at the price of being up to {@code resolutionMillis}
+     * behind the system clock. The ticker must be closed to cancel its timer.
+     *
+     * @param vertx The Vert.x instance driving the timer
+     * @param resolutionMillis The refresh period in milliseconds
+     * @return The coarse ticker
+     */
+    static CoarseTicker coarse(Vertx vertx, long resolutionMillis) {
+        return new CoarseTicker(vertx, resolutionMillis);
+    }
+
+    /**
+     * Returns a ticker that only moves when told to, for deterministic tests.
+     *
+     * @param initialMillis The initial time in milliseconds since the epoch
+     * @return The manual ticker
+     */
+    static ManualTicker manual(long initialMillis) {
+        return new ManualTicker(initialMillis);
+    }
+
+    /**
+     * Returns the ticker configured by the options: the {@link AbstractCacheOptions#getTicker() explicit ticker} if any, otherwise a {@link CoarseTicker} when a
+     * {@link AbstractCacheOptions#getClockResolution() clock resolution} is set, otherwise the system ticker. A coarse ticker created here is owned by the caller, which has to
+     * close it.
+     *
+     * @param vertx The Vert.x instance driving a coarse ticker
+     * @param options The cache options
+     * @return The ticker
+     */
+    static Ticker create(Vertx vertx, AbstractCacheOptions options) {
+        if (options.getTicker() != null) {
+            return options.getTicker();
+        }
+
+        long resolution = options.getClockResolutionMillis();
+        return resolution > 0 ? coarse(vertx, resolution) : system();
+    }
+
+    /**
+     * Returns the current time.
+     *
+     * @return The current time in milliseconds since the epoch
+     */
+    long millis();
+}
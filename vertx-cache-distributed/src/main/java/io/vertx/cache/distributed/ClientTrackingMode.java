@@ -0,0 +1,20 @@
+package io.vertx.cache.distributed;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The way Redis tracks the keys cached on the client side, see {@link DistributedCacheOptions#setClientTrackingMode(ClientTrackingMode)}.
+ */
+@VertxGen
+public enum ClientTrackingMode {
+
+    /**
+     * Redis remembers the keys read by the cache, and only reports the changes of these keys.
+     */
+    DEFAULT,
+
+    /**
+     * Redis remembers nothing, and reports the changes of every key starting with the key prefix of the cache.
+     */
+    BCAST
+}
@@ -0,0 +1,195 @@
+package io.vertx.cache.distributed;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Snapshot of the latencies of a Redis command, as seen by the callers of a {@link DistributedCache}: from the moment the command is sent until its reply is handed back,
+ * including the time spent waiting for a batch. Latencies are in nanoseconds, and the percentiles are accurate to about 6%.
+ *
+ * @see DistributedCacheOptions#setCommandLatency(boolean)
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class CommandLatency {
+
+    private String command;
+    private long count;
+    private long mean;
+    private long max;
+    private long p50;
+    private long p90;
+    private long p99;
+    private long p999;
+
+    /**
+     * Creates an empty snapshot.
+     */
+    public CommandLatency() {
+    }
+
+    /**
+     * Creates a snapshot from JSON.
+     *
+     * @param json The JSON object to create the snapshot from
+     */
+    public CommandLatency(JsonObject json) {
+        CommandLatencyConverter.fromJson(json, this);
+    }
+
+    /**
+     * Sets the name of the Redis command.
+     *
+     * @param command The command name
+     */
+    public void setCommand(String command) {
+        this.command = command;
+    }
+
+    /**
+     * Gets the name of the Redis command.
+     *
+     * @return The command name
+     */
+    public String getCommand() {
+        return command;
+    }
+
+    /**
+     * Sets the number of replies recorded.
+     *
+     * @param count The number of replies
+     */
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    /**
+     * Gets the number of replies recorded.
+     *
+     * @return The number of replies
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Sets the mean latency.
+     *
+     * @param mean The mean latency in nanoseconds
+     */
+    public void setMean(long mean) {
+        this.mean = mean;
+    }
+
+    /**
+     * Gets the mean latency.
+     *
+     * @return The mean latency in nanoseconds
+     */
+    public long getMean() {
+        return mean;
+    }
+
+    /**
+     * Sets the highest latency.
+     *
+     * @param max The highest latency in nanoseconds
+     */
+    public void setMax(long max) {
+        this.max = max;
+    }
+
+    /**
+     * Gets the highest latency.
+     *
+     * @return The highest latency in nanoseconds
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Sets the median latency.
+     *
+     * @param p50 The median latency in nanoseconds
+     */
+    public void setP50(long p50) {
+        this.p50 = p50;
+    }
+
+    /**
+     * Gets the median latency.
+     *
+     * @return The median latency in nanoseconds
+     */
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * Sets the 90th percentile of the latencies.
+     *
+     * @param p90 The 90th percentile in nanoseconds
+     */
+    public void setP90(long p90) {
+        this.p90 = p90;
+    }
+
+    /**
+     * Gets the 90th percentile of the latencies.
+     *
+     * @return The 90th percentile in nanoseconds
+     */
+    public long getP90() {
+        return p90;
+    }
+
+    /**
+     * Sets the 99th percentile of the latencies.
+     *
+     * @param p99 The 99th percentile in nanoseconds
+     */
+    public void setP99(long p99) {
+        this.p99 = p99;
+    }
+
+    /**
+     * Gets the 99th percentile of the latencies.
+     *
+     * @return The 99th percentile in nanoseconds
+     */
+    public long getP99() {
+        return p99;
+    }
+
+    /**
+     * Sets the 99.9th percentile of the latencies.
+     *
+     * @param p999 The 99.9th percentile in nanoseconds
+     */
+    public void setP999(long p999) {
+        this.p999 = p999;
+    }
+
+    /**
+     * Gets the 99.9th percentile of the latencies.
+     *
+     * @return The 99.9th percentile in nanoseconds
+     */
+    public long getP999() {
+        return p999;
+    }
+
+    /**
+     * Converts the snapshot to a JSON object.
+     *
+     * @return A JSON object representing the snapshot
+     */
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        CommandLatencyConverter.toJson(this, json);
+        return json;
+    }
+}
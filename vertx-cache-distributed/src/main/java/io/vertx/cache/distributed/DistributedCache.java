@@ -8,6 +8,8 @@ import io.vertx.core.Vertx;
 import io.vertx.redis.client.Redis;
 import io.vertx.redis.client.Response;
 
+import java.util.List;
+
 /**
  * DistributedCache is an interface that extends {@link Cache} and provides Redis-based distributed caching capabilities. It includes static factory methods to create instances of
  * a Redis-based cache implementation.
@@ -72,7 +74,8 @@ public interface DistributedCache extends Cache {
     Future<String> put(String key, String value);
 
     /**
-     * Puts a value in the cache with a custom TTL.
+     * Puts a value in the cache with a custom TTL. The value is written and the previous value read back atomically, by a single {@code SET ... GET} command, which requires
+     * Redis 6.2 or later.
      *
      * @param key The key
      * @param value The value
@@ -88,4 +91,12 @@ public interface DistributedCache extends Cache {
      * @return A Future that will be completed with the value, or null if the key doesn't exist or has expired
      */
     Future<Response> get(String key);
-}
\ No newline at end of file
+
+    /**
+     * Takes a snapshot of the latencies of the Redis commands sent by the cache, when {@link DistributedCacheOptions#setCommandLatency(boolean) command latencies} are recorded.
+     *
+     * @param reset true to start counting again from zero, so that the next snapshot only holds the latencies recorded after this one
+     * @return The latencies of each command sent since the last reset, or an empty list if the latencies are not recorded
+     */
+    List<CommandLatency> commandLatencies(boolean reset);
+}
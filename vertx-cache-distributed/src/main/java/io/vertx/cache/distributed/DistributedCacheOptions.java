@@ -1,7 +1,11 @@
 package io.vertx.cache.distributed;
 
 import io.vertx.cache.common.AbstractCacheOptions;
+import io.vertx.cache.common.serialization.CacheCompression;
+import io.vertx.cache.common.serialization.SerializerRegistry;
+import io.vertx.cache.common.time.Ticker;
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.json.JsonObject;
 import io.vertx.redis.client.RedisOptions;
@@ -13,20 +17,96 @@ import java.util.concurrent.TimeUnit;
 public class DistributedCacheOptions extends AbstractCacheOptions {
 
     public static final String DEFAULT_KEY_PREFIX = "vertx:cache:";
+    public static final boolean DEFAULT_AUTO_BATCHING = false;
+    public static final int DEFAULT_AUTO_BATCH_MAX_SIZE = 64;
+    public static final long DEFAULT_AUTO_BATCH_MAX_DELAY = 0;
+    public static final TimeUnit DEFAULT_AUTO_BATCH_MAX_DELAY_TIMEUNIT = TimeUnit.MILLISECONDS;
+    public static final boolean DEFAULT_CLIENT_TRACKING = false;
+    public static final ClientTrackingMode DEFAULT_CLIENT_TRACKING_MODE = ClientTrackingMode.DEFAULT;
+    public static final int DEFAULT_CLIENT_TRACKING_MAXIMUM_SIZE = 10000;
+    public static final CacheCompression DEFAULT_COMPRESSION = CacheCompression.NONE;
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+    public static final double DEFAULT_EARLY_EXPIRATION_BETA = 0;
+    public static final boolean DEFAULT_LOAD_LEASE = false;
+    public static final long DEFAULT_LOAD_LEASE_TIME = 5000;
+    public static final TimeUnit DEFAULT_LOAD_LEASE_TIMEUNIT = TimeUnit.MILLISECONDS;
+    public static final long DEFAULT_LOAD_LEASE_POLL_INTERVAL = 50;
+    public static final TimeUnit DEFAULT_LOAD_LEASE_POLL_INTERVAL_TIMEUNIT = TimeUnit.MILLISECONDS;
+    public static final boolean DEFAULT_COMMAND_LATENCY = false;
+    public static final String DEFAULT_COMMAND_LATENCY_ADDRESS = null;
+    public static final long DEFAULT_COMMAND_LATENCY_PUBLISH_INTERVAL = 10;
+    public static final TimeUnit DEFAULT_COMMAND_LATENCY_PUBLISH_INTERVAL_TIMEUNIT = TimeUnit.SECONDS;
 
     private String keyPrefix;
     private RedisOptions redisOptions;
+    private boolean autoBatching;
+    private int autoBatchMaxSize;
+    private long autoBatchMaxDelay;
+    private TimeUnit autoBatchMaxDelayTimeUnit;
+    private boolean clientTracking;
+    private ClientTrackingMode clientTrackingMode;
+    private int clientTrackingMaximumSize;
+    private CacheCompression compression;
+    private int compressionThreshold;
+    private double earlyExpirationBeta;
+    private boolean loadLease;
+    private long loadLeaseTime;
+    private TimeUnit loadLeaseTimeUnit;
+    private long loadLeasePollInterval;
+    private TimeUnit loadLeasePollIntervalTimeUnit;
+    private boolean commandLatency;
+    private String commandLatencyAddress;
+    private long commandLatencyPublishInterval;
+    private TimeUnit commandLatencyPublishIntervalTimeUnit;
 
     public DistributedCacheOptions() {
         super();
         this.keyPrefix = DEFAULT_KEY_PREFIX;
         this.redisOptions = new RedisOptions();
+        this.autoBatching = DEFAULT_AUTO_BATCHING;
+        this.autoBatchMaxSize = DEFAULT_AUTO_BATCH_MAX_SIZE;
+        this.autoBatchMaxDelay = DEFAULT_AUTO_BATCH_MAX_DELAY;
+        this.autoBatchMaxDelayTimeUnit = DEFAULT_AUTO_BATCH_MAX_DELAY_TIMEUNIT;
+        this.clientTracking = DEFAULT_CLIENT_TRACKING;
+        this.clientTrackingMode = DEFAULT_CLIENT_TRACKING_MODE;
+        this.clientTrackingMaximumSize = DEFAULT_CLIENT_TRACKING_MAXIMUM_SIZE;
+        this.compression = DEFAULT_COMPRESSION;
+        this.compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+        this.earlyExpirationBeta = DEFAULT_EARLY_EXPIRATION_BETA;
+        this.loadLease = DEFAULT_LOAD_LEASE;
+        this.loadLeaseTime = DEFAULT_LOAD_LEASE_TIME;
+        this.loadLeaseTimeUnit = DEFAULT_LOAD_LEASE_TIMEUNIT;
+        this.loadLeasePollInterval = DEFAULT_LOAD_LEASE_POLL_INTERVAL;
+        this.loadLeasePollIntervalTimeUnit = DEFAULT_LOAD_LEASE_POLL_INTERVAL_TIMEUNIT;
+        this.commandLatency = DEFAULT_COMMAND_LATENCY;
+        this.commandLatencyAddress = DEFAULT_COMMAND_LATENCY_ADDRESS;
+        this.commandLatencyPublishInterval = DEFAULT_COMMAND_LATENCY_PUBLISH_INTERVAL;
+        this.commandLatencyPublishIntervalTimeUnit = DEFAULT_COMMAND_LATENCY_PUBLISH_INTERVAL_TIMEUNIT;
     }
 
     public DistributedCacheOptions(DistributedCacheOptions other) {
         super(other);
         this.keyPrefix = other.keyPrefix;
         this.redisOptions = other.redisOptions != null ? new RedisOptions(other.redisOptions) : new RedisOptions();
+        this.autoBatching = other.autoBatching;
+        this.autoBatchMaxSize = other.autoBatchMaxSize;
+        this.autoBatchMaxDelay = other.autoBatchMaxDelay;
+        this.autoBatchMaxDelayTimeUnit = other.autoBatchMaxDelayTimeUnit;
+        this.clientTracking = other.clientTracking;
+        this.clientTrackingMode = other.clientTrackingMode;
+        this.clientTrackingMaximumSize = other.clientTrackingMaximumSize;
+        this.compression = other.compression;
+        this.compressionThreshold = other.compressionThreshold;
+        this.earlyExpirationBeta = other.earlyExpirationBeta;
+        this.loadLease = other.loadLease;
+        this.loadLeaseTime = other.loadLeaseTime;
+        this.loadLeaseTimeUnit = other.loadLeaseTimeUnit;
+        this.loadLeasePollInterval = other.loadLeasePollInterval;
+        this.loadLeasePollIntervalTimeUnit = other.loadLeasePollIntervalTimeUnit;
+        this.commandLatency = other.commandLatency;
+        this.commandLatencyAddress = other.commandLatencyAddress;
+        this.commandLatencyPublishInterval = other.commandLatencyPublishInterval;
+        this.commandLatencyPublishIntervalTimeUnit = other.commandLatencyPublishIntervalTimeUnit;
     }
 
     public DistributedCacheOptions(JsonObject json) {
@@ -46,6 +126,56 @@ public class DistributedCacheOptions extends AbstractCacheOptions {
         return this;
     }
 
+    @Override
+    public DistributedCacheOptions setClockResolution(long clockResolution) {
+        super.setClockResolution(clockResolution);
+        return this;
+    }
+
+    @Override
+    public DistributedCacheOptions setClockResolutionTimeUnit(TimeUnit clockResolutionTimeUnit) {
+        super.setClockResolutionTimeUnit(clockResolutionTimeUnit);
+        return this;
+    }
+
+    @Override
+    public DistributedCacheOptions setRefreshAfterWrite(long refreshAfterWrite) {
+        super.setRefreshAfterWrite(refreshAfterWrite);
+        return this;
+    }
+
+    @Override
+    public DistributedCacheOptions setRefreshAfterWriteTimeUnit(TimeUnit refreshAfterWriteTimeUnit) {
+        super.setRefreshAfterWriteTimeUnit(refreshAfterWriteTimeUnit);
+        return this;
+    }
+
+    @Override
+    public DistributedCacheOptions setNegativeTtl(long negativeTtl) {
+        super.setNegativeTtl(negativeTtl);
+        return this;
+    }
+
+    @Override
+    public DistributedCacheOptions setNegativeTtlTimeUnit(TimeUnit negativeTtlTimeUnit) {
+        super.setNegativeTtlTimeUnit(negativeTtlTimeUnit);
+        return this;
+    }
+
+    @Override
+    @GenIgnore
+    public DistributedCacheOptions setTicker(Ticker ticker) {
+        super.setTicker(ticker);
+        return this;
+    }
+
+    @Override
+    @GenIgnore
+    public DistributedCacheOptions setSerializerRegistry(SerializerRegistry serializerRegistry) {
+        super.setSerializerRegistry(serializerRegistry);
+        return this;
+    }
+
     public String getKeyPrefix() {
         return keyPrefix;
     }
@@ -64,6 +194,302 @@ public class DistributedCacheOptions extends AbstractCacheOptions {
         return this;
     }
 
+    public boolean isAutoBatching() {
+        return autoBatching;
+    }
+
+    /**
+     * Sets whether the commands sent by the cache are coalesced into pipelined batches. Commands issued on the same event loop within a turn, or within
+     * {@link #setAutoBatchMaxDelay(long) the maximum delay} when one is set, are written to Redis at once and their replies are dispatched back to each caller.
+     *
+     * A batch is sent as a {@code MULTI}/{@code EXEC} transaction, so that an error reply only fails the command it answers. Redis Cluster does not allow transactions, so the
+     * commands of a batch sent to a cluster are written one by one, and auto-batching is not suited to cluster deployments.
+     *
+     * @param autoBatching true to batch the commands
+     * @return this
+     */
+    public DistributedCacheOptions setAutoBatching(boolean autoBatching) {
+        this.autoBatching = autoBatching;
+        return this;
+    }
+
+    public int getAutoBatchMaxSize() {
+        return autoBatchMaxSize;
+    }
+
+    /**
+     * Sets the maximum number of commands in a batch. A batch reaching this size is sent right away.
+     *
+     * @param autoBatchMaxSize The maximum number of commands
+     * @return this
+     */
+    public DistributedCacheOptions setAutoBatchMaxSize(int autoBatchMaxSize) {
+        this.autoBatchMaxSize = autoBatchMaxSize;
+        return this;
+    }
+
+    public long getAutoBatchMaxDelay() {
+        return autoBatchMaxDelay;
+    }
+
+    /**
+     * Sets how long a command may wait for other commands to join its batch. With the default of 0, a batch gathers the commands issued until the end of the current event
+     * loop turn.
+     *
+     * @param autoBatchMaxDelay The maximum delay
+     * @return this
+     */
+    public DistributedCacheOptions setAutoBatchMaxDelay(long autoBatchMaxDelay) {
+        this.autoBatchMaxDelay = autoBatchMaxDelay;
+        return this;
+    }
+
+    public TimeUnit getAutoBatchMaxDelayTimeUnit() {
+        return autoBatchMaxDelayTimeUnit;
+    }
+
+    public DistributedCacheOptions setAutoBatchMaxDelayTimeUnit(TimeUnit autoBatchMaxDelayTimeUnit) {
+        this.autoBatchMaxDelayTimeUnit = autoBatchMaxDelayTimeUnit;
+        return this;
+    }
+
+    public long getAutoBatchMaxDelayMillis() {
+        return autoBatchMaxDelayTimeUnit.toMillis(autoBatchMaxDelay);
+    }
+
+    public boolean isClientTracking() {
+        return clientTracking;
+    }
+
+    /**
+     * Sets whether the values read by the cache are kept on the client side. Redis tracks the keys of these values through {@code CLIENT TRACKING} and reports their changes, which
+     * drop them locally, so repeated reads of a key are served without a round trip until the key changes. Writes made through the cache drop the local values of their keys as
+     * soon as they complete.
+     *
+     * Tracking requires Redis 6 or later, and holds two connections of the pool: one for the tracked reads and one receiving the invalidations.
+     *
+     * @param clientTracking true to keep the values on the client side
+     * @return this
+     */
+    public DistributedCacheOptions setClientTracking(boolean clientTracking) {
+        this.clientTracking = clientTracking;
+        return this;
+    }
+
+    public ClientTrackingMode getClientTrackingMode() {
+        return clientTrackingMode;
+    }
+
+    /**
+     * Sets how Redis tracks the keys held on the client side. In the default mode Redis remembers the keys read by the cache, which costs server memory but only reports relevant
+     * changes. In the broadcast mode Redis reports the changes of every key starting with the key prefix, which costs nothing on the server but more invalidation messages.
+     *
+     * @param clientTrackingMode The tracking mode
+     * @return this
+     */
+    public DistributedCacheOptions setClientTrackingMode(ClientTrackingMode clientTrackingMode) {
+        this.clientTrackingMode = clientTrackingMode;
+        return this;
+    }
+
+    public int getClientTrackingMaximumSize() {
+        return clientTrackingMaximumSize;
+    }
+
+    /**
+     * Sets the maximum number of values held on the client side. The least recently used values are dropped beyond it.
+     *
+     * @param clientTrackingMaximumSize The maximum number of values
+     * @return this
+     */
+    public DistributedCacheOptions setClientTrackingMaximumSize(int clientTrackingMaximumSize) {
+        this.clientTrackingMaximumSize = clientTrackingMaximumSize;
+        return this;
+    }
+
+    public CacheCompression getCompression() {
+        return compression;
+    }
+
+    /**
+     * Sets the codec compressing the values stored through the JSON, binary and value operations. Compressed values are marked by a header, so they can be read whatever the
+     * codec configured, as can the values written before compression was enabled. String and number values are never compressed, as Redis has to understand them to append to
+     * them or increment them.
+     *
+     * @param compression The compression codec
+     * @return this
+     */
+    public DistributedCacheOptions setCompression(CacheCompression compression) {
+        this.compression = compression;
+        return this;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * Sets the size in bytes from which serialized values are compressed. Smaller values gain little from compression and are stored as is.
+     *
+     * @param compressionThreshold The size in bytes
+     * @return this
+     */
+    public DistributedCacheOptions setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+        return this;
+    }
+
+    public double getEarlyExpirationBeta() {
+        return earlyExpirationBeta;
+    }
+
+    /**
+     * Sets the weight of the load time in the probabilistic early expiration of the values loaded by {@code getOrLoad}. The time each value takes to load is stored next to it,
+     * and every read decides at random whether to reload the value ahead of its expiry, with a chance rising as the expiry approaches, so that the nodes sharing a key spread
+     * their reloads over time instead of all reloading it when it expires. 1 is a sensible value, higher values reload earlier, and 0 disables early expiration.
+     *
+     * @param earlyExpirationBeta The weight of the load time
+     * @return this
+     */
+    public DistributedCacheOptions setEarlyExpirationBeta(double earlyExpirationBeta) {
+        this.earlyExpirationBeta = earlyExpirationBeta;
+        return this;
+    }
+
+    public boolean isLoadLease() {
+        return loadLease;
+    }
+
+    /**
+     * Sets whether the nodes sharing the cache coordinate the loads of {@code getOrLoad}. A node missing a key first acquires a lease on it with {@code SET NX PX}; the node
+     * holding the lease loads the value while the other nodes poll the key until the value is written, so that a key is loaded once for the whole cluster instead of once per
+     * node. Background reloads are only run by the node acquiring the lease, the other nodes keep serving the current value.
+     *
+     * @param loadLease true to coordinate the loads
+     * @return this
+     */
+    public DistributedCacheOptions setLoadLease(boolean loadLease) {
+        this.loadLease = loadLease;
+        return this;
+    }
+
+    public long getLoadLeaseTime() {
+        return loadLeaseTime;
+    }
+
+    /**
+     * Sets how long a lease is held at most. It should exceed the time the loader takes: a lease that expires before the value is written lets another node load it too, and a
+     * node failing while it holds a lease delays the other nodes for this long.
+     *
+     * @param loadLeaseTime The lease time
+     * @return this
+     */
+    public DistributedCacheOptions setLoadLeaseTime(long loadLeaseTime) {
+        this.loadLeaseTime = loadLeaseTime;
+        return this;
+    }
+
+    public TimeUnit getLoadLeaseTimeUnit() {
+        return loadLeaseTimeUnit;
+    }
+
+    public DistributedCacheOptions setLoadLeaseTimeUnit(TimeUnit loadLeaseTimeUnit) {
+        this.loadLeaseTimeUnit = loadLeaseTimeUnit;
+        return this;
+    }
+
+    public long getLoadLeaseTimeMillis() {
+        return loadLeaseTimeUnit.toMillis(loadLeaseTime);
+    }
+
+    public long getLoadLeasePollInterval() {
+        return loadLeasePollInterval;
+    }
+
+    /**
+     * Sets how often the nodes waiting for the holder of a lease check whether the value was written.
+     *
+     * @param loadLeasePollInterval The poll interval
+     * @return this
+     */
+    public DistributedCacheOptions setLoadLeasePollInterval(long loadLeasePollInterval) {
+        this.loadLeasePollInterval = loadLeasePollInterval;
+        return this;
+    }
+
+    public TimeUnit getLoadLeasePollIntervalTimeUnit() {
+        return loadLeasePollIntervalTimeUnit;
+    }
+
+    public DistributedCacheOptions setLoadLeasePollIntervalTimeUnit(TimeUnit loadLeasePollIntervalTimeUnit) {
+        this.loadLeasePollIntervalTimeUnit = loadLeasePollIntervalTimeUnit;
+        return this;
+    }
+
+    public long getLoadLeasePollIntervalMillis() {
+        return loadLeasePollIntervalTimeUnit.toMillis(loadLeasePollInterval);
+    }
+
+    public boolean isCommandLatency() {
+        return commandLatency;
+    }
+
+    /**
+     * Sets whether the latency of each Redis command is recorded, from the moment the command is sent until its reply is handed back. The latencies are kept in a histogram per
+     * command, which {@link DistributedCache#commandLatencies(boolean)} reads.
+     *
+     * @param commandLatency true to record the latencies
+     * @return this
+     */
+    public DistributedCacheOptions setCommandLatency(boolean commandLatency) {
+        this.commandLatency = commandLatency;
+        return this;
+    }
+
+    public String getCommandLatencyAddress() {
+        return commandLatencyAddress;
+    }
+
+    /**
+     * Sets the event bus address the recorded latencies are published to. Every publish interval, the latencies recorded since the previous publication are published as a
+     * JSON object holding a {@link CommandLatency} per command, keyed by the command name. Nothing is published when the address is null or the latencies are not recorded.
+     *
+     * @param commandLatencyAddress The event bus address, or null to not publish the latencies
+     * @return this
+     */
+    public DistributedCacheOptions setCommandLatencyAddress(String commandLatencyAddress) {
+        this.commandLatencyAddress = commandLatencyAddress;
+        return this;
+    }
+
+    public long getCommandLatencyPublishInterval() {
+        return commandLatencyPublishInterval;
+    }
+
+    /**
+     * Sets how often the recorded latencies are published to the {@link #setCommandLatencyAddress(String) command latency address}.
+     *
+     * @param commandLatencyPublishInterval The publish interval
+     * @return this
+     */
+    public DistributedCacheOptions setCommandLatencyPublishInterval(long commandLatencyPublishInterval) {
+        this.commandLatencyPublishInterval = commandLatencyPublishInterval;
+        return this;
+    }
+
+    public TimeUnit getCommandLatencyPublishIntervalTimeUnit() {
+        return commandLatencyPublishIntervalTimeUnit;
+    }
+
+    public DistributedCacheOptions setCommandLatencyPublishIntervalTimeUnit(TimeUnit commandLatencyPublishIntervalTimeUnit) {
+        this.commandLatencyPublishIntervalTimeUnit = commandLatencyPublishIntervalTimeUnit;
+        return this;
+    }
+
+    public long getCommandLatencyPublishIntervalMillis() {
+        return commandLatencyPublishIntervalTimeUnit.toMillis(commandLatencyPublishInterval);
+    }
+
     public JsonObject toJson() {
         JsonObject json = new JsonObject();
         DistributedCacheOptionsConverter.toJson(this, json);
@@ -0,0 +1,228 @@
+package io.vertx.cache.distributed.impl;
+
+import io.netty.channel.EventLoop;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxException;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Redis client coalescing the commands it is sent into pipelined batches. Each event loop has a batch of its own, only ever touched by the thread of the event loop, so queuing a
+ * command neither locks nor contends with the other event loops; commands sent from another thread are handed over to the event loop of their context. Commands are queued
+ * until the end of the event loop turn of the first queued command, or until the maximum delay has elapsed when one is set, and are then written at once. A batch reaching the
+ * maximum size is written right away.
+ *
+ * The queued commands come from unrelated callers, so they are not sent through a plain {@link Redis#batch(List)}, which fails every command when one of them gets an error
+ * reply. The batch is wrapped in {@code MULTI} and {@code EXEC} instead: the commands are still encoded into a single write, and {@code EXEC} replies with the reply to each
+ * command, errors included. When Redis refuses to queue a command, it discards the whole transaction without running any of its commands, which are then safely pipelined one
+ * by one on a single connection. Redis Cluster does not allow transactions, so the commands sent to a cluster are always pipelined one by one.
+ *
+ * Each caller is completed on its own context with the reply to its own command. Connections and explicit batches are passed through to the underlying client.
+ */
+public class AutoBatchingRedis implements Redis {
+
+    private final VertxInternal vertx;
+    private final Redis delegate;
+    private final int maxBatchSize;
+    private final long maxDelayMillis;
+    private final boolean transactions;
+    private final ConcurrentMap<EventLoop, Batch> batches = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a batching client.
+     *
+     * @param vertx The Vert.x instance
+     * @param delegate The underlying client
+     * @param maxBatchSize The maximum number of commands in a batch
+     * @param maxDelayMillis The maximum time a command waits for its batch, or 0 to wait for the end of the event loop turn
+     * @param transactions Whether the server supports transactions, false for Redis Cluster
+     */
+    public AutoBatchingRedis(Vertx vertx, Redis delegate, int maxBatchSize, long maxDelayMillis, boolean transactions) {
+        this.vertx = (VertxInternal) vertx;
+        this.delegate = delegate;
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.maxDelayMillis = maxDelayMillis;
+        this.transactions = transactions;
+    }
+
+    @Override
+    public Future<RedisConnection> connect() {
+        return delegate.connect();
+    }
+
+    @Override
+    public Future<Void> close() {
+        List<Future<Void>> flushes = new ArrayList<>(batches.size());
+        for (Batch batch : batches.values()) {
+            Promise<Void> flushed = Promise.promise();
+            batch.context.runOnContext(v -> {
+                batch.flush();
+                flushed.complete();
+            });
+            flushes.add(flushed.future());
+        }
+        return Future.join(flushes).transform(ar -> delegate.close());
+    }
+
+    @Override
+    public Future<Response> send(Request command) {
+        ContextInternal context = vertx.getOrCreateContext();
+        Promise<Response> promise = context.promise();
+        PendingCommand pending = new PendingCommand(command, promise);
+
+        Batch batch = batch(context.nettyEventLoop());
+        if (batch.eventLoop.inEventLoop()) {
+            batch.add(pending);
+        } else {
+            batch.context.runOnContext(v -> batch.add(pending));
+        }
+        return promise.future();
+    }
+
+    @Override
+    public Future<List<Response>> batch(List<Request> commands) {
+        return delegate.batch(commands);
+    }
+
+    private Batch batch(EventLoop eventLoop) {
+        Batch batch = batches.get(eventLoop);
+        return batch != null ? batch : batches.computeIfAbsent(eventLoop, Batch::new);
+    }
+
+    private void write(List<PendingCommand> commands) {
+        // A lone command gains nothing from a batch, and its failure must not be reported as a batch failure
+        if (commands.size() == 1) {
+            PendingCommand command = commands.get(0);
+            delegate.send(command.request).onComplete(command.promise);
+            return;
+        }
+
+        if (!transactions) {
+            pipeline(commands);
+            return;
+        }
+
+        List<Request> requests = new ArrayList<>(commands.size() + 2);
+        requests.add(Request.cmd(Command.MULTI));
+        for (PendingCommand command : commands) {
+            requests.add(command.request);
+        }
+        requests.add(Request.cmd(Command.EXEC));
+
+        delegate.batch(requests).onComplete(ar -> {
+            if (ar.failed()) {
+                // An error reply means that Redis discarded the transaction before running any of its commands
+                if (isErrorReply(ar.cause())) {
+                    pipeline(commands);
+                } else {
+                    fail(commands, ar.cause());
+                }
+                return;
+            }
+
+            Response replies = ar.result().get(requests.size() - 1);
+            if (replies == null) {
+                pipeline(commands);
+                return;
+            }
+            for (int i = 0; i < commands.size(); i++) {
+                complete(commands.get(i).promise, replies.get(i));
+            }
+        });
+    }
+
+    /**
+     * Writes the commands one by one on a single connection, without waiting for each other's replies.
+     */
+    private void pipeline(List<PendingCommand> commands) {
+        delegate.connect().onComplete(ar -> {
+            if (ar.failed()) {
+                fail(commands, ar.cause());
+                return;
+            }
+
+            // The connection matches the replies to the commands in order
+            RedisConnection connection = ar.result();
+            List<Future<Response>> replies = new ArrayList<>(commands.size());
+            for (PendingCommand command : commands) {
+                replies.add(connection.send(command.request).onComplete(command.promise));
+            }
+            Future.join(replies).onComplete(v -> connection.close());
+        });
+    }
+
+    private static void complete(Promise<Response> promise, Response reply) {
+        if (reply != null && reply.type() == ResponseType.ERROR) {
+            promise.fail(reply instanceof Throwable error ? error : new VertxException(reply.toString(), true));
+        } else {
+            promise.complete(reply);
+        }
+    }
+
+    private static void fail(List<PendingCommand> commands, Throwable cause) {
+        for (PendingCommand command : commands) {
+            command.promise.fail(cause);
+        }
+    }
+
+    private static boolean isErrorReply(Throwable error) {
+        return error instanceof Response reply && reply.type() == ResponseType.ERROR;
+    }
+
+    /**
+     * Commands queued on an event loop. The batch is confined to the thread of the event loop, which is what makes it safe without a lock.
+     */
+    private final class Batch {
+
+        private final EventLoop eventLoop;
+        private final ContextInternal context;
+        private List<PendingCommand> pending = new ArrayList<>();
+        private boolean scheduled;
+
+        Batch(EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+            this.context = vertx.contextBuilder().withEventLoop(eventLoop).build();
+        }
+
+        void add(PendingCommand command) {
+            pending.add(command);
+            if (pending.size() >= maxBatchSize) {
+                flush();
+            } else if (!scheduled) {
+                scheduled = true;
+                if (maxDelayMillis > 0) {
+                    context.setTimer(maxDelayMillis, id -> flush());
+                } else {
+                    context.runOnContext(v -> flush());
+                }
+            }
+        }
+
+        void flush() {
+            scheduled = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            List<PendingCommand> commands = pending;
+            pending = new ArrayList<>();
+            write(commands);
+        }
+    }
+
+    private record PendingCommand(Request request, Promise<Response> promise) {
+    }
+}
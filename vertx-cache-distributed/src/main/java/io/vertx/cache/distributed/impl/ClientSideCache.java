@@ -0,0 +1,133 @@
+package io.vertx.cache.distributed.impl;
+
+import io.vertx.redis.client.Response;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded map of the replies to the reads tracked by Redis, dropping the least recently used replies beyond its maximum size.
+ *
+ * Hits take no lock: the replies are held in a concurrent map, and a hit only stamps the time of its access on the entry. Writes, invalidations and evictions are serialized by
+ * the lock of the cache. The eviction is an approximate LRU: once the cache grows beyond its maximum size, the entries accessed least recently are dropped in a single pass,
+ * down to a sixteenth below the maximum size, so that the pass is shared by the writes that follow.
+ *
+ * An invalidation may overtake the reply of the read it concerns, since they travel on different connections. Each read therefore holds a token for its key, which invalidations
+ * revoke: the reply is only kept if its token is still valid when it arrives.
+ */
+public class ClientSideCache {
+
+    private final int maximumSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Object> loads = new HashMap<>();
+
+    public ClientSideCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Gets the reply held for a key.
+     *
+     * @param key The prefixed key
+     * @return The reply, or null if none is held
+     */
+    public Response get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.accessTime = System.nanoTime();
+        return entry.reply;
+    }
+
+    /**
+     * Starts a read of a key.
+     *
+     * @param key The prefixed key
+     * @return The token of the read, to pass to {@link #complete(String, Object, Response)}
+     */
+    public synchronized Object begin(String key) {
+        Object token = new Object();
+        loads.put(key, token);
+        return token;
+    }
+
+    /**
+     * Completes a read of a key, keeping its reply if the key has not been invalidated since the read began.
+     *
+     * @param key The prefixed key
+     * @param token The token returned by {@link #begin(String)}
+     * @param reply The reply, or null if the read failed or the key does not exist
+     */
+    public synchronized void complete(String key, Object token, Response reply) {
+        if (loads.get(key) != token) {
+            return;
+        }
+        loads.remove(key);
+        if (reply != null) {
+            entries.put(key, new Entry(reply, System.nanoTime()));
+            if (entries.size() > maximumSize) {
+                evict();
+            }
+        }
+    }
+
+    /**
+     * Drops the entries accessed least recently, down to a sixteenth below the maximum size.
+     */
+    private void evict() {
+        int retained = maximumSize - maximumSize / 16;
+        long[] accessTimes = new long[entries.size()];
+        int count = 0;
+        for (Entry entry : entries.values()) {
+            if (count == accessTimes.length) {
+                break;
+            }
+            accessTimes[count++] = entry.accessTime;
+        }
+        if (count <= retained) {
+            return;
+        }
+
+        // The entries accessed at or before the cutoff are dropped, which may drop a few more entries than needed when access times are equal
+        Arrays.sort(accessTimes, 0, count);
+        long cutoff = accessTimes[count - retained - 1];
+        entries.values().removeIf(entry -> entry.accessTime <= cutoff);
+    }
+
+    /**
+     * Drops the reply held for a key and revokes the pending read of the key, if any.
+     *
+     * @param key The prefixed key
+     */
+    public synchronized void invalidate(String key) {
+        loads.remove(key);
+        entries.remove(key);
+    }
+
+    /**
+     * Drops every reply and revokes every pending read.
+     */
+    public synchronized void invalidateAll() {
+        loads.clear();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+
+        private final Response reply;
+        // Written by hits without synchronization, a lost or stale access time only makes the eviction less accurate
+        private long accessTime;
+
+        Entry(Response reply, long accessTime) {
+            this.reply = reply;
+            this.accessTime = accessTime;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package io.vertx.cache.distributed.impl;
 
+import io.vertx.cache.common.CacheStats;
 import io.vertx.cache.common.event.CacheEvent;
 import io.vertx.cache.common.event.CacheEventManager;
+import io.vertx.cache.common.impl.stats.StatsCounter;
 import io.vertx.cache.common.operation.KeyOperation;
 import io.vertx.cache.common.operation.ValueOperation;
 import io.vertx.cache.common.operation.binary.BinaryOperation;
@@ -10,8 +12,13 @@ import io.vertx.cache.common.operation.json.JsonObjectSerializer;
 import io.vertx.cache.common.operation.json.JsonOperation;
 import io.vertx.cache.common.operation.number.NumberOperation;
 import io.vertx.cache.common.operation.text.StringOperation;
+import io.vertx.cache.common.serialization.CacheCompression;
 import io.vertx.cache.common.serialization.CacheDeserializer;
 import io.vertx.cache.common.serialization.CacheSerializer;
+import io.vertx.cache.common.serialization.SerializerRegistry;
+import io.vertx.cache.common.time.CoarseTicker;
+import io.vertx.cache.common.time.Ticker;
+import io.vertx.cache.distributed.CommandLatency;
 import io.vertx.cache.distributed.DistributedCache;
 import io.vertx.cache.distributed.DistributedCacheOptions;
 import io.vertx.cache.distributed.impl.event.DistributedCacheEventManager;
@@ -26,23 +33,42 @@ import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.redis.client.Command;
 import io.vertx.redis.client.Redis;
 import io.vertx.redis.client.RedisAPI;
+import io.vertx.redis.client.RedisClientType;
+import io.vertx.redis.client.Request;
 import io.vertx.redis.client.Response;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 /**
  * Implementation of the Vert.x Cache interface using Redis. This implementation provides a distributed cache with Redis as the backend.
+ *
+ * When {@link DistributedCacheOptions#isAutoBatching()} is set, the commands sent through {@link #getRedis()} go through an {@link AutoBatchingRedis}, which coalesces the
+ * commands issued on an event loop within a turn into a single pipelined write. When {@link DistributedCacheOptions#isClientTracking()} is set, they also go through a
+ * {@link TrackingRedis}, which serves repeated reads from the values held on the client side. When {@link DistributedCacheOptions#isCommandLatency()} is set, they finally go
+ * through a {@link LatencyRecordingRedis}, so the recorded latencies are those the callers see.
+ *
+ * Evictions and expirations happen on the server, so they are only counted as the keyevent notifications of the cache's keys arrive, which requires the server to publish them.
+ * The size of the cache is not known, since the server only counts the keys of a whole database.
  */
 public class DistributedCacheImpl implements DistributedCache {
 
+    private static final Set<String> COMPANION_KINDS = Set.of("absent", "delta", "lease", "written");
+
     private final Vertx vertx;
     private final Redis redisClient;
+    private final Redis commands;
     private final RedisAPI redis;
+    private final TrackingRedis trackingRedis;
+    private final LatencyRecordingRedis latencyRedis;
     private final CacheEventManager eventManager;
     private final ConcurrentMap<Class<?>, DistributedValueOperation<?>> valueOperations;
     private final DistributedKeyOperation keyOperation;
@@ -53,7 +79,18 @@ public class DistributedCacheImpl implements DistributedCache {
     private final DistributedBinaryOperation binaryOperation;
 
     private final long defaultTtl;
+    private final long refreshAfterWrite;
+    private final double earlyExpirationBeta;
+    private final LoadLease loadLease;
+    private final long negativeTtl;
     private final String keyPrefix;
+    private final CacheCompression compression;
+    private final int compressionThreshold;
+    private final SerializerRegistry serializerRegistry;
+    private final StatsCounter stats = new StatsCounter();
+    private final Ticker ticker;
+    private final boolean ownsTicker;
+    private Long latencyTimerId;
 
     public DistributedCacheImpl(Vertx vertx) {
         this(vertx, new DistributedCacheOptions());
@@ -66,9 +103,30 @@ public class DistributedCacheImpl implements DistributedCache {
     public DistributedCacheImpl(Vertx vertx, Redis redisClient, DistributedCacheOptions options) {
         this.vertx = vertx;
         this.redisClient = redisClient;
-        this.redis = RedisAPI.api(redisClient);
+        Redis batching = options.isAutoBatching()
+                ? new AutoBatchingRedis(vertx, redisClient, options.getAutoBatchMaxSize(), options.getAutoBatchMaxDelayMillis(),
+                        options.getRedisOptions() == null || options.getRedisOptions().getType() != RedisClientType.CLUSTER)
+                : redisClient;
+        this.trackingRedis = options.isClientTracking()
+                ? new TrackingRedis(vertx, redisClient, batching, options.getClientTrackingMode(), options.getKeyPrefix(), options.getClientTrackingMaximumSize())
+                : null;
+        Redis tracking = trackingRedis != null ? trackingRedis : batching;
+        this.latencyRedis = options.isCommandLatency() ? new LatencyRecordingRedis(tracking) : null;
+        this.commands = latencyRedis != null ? latencyRedis : tracking;
+        this.redis = RedisAPI.api(commands);
         this.defaultTtl = options.getDefaultTtlMillis();
+        this.refreshAfterWrite = options.getRefreshAfterWriteMillis();
+        this.earlyExpirationBeta = options.getEarlyExpirationBeta();
+        this.negativeTtl = options.getNegativeTtlMillis();
+        this.loadLease = options.isLoadLease()
+                ? new LoadLease(vertx, this, options.getLoadLeaseTimeMillis(), options.getLoadLeasePollIntervalMillis())
+                : null;
         this.keyPrefix = options.getKeyPrefix();
+        this.compression = options.getCompression();
+        this.compressionThreshold = options.getCompressionThreshold();
+        this.serializerRegistry = options.getSerializerRegistry() != null ? options.getSerializerRegistry() : SerializerRegistry.create();
+        this.ticker = Ticker.create(vertx, options);
+        this.ownsTicker = options.getTicker() == null;
         this.eventManager = new DistributedCacheEventManager(this);
 
         this.keyOperation = new DistributedKeyOperation(this);
@@ -82,6 +140,11 @@ public class DistributedCacheImpl implements DistributedCache {
                 JsonObject.class, new DistributedValueOperation<>(this, JsonObject.class, new JsonObjectSerializer(), new JsonObjectSerializer()),
                 JsonArray.class, new DistributedValueOperation<>(this, JsonArray.class, new JsonArraySerializer(), new JsonArraySerializer()))
         );
+
+        String latencyAddress = options.getCommandLatencyAddress();
+        if (latencyRedis != null && latencyAddress != null) {
+            this.latencyTimerId = vertx.setPeriodic(options.getCommandLatencyPublishIntervalMillis(), id -> publishCommandLatencies(latencyAddress));
+        }
     }
 
     @Override
@@ -103,6 +166,74 @@ public class DistributedCacheImpl implements DistributedCache {
         return redis;
     }
 
+    /**
+     * Sends a command through the same path as the commands of {@link #getRedis()}. Unlike the Redis API, whose arguments are strings, requests can carry binary arguments.
+     *
+     * @param request The command
+     * @return The reply
+     */
+    public Future<Response> send(Request request) {
+        return commands.send(request);
+    }
+
+    /**
+     * Creates a command on a key, the key being its first argument. The key is recorded with the command, so that client-side caching knows which local reply the command reads
+     * or invalidates.
+     *
+     * @param command The command
+     * @param prefixedKey The prefixed key
+     * @return The request, to which the other arguments can be added
+     */
+    public Request cmd(Command command, String prefixedKey) {
+        return keyed(Request.cmd(command).arg(prefixedKey), List.of(prefixedKey));
+    }
+
+    /**
+     * Creates a command on keys, the keys being its only arguments, such as {@code MGET} or {@code DEL}.
+     *
+     * @param command The command
+     * @param prefixedKeys The prefixed keys
+     * @return The request
+     */
+    public Request cmd(Command command, List<String> prefixedKeys) {
+        Request request = Request.cmd(command);
+        for (String key : prefixedKeys) {
+            request.arg(key);
+        }
+        return keyed(request, prefixedKeys);
+    }
+
+    /**
+     * Records the keys of a command whose arguments are not only keys, such as {@code MSET} or {@code EVAL}. Commands sent without their keys are assumed to read nothing
+     * held locally, and to invalidate every local reply unless they are read-only.
+     *
+     * @param request The request
+     * @param prefixedKeys The prefixed keys touched by the request
+     * @return The request to send
+     */
+    public Request keyed(Request request, List<String> prefixedKeys) {
+        return trackingRedis != null ? new KeyedRequest(request, prefixedKeys) : request;
+    }
+
+    /**
+     * Sends commands in a single pipelined write, through the same path as the commands of {@link #getRedis()}.
+     *
+     * @param requests The commands
+     * @return The replies, in the order of the commands
+     */
+    public Future<List<Response>> batch(List<Request> requests) {
+        return commands.batch(requests);
+    }
+
+    /**
+     * Gets the ticker used by this cache to read the current time.
+     *
+     * @return The ticker
+     */
+    public Ticker getTicker() {
+        return ticker;
+    }
+
     /**
      * Gets the key prefix used by this cache.
      *
@@ -112,6 +243,69 @@ public class DistributedCacheImpl implements DistributedCache {
         return keyPrefix;
     }
 
+    /**
+     * Gets the time after which the values loaded by {@code getOrLoad} are refreshed.
+     *
+     * @return The time in milliseconds, or 0 if values are not refreshed
+     */
+    public long getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
+    /**
+     * Gets the weight of the load time in the probabilistic early expiration of the values loaded by {@code getOrLoad}.
+     *
+     * @return The weight, or 0 if values do not expire early
+     */
+    public double getEarlyExpirationBeta() {
+        return earlyExpirationBeta;
+    }
+
+    /**
+     * Gets the time-to-live of the tombstones stored for the keys a loader found nothing for.
+     *
+     * @return The time-to-live in milliseconds, or 0 if no tombstone is stored
+     */
+    public long getNegativeTtl() {
+        return negativeTtl;
+    }
+
+    /**
+     * Gets the leases coordinating the loads of the nodes sharing the cache.
+     *
+     * @return The load leases, or null if every node loads the values it misses
+     */
+    public LoadLease getLoadLease() {
+        return loadLease;
+    }
+
+    /**
+     * Gets the codec compressing the values of the operations that allow it.
+     *
+     * @return The compression codec
+     */
+    public CacheCompression getCompression() {
+        return compression;
+    }
+
+    /**
+     * Gets the size in bytes from which serialized values are compressed.
+     *
+     * @return The size in bytes
+     */
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * Gets the registry serializing the values of types without a serializer of their own.
+     *
+     * @return The serializer registry
+     */
+    public SerializerRegistry getSerializerRegistry() {
+        return serializerRegistry;
+    }
+
     /**
      * Prefixes a key with the cache's key prefix.
      *
@@ -122,6 +316,38 @@ public class DistributedCacheImpl implements DistributedCache {
         return keyPrefix + key;
     }
 
+    /**
+     * Gets a key holding data about a key, such as the lease of its load. Companion keys are kept outside of the key prefix, so that they are not seen as entries of the cache,
+     * and share the hash slot of their key in a Redis cluster. Key scans skip them even when the cache has no key prefix, and clearing the cache deletes them.
+     *
+     * @param prefixedKey The prefixed key
+     * @param kind The kind of data
+     * @return The companion key
+     */
+    public static String companionKey(String prefixedKey, String kind) {
+        return "{" + prefixedKey + "}:" + kind;
+    }
+
+    /**
+     * Checks whether a key is a companion key, which a scan may come across when the cache has no key prefix.
+     *
+     * @param key The key as stored in Redis
+     * @return true if the key holds data about another key rather than an entry of the cache
+     */
+    public static boolean isCompanionKey(String key) {
+        int end = key.lastIndexOf("}:");
+        return key.startsWith("{") && end > 0 && COMPANION_KINDS.contains(key.substring(end + 2));
+    }
+
+    /**
+     * Gets the pattern matching the companion keys of the entries of the cache.
+     *
+     * @return The glob pattern
+     */
+    public String companionPattern() {
+        return "{" + keyPrefix + "*}:*";
+    }
+
     @Override
     public Future<String> put(String key, String value) {
         return put(key, value, defaultTtl);
@@ -129,23 +355,19 @@ public class DistributedCacheImpl implements DistributedCache {
 
     @Override
     public Future<String> put(String key, String value, long ttlMillis) {
-        String prefixedKey = prefixKey(key);
-
-        // Get the previous value before setting the new one
-        return get(key).compose(previousValue -> {
-            // Set the value in Redis
-            if (ttlMillis > 0) {
-                return redis.psetex(prefixedKey, String.valueOf(ttlMillis), value)
-                        .compose(response -> Future.succeededFuture(previousValue == null ? null : previousValue.toString()));
-            } else {
-                return redis.set(List.of(prefixedKey, value)).compose(response -> Future.succeededFuture(previousValue == null ? null : previousValue.toString()));
-            }
-        });
+        Request request = cmd(Command.SET, prefixKey(key)).arg(value);
+        if (ttlMillis > 0) {
+            request.arg("PX").arg(ttlMillis);
+        }
+        // GET returns the previous value from the same atomic command, sparing a round trip and the race with concurrent writers
+        request.arg("GET");
+
+        return send(request).map(previousValue -> previousValue == null ? null : previousValue.toString());
     }
 
     @Override
     public Future<Response> get(String key) {
-        return redis.get(prefixKey(key));
+        return send(cmd(Command.GET, prefixKey(key)));
     }
 
     @Override
@@ -190,17 +412,58 @@ public class DistributedCacheImpl implements DistributedCache {
                 c -> new DistributedValueOperation<>(this, clazz, serializer, deserializer));
     }
 
+    /**
+     * Gets the counter recording the evictions and expirations of the cache's keys.
+     *
+     * @return The stats counter
+     */
+    public StatsCounter statsCounter() {
+        return stats;
+    }
+
     @Override
-    public Future<Void> clear() {
-        return keyOperation.keys().compose(keys -> {
-            vertx.eventBus().publish(eventManager.getEventAddress(), new CacheEvent(CacheEvent.EventType.CACHE_CLEARED, null).toJson());
+    public CacheStats stats() {
+        Map<String, StatsCounter> families = new LinkedHashMap<>();
+        families.put(CacheStats.STRINGS, stringOperation.statsCounter());
+        families.put(CacheStats.INTEGERS, longOperation.statsCounter());
+        families.put(CacheStats.FLOATS, doubleOperation.statsCounter());
+        families.put(CacheStats.JSON, jsonOperation.statsCounter());
+        families.put(CacheStats.BINARY, binaryOperation.statsCounter());
+        StatsCounter values = new StatsCounter();
+        valueOperations.values().forEach(operation -> values.incrementBy(operation.statsCounter()));
+        families.put(CacheStats.VALUE, values);
+        return StatsCounter.snapshot(families, stats);
+    }
+
+    @Override
+    public List<CommandLatency> commandLatencies(boolean reset) {
+        return latencyRedis != null ? latencyRedis.snapshot(reset) : new ArrayList<>();
+    }
 
-            if (!keys.isEmpty()) {
-                return redis.del(keys.stream().map(this::prefixKey).toList()).compose(delResponse -> Future.succeededFuture());
-            }
+    /**
+     * Publishes the latencies recorded since the previous publication, keyed by command name. Nothing is published when no command was sent.
+     */
+    private void publishCommandLatencies(String address) {
+        List<CommandLatency> latencies = latencyRedis.snapshot(true);
+        if (latencies.isEmpty()) {
+            return;
+        }
+
+        JsonObject json = new JsonObject();
+        for (CommandLatency latency : latencies) {
+            json.put(latency.getCommand(), latency.toJson());
+        }
+        vertx.eventBus().publish(address, json);
+    }
 
-            return Future.succeededFuture();
-        });
+    @Override
+    public Future<Void> clear() {
+        // Delete the keys batch by batch as they are scanned, rather than listing them all with KEYS first
+        // The companion keys are outside of the key prefix, and would otherwise outlive the entries they are about
+        return keyOperation.scan("*", KeyOperation.DEFAULT_SCAN_COUNT, keys -> redis.del(keys.stream().map(this::prefixKey).toList()))
+                .compose(v -> keyOperation.scanCompanions(KeyOperation.DEFAULT_SCAN_COUNT, redis::del))
+                .onSuccess(v -> vertx.eventBus().publish(eventManager.getEventAddress(),
+                        new CacheEvent(CacheEvent.EventType.CACHE_CLEARED, null, ticker.millis()).toJson()));
     }
 
     @Override
@@ -210,6 +473,17 @@ public class DistributedCacheImpl implements DistributedCache {
 
     @Override
     public Future<Void> close() {
+        if (latencyTimerId != null) {
+            vertx.cancelTimer(latencyTimerId);
+            latencyTimerId = null;
+        }
+        // A ticker set on the options belongs to the caller
+        if (ownsTicker && ticker instanceof CoarseTicker coarseTicker) {
+            coarseTicker.close();
+        }
+        if (trackingRedis != null) {
+            return trackingRedis.close().compose(v -> redisClient.close());
+        }
         return redisClient.close();
     }
 }
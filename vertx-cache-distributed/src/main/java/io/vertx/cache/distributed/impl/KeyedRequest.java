@@ -0,0 +1,78 @@
+package io.vertx.cache.distributed.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+
+import java.util.List;
+
+/**
+ * Request carrying the keys it touches, recorded where the request is built, so that {@link TrackingRedis} knows which local replies it reads or invalidates without looking
+ * into the arguments of the request. Only {@link TrackingRedis} is sent keyed requests, and it hands the underlying request over to the clients below it.
+ */
+final class KeyedRequest implements Request {
+
+    private final Request request;
+    private final List<String> keys;
+
+    /**
+     * @param request The request
+     * @param keys The keys touched by the request, as stored in Redis
+     */
+    KeyedRequest(Request request, List<String> keys) {
+        this.request = request;
+        this.keys = keys;
+    }
+
+    /**
+     * Gets the request sent to Redis.
+     *
+     * @return The request
+     */
+    Request request() {
+        return request;
+    }
+
+    /**
+     * Gets the keys touched by the request.
+     *
+     * @return The keys, as stored in Redis
+     */
+    List<String> keys() {
+        return keys;
+    }
+
+    @Override
+    public Request arg(byte[] arg) {
+        request.arg(arg);
+        return this;
+    }
+
+    @Override
+    public Request arg(Buffer arg) {
+        request.arg(arg);
+        return this;
+    }
+
+    @Override
+    public Request arg(long arg) {
+        request.arg(arg);
+        return this;
+    }
+
+    @Override
+    public Request arg(boolean arg) {
+        request.arg(arg);
+        return this;
+    }
+
+    @Override
+    public Command command() {
+        return request.command();
+    }
+
+    @Override
+    public String toString() {
+        return request.toString();
+    }
+}
@@ -0,0 +1,120 @@
+package io.vertx.cache.distributed.impl;
+
+import io.vertx.cache.distributed.CommandLatency;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies, in nanoseconds. Values are counted in log-linear buckets: each power of two is split into 16 buckets of equal width, so a bucket spans at most
+ * 1/16th of the values it holds and the percentiles are within about 6% of the recorded values, whatever their magnitude. Values below 16 have a bucket each.
+ *
+ * Recording only increments counters, it neither locks nor allocates. A snapshot reads each bucket once and may reset it at the same time, so every recorded value is part of
+ * exactly one snapshot; the sum and the maximum are read separately and may include values recorded while the snapshot is taken.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos The latency in nanoseconds, negative values count as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets.incrementAndGet(bucket(value));
+        sum.add(value);
+
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Takes a snapshot of the recorded latencies.
+     *
+     * @param command The name of the command the latencies belong to
+     * @param reset true to start counting again from zero
+     * @return The snapshot
+     */
+    public CommandLatency snapshot(String command, boolean reset) {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = reset ? buckets.getAndSet(i, 0) : buckets.get(i);
+            count += counts[i];
+        }
+        long total = reset ? sum.sumThenReset() : sum.sum();
+        long highest = reset ? max.getAndSet(0) : max.get();
+
+        CommandLatency latency = new CommandLatency();
+        latency.setCommand(command);
+        latency.setCount(count);
+        latency.setMean(count == 0 ? 0 : total / count);
+        latency.setMax(highest);
+        latency.setP50(percentile(counts, count, 0.5, highest));
+        latency.setP90(percentile(counts, count, 0.9, highest));
+        latency.setP99(percentile(counts, count, 0.99, highest));
+        latency.setP999(percentile(counts, count, 0.999, highest));
+        return latency;
+    }
+
+    /**
+     * Gets the value below which a fraction of the latencies fall, as the highest value of the bucket holding it.
+     */
+    private static long percentile(long[] counts, long count, double fraction, long highest) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max((long) Math.ceil(fraction * count), 1);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValue(i), highest);
+            }
+        }
+        return highest;
+    }
+
+    /**
+     * Gets the bucket of a value: the power of two below the value selects a group of buckets, and the bits that follow its leading one select the bucket within the group.
+     */
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the lowest value of a bucket.
+     */
+    static long lowestValue(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    /**
+     * Gets the highest value of a bucket.
+     */
+    static long highestValue(int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : lowestValue(bucket + 1) - 1;
+    }
+}
@@ -0,0 +1,85 @@
+package io.vertx.cache.distributed.impl;
+
+import io.vertx.cache.distributed.CommandLatency;
+import io.vertx.core.Future;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Redis client recording the latency of the commands it is sent, in a {@link LatencyHistogram} per command. The histogram of a command is looked up when the command is sent, so
+ * handling the reply only records the elapsed time. The commands of a batch each record the latency of the whole batch, which is what their callers waited for.
+ *
+ * Connections are passed through to the underlying client without recording.
+ */
+public class LatencyRecordingRedis implements Redis {
+
+    private final Redis delegate;
+    private final ConcurrentMap<Command, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public LatencyRecordingRedis(Redis delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Future<RedisConnection> connect() {
+        return delegate.connect();
+    }
+
+    @Override
+    public Future<Void> close() {
+        return delegate.close();
+    }
+
+    @Override
+    public Future<Response> send(Request command) {
+        LatencyHistogram histogram = histogram(command.command());
+        long start = System.nanoTime();
+        return delegate.send(command).onComplete(ar -> histogram.record(System.nanoTime() - start));
+    }
+
+    @Override
+    public Future<List<Response>> batch(List<Request> commands) {
+        LatencyHistogram[] batchHistograms = new LatencyHistogram[commands.size()];
+        for (int i = 0; i < batchHistograms.length; i++) {
+            batchHistograms[i] = histogram(commands.get(i).command());
+        }
+
+        long start = System.nanoTime();
+        return delegate.batch(commands).onComplete(ar -> {
+            long elapsed = System.nanoTime() - start;
+            for (LatencyHistogram histogram : batchHistograms) {
+                histogram.record(elapsed);
+            }
+        });
+    }
+
+    private LatencyHistogram histogram(Command command) {
+        LatencyHistogram histogram = histograms.get(command);
+        return histogram != null ? histogram : histograms.computeIfAbsent(command, c -> new LatencyHistogram());
+    }
+
+    /**
+     * Takes a snapshot of the latencies of each command sent so far.
+     *
+     * @param reset true to start counting again from zero
+     * @return The latencies of the commands that were sent, excluding those without any reply since the last reset
+     */
+    public List<CommandLatency> snapshot(boolean reset) {
+        List<CommandLatency> latencies = new ArrayList<>(histograms.size());
+        histograms.forEach((command, histogram) -> {
+            CommandLatency latency = histogram.snapshot(command.toString(), reset);
+            if (latency.getCount() > 0) {
+                latencies.add(latency);
+            }
+        });
+        return latencies;
+    }
+}
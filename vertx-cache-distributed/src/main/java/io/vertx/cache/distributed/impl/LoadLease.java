@@ -0,0 +1,112 @@
+package io.vertx.cache.distributed.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Leases granting a single node the right to load the value of a key. A lease is a companion key set with {@code SET NX PX}, so that it is released by its holder once the value
+ * is written, or expires if the holder fails to release it. The other nodes poll the key until the value is written or the lease is gone.
+ */
+public class LoadLease {
+
+    /**
+     * Deletes the lease only if it is still held with the given token, so that a holder whose lease expired does not release the lease of the next holder.
+     */
+    private static final String RELEASE_SCRIPT = "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end";
+
+    private final Vertx vertx;
+    private final DistributedCacheImpl cache;
+    private final long leaseTimeMillis;
+    private final long pollIntervalMillis;
+
+    public LoadLease(Vertx vertx, DistributedCacheImpl cache, long leaseTimeMillis, long pollIntervalMillis) {
+        this.vertx = vertx;
+        this.cache = cache;
+        this.leaseTimeMillis = leaseTimeMillis;
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    private static String leaseKey(String prefixedKey) {
+        return DistributedCacheImpl.companionKey(prefixedKey, "lease");
+    }
+
+    /**
+     * Tries to acquire the lease of a key.
+     *
+     * @param prefixedKey The prefixed key
+     * @return The token of the lease if it was acquired, or null if another node holds it
+     */
+    public Future<String> acquire(String prefixedKey) {
+        String token = UUID.randomUUID().toString();
+        return cache.send(cache.cmd(Command.SET, leaseKey(prefixedKey)).arg(token).arg("NX").arg("PX").arg(leaseTimeMillis))
+                .map(response -> response != null ? token : null);
+    }
+
+    /**
+     * Releases the lease of a key, if it is still held with the given token.
+     *
+     * @param prefixedKey The prefixed key
+     * @param token The token returned when the lease was acquired
+     * @return A future completed once the lease is released
+     */
+    public Future<Void> release(String prefixedKey, String token) {
+        String leaseKey = leaseKey(prefixedKey);
+        return cache.send(cache.keyed(Request.cmd(Command.EVAL).arg(RELEASE_SCRIPT).arg(1).arg(leaseKey).arg(token), List.of(leaseKey))).mapEmpty();
+    }
+
+    /**
+     * Waits for the holder of the lease of a key to write its value, or the tombstone of the key.
+     *
+     * @param prefixedKey The prefixed key
+     * @param absentKey The key of the tombstone of the key, or null if no tombstone is stored
+     * @return A future completed once the value or the tombstone is written, or with null if the lease is gone without either being written
+     */
+    public Future<Written> await(String prefixedKey, String absentKey) {
+        List<Request> requests = new ArrayList<>(3);
+        requests.add(cache.cmd(Command.GET, prefixedKey));
+        requests.add(cache.cmd(Command.EXISTS, leaseKey(prefixedKey)));
+        if (absentKey != null) {
+            requests.add(cache.cmd(Command.EXISTS, absentKey));
+        }
+
+        Promise<Written> promise = Promise.promise();
+        poll(requests, promise);
+        return promise.future();
+    }
+
+    private void poll(List<Request> requests, Promise<Written> promise) {
+        vertx.setTimer(pollIntervalMillis, id -> cache.batch(requests).onComplete(ar -> {
+            if (ar.failed()) {
+                promise.fail(ar.cause());
+                return;
+            }
+
+            List<Response> responses = ar.result();
+            if (responses.get(0) != null) {
+                promise.complete(new Written(responses.get(0)));
+            } else if (responses.size() > 2 && responses.get(2).toInteger() == 1) {
+                promise.complete(new Written(null));
+            } else if (responses.get(1).toInteger() == 0) {
+                promise.complete(null);
+            } else {
+                poll(requests, promise);
+            }
+        }));
+    }
+
+    /**
+     * What the holder of a lease wrote.
+     *
+     * @param value The value, or null if the holder wrote the tombstone of the key
+     */
+    public record Written(Response value) {
+    }
+}
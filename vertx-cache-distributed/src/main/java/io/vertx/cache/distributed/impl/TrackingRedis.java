@@ -0,0 +1,269 @@
+package io.vertx.cache.distributed.impl;
+
+import io.vertx.cache.distributed.ClientTrackingMode;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis client serving {@code GET} commands from a {@link ClientSideCache}, kept consistent through the server-assisted client-side caching of Redis.
+ *
+ * Reads missing the local cache are sent on a dedicated connection, on which {@code CLIENT TRACKING} is enabled. The invalidations are redirected to a second connection
+ * subscribed to {@code __redis__:invalidate}, so that no push message is ever interleaved with the replies of the read connection. Writes are sent through the underlying client,
+ * and drop the local replies of their keys once they complete, so that the cache reads its own writes.
+ *
+ * The keys of a command are the ones recorded where it was built, see {@link KeyedRequest}. A command sent without its keys is never served locally, and drops every local reply
+ * unless it is known not to modify any key.
+ *
+ * Until both connections are set up, and whenever one of them is lost, every command goes through the underlying client and nothing is kept locally.
+ */
+public class TrackingRedis implements Redis {
+
+    private static final Logger log = LoggerFactory.getLogger(TrackingRedis.class);
+
+    private static final String INVALIDATE_CHANNEL = "__redis__:invalidate";
+    private static final long RECONNECT_DELAY = 5000;
+
+    /**
+     * The commands sent by the cache that never modify a key.
+     */
+    private static final Set<Command> READ_ONLY = Set.of(Command.GET, Command.MGET, Command.EXISTS, Command.PTTL, Command.TTL, Command.STRLEN, Command.GETRANGE,
+            Command.SCAN, Command.CLIENT);
+
+    private final Vertx vertx;
+    private final Redis client;
+    private final Redis delegate;
+    private final ClientTrackingMode mode;
+    private final String keyPrefix;
+    private final ClientSideCache cache;
+
+    private RedisConnection invalidations;
+    private RedisConnection reads;
+    private volatile boolean tracking;
+    private boolean reconnecting;
+    private volatile boolean closed;
+
+    /**
+     * @param vertx The Vert.x instance
+     * @param client The client opening the tracking connections
+     * @param delegate The client sending the other commands, which may be the same as {@code client}
+     * @param mode The tracking mode
+     * @param keyPrefix The key prefix of the cache, tracked in the broadcast mode
+     * @param maximumSize The maximum number of replies held locally
+     */
+    public TrackingRedis(Vertx vertx, Redis client, Redis delegate, ClientTrackingMode mode, String keyPrefix, int maximumSize) {
+        this.vertx = vertx;
+        this.client = client;
+        this.delegate = delegate;
+        this.mode = mode;
+        this.keyPrefix = keyPrefix;
+        this.cache = new ClientSideCache(maximumSize);
+
+        startTracking();
+    }
+
+    private void startTracking() {
+        if (closed) {
+            return;
+        }
+        client.connect()
+                .compose(connection -> {
+                    setConnection(connection, true);
+                    return connection.send(Request.cmd(Command.CLIENT).arg("ID"));
+                })
+                .compose(id -> invalidations.send(Request.cmd(Command.SUBSCRIBE).arg(INVALIDATE_CHANNEL)).map(id.toLong()))
+                .compose(id -> client.connect().compose(connection -> {
+                    setConnection(connection, false);
+
+                    Request request = Request.cmd(Command.CLIENT).arg("TRACKING").arg("ON").arg("REDIRECT").arg(id);
+                    if (mode == ClientTrackingMode.BCAST) {
+                        request.arg("BCAST").arg("PREFIX").arg(keyPrefix);
+                    }
+                    return connection.send(request);
+                }))
+                .onSuccess(v -> {
+                    synchronized (this) {
+                        tracking = !closed && reads != null;
+                    }
+                })
+                .onFailure(err -> {
+                    if (!closed) {
+                        log.warn("Failed to enable client side caching", err);
+                    }
+                    trackingLost();
+                });
+    }
+
+    private synchronized void setConnection(RedisConnection connection, boolean invalidation) {
+        // The cache may have been closed while connecting
+        if (closed) {
+            connection.close();
+            throw new IllegalStateException("Client tracking closed");
+        }
+
+        if (invalidation) {
+            invalidations = connection;
+            connection.handler(this::handleInvalidation);
+        } else {
+            reads = connection;
+        }
+        connection.exceptionHandler(err -> {
+            log.trace("Error in client tracking connection", err);
+            trackingLost();
+        });
+        connection.endHandler(v -> trackingLost());
+    }
+
+    private void handleInvalidation(Response message) {
+        if (message == null || message.size() < 2) {
+            return;
+        }
+
+        // RESP3 connections receive invalidate pushes, RESP2 connections receive messages on the invalidation channel
+        Response keys;
+        String type = message.get(0).toString();
+        if ("invalidate".equalsIgnoreCase(type)) {
+            keys = message.get(1);
+        } else if ("message".equalsIgnoreCase(type) && message.size() > 2 && INVALIDATE_CHANNEL.equals(message.get(1).toString())) {
+            keys = message.get(2);
+        } else if ("tracking-redir-broken".equalsIgnoreCase(type)) {
+            trackingLost();
+            return;
+        } else {
+            return;
+        }
+
+        // A null key list means the whole database was flushed
+        if (keys == null) {
+            cache.invalidateAll();
+            return;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            cache.invalidate(keys.get(i).toString());
+        }
+    }
+
+    private void trackingLost() {
+        List<RedisConnection> connections = new ArrayList<>(2);
+        boolean reconnect;
+        synchronized (this) {
+            // Invalidations may have been missed, nothing held locally can be trusted anymore
+            tracking = false;
+            cache.invalidateAll();
+
+            if (invalidations != null) {
+                connections.add(invalidations);
+                invalidations = null;
+            }
+            if (reads != null) {
+                connections.add(reads);
+                reads = null;
+            }
+            reconnect = !closed && !reconnecting;
+            reconnecting |= reconnect;
+        }
+
+        for (RedisConnection connection : connections) {
+            connection.endHandler(null).exceptionHandler(null).close();
+        }
+        if (reconnect) {
+            vertx.setTimer(RECONNECT_DELAY, id -> {
+                synchronized (this) {
+                    reconnecting = false;
+                }
+                startTracking();
+            });
+        }
+    }
+
+    /**
+     * Gets the number of replies held locally.
+     *
+     * @return The number of replies
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public Future<RedisConnection> connect() {
+        return delegate.connect();
+    }
+
+    /**
+     * Closes the tracking connections. The underlying clients are not closed.
+     */
+    @Override
+    public Future<Void> close() {
+        closed = true;
+        trackingLost();
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public Future<Response> send(Request command) {
+        if (!(command instanceof KeyedRequest keyed)) {
+            return READ_ONLY.contains(command.command()) ? delegate.send(command) : delegate.send(command).andThen(ar -> cache.invalidateAll());
+        }
+
+        Request request = keyed.request();
+        List<String> keys = keyed.keys();
+        RedisConnection connection = reads;
+        if (!tracking || connection == null) {
+            return delegate.send(request);
+        }
+
+        if (request.command() == Command.GET && keys.size() == 1) {
+            String key = keys.get(0);
+            Response reply = cache.get(key);
+            if (reply != null) {
+                return Future.succeededFuture(reply);
+            }
+
+            Object token = cache.begin(key);
+            return connection.send(request).andThen(ar -> cache.complete(key, token, ar.succeeded() ? ar.result() : null));
+        }
+
+        if (READ_ONLY.contains(request.command())) {
+            return delegate.send(request);
+        }
+        return delegate.send(request).andThen(ar -> keys.forEach(cache::invalidate));
+    }
+
+    @Override
+    public Future<List<Response>> batch(List<Request> commands) {
+        List<Request> requests = new ArrayList<>(commands.size());
+        List<String> keys = new ArrayList<>();
+        for (Request command : commands) {
+            Request request = command instanceof KeyedRequest keyed ? keyed.request() : command;
+            requests.add(request);
+            if (READ_ONLY.contains(request.command())) {
+                continue;
+            }
+            if (command instanceof KeyedRequest keyed && keys != null) {
+                keys.addAll(keyed.keys());
+            } else {
+                keys = null;
+            }
+        }
+
+        List<String> written = keys;
+        return delegate.batch(requests).andThen(ar -> {
+            if (written == null) {
+                cache.invalidateAll();
+            } else {
+                written.forEach(cache::invalidate);
+            }
+        });
+    }
+}
@@ -2,12 +2,14 @@ package io.vertx.cache.distributed.impl.event;
 
 import io.vertx.cache.common.event.CacheEvent;
 import io.vertx.cache.common.event.CacheEventManager;
+import io.vertx.cache.common.impl.event.CacheEventDispatcher;
 import io.vertx.cache.distributed.impl.DistributedCacheImpl;
 import io.vertx.core.Completable;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
@@ -20,7 +22,6 @@ import io.vertx.redis.client.Response;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 public class DistributedCacheEventManager implements CacheEventManager {
 
@@ -34,8 +35,9 @@ public class DistributedCacheEventManager implements CacheEventManager {
 
     private final EventBus eventBus;
     private final String eventAddress;
-    private final Map<String, MessageConsumer<JsonObject>> consumers = new HashMap<>();
+    private final CacheEventDispatcher dispatcher = new CacheEventDispatcher();
 
+    private MessageConsumer<JsonObject> consumer;
     private RedisConnection connection;
 
     public DistributedCacheEventManager(DistributedCacheImpl cache) {
@@ -135,7 +137,12 @@ public class DistributedCacheEventManager implements CacheEventManager {
             CacheEvent.EventType eventType = translateRedisEvent(redisEvent, channel);
 
             if (eventType != null && key != null) {
-                CacheEvent cacheEvent = new CacheEvent(eventType, key);
+                // Each eviction or expiration is notified on both channels, it is only counted once
+                if (channel.startsWith(KEYEVENT)) {
+                    cache.statsCounter().recordRemoval(eventType);
+                }
+
+                CacheEvent cacheEvent = new CacheEvent(eventType, key, cache.getTicker().millis());
                 log.debug("Publishing CacheEvent to Vert.x Event Bus: " + cacheEvent.toJson());
                 eventBus.publish(eventAddress, cacheEvent.toJson());
             }
@@ -143,28 +150,38 @@ public class DistributedCacheEventManager implements CacheEventManager {
     }
 
     private String parseKeyFromChannel(String channel, String redisEvent) {
+        String prefixedKey = null;
         if (channel.startsWith(KEYSPACE)) {
-            int lastColon = channel.lastIndexOf(':');
-            if (lastColon > 0 && lastColon < channel.length() - 1) {
-                return channel.substring(lastColon + 1);
+            // The channel is __keyspace@<db>__:<key>, and the key itself may contain colons
+            int keyStart = channel.indexOf("__:", KEYSPACE.length());
+            if (keyStart > 0) {
+                prefixedKey = channel.substring(keyStart + 3);
             }
         } else if (channel.startsWith(KEYEVENT)) {
-            return redisEvent;
+            prefixedKey = redisEvent;
         }
-        return null;
+
+        // Keys outside the prefix do not belong to this cache
+        String keyPrefix = cache.getKeyPrefix();
+        if (prefixedKey == null || !prefixedKey.startsWith(keyPrefix) || prefixedKey.length() == keyPrefix.length()) {
+            return null;
+        }
+        return prefixedKey.substring(keyPrefix.length());
     }
 
     private CacheEvent.EventType translateRedisEvent(String redisEvent, String channel) {
         if (channel.startsWith(KEYSPACE)) {
             return switch (redisEvent.toLowerCase()) {
-                case "set", "hset", "hmset", "lset", "lpush", "rpush" -> CacheEvent.EventType.KEY_UPDATED;
+                case "set", "incrby", "incrbyfloat", "append", "setrange", "hset", "hmset", "lset", "lpush", "rpush" -> CacheEvent.EventType.KEY_UPDATED;
                 case "del", "hdel", "lrem" -> CacheEvent.EventType.KEY_DELETED;
                 case "expire" -> CacheEvent.EventType.KEY_EXPIRED;
                 default -> null;
             };
         } else if (channel.startsWith(KEYEVENT)) {
-            if (channel.endsWith(":expired") || channel.endsWith(":evicted")) {
+            if (channel.endsWith(":expired")) {
                 return CacheEvent.EventType.KEY_EXPIRED;
+            } else if (channel.endsWith(":evicted")) {
+                return CacheEvent.EventType.KEY_EVICTED;
             }
         }
         return null;
@@ -182,58 +199,54 @@ public class DistributedCacheEventManager implements CacheEventManager {
 
     @Override
     public Future<String> registerEventHandler(Handler<CacheEvent> handler) {
-        String registrationId = UUID.randomUUID().toString();
-        MessageConsumer<JsonObject> consumer = eventBus.consumer(eventAddress, message -> {
-            try {
-                handler.handle(new CacheEvent(message.body()));
-            } catch (Exception e) {
-                log.trace("Error in event handler", e);
-            }
-        });
-        consumers.put(registrationId, consumer);
-        return Future.succeededFuture(registrationId);
+        return register(dispatcher.register(handler, getVertx().getOrCreateContext()));
     }
 
     @Override
     public Future<String> registerEventHandler(CacheEvent.EventType type, Handler<CacheEvent> handler) {
-        String registrationId = UUID.randomUUID().toString();
-        MessageConsumer<JsonObject> consumer = eventBus.consumer(eventAddress, message -> {
-            try {
-                CacheEvent event = new CacheEvent(message.body());
-                if (event.getType() == type) {
-                    handler.handle(event);
-                }
-            } catch (Exception e) {
-                log.trace("Error in event handler", e);
-            }
-        });
-        consumers.put(registrationId, consumer);
-        return Future.succeededFuture(registrationId);
+        return register(dispatcher.register(type, handler, getVertx().getOrCreateContext()));
     }
 
     @Override
     public Future<String> registerKeyEventHandler(String key, Handler<CacheEvent> handler) {
-        String registrationId = UUID.randomUUID().toString();
-        MessageConsumer<JsonObject> consumer = eventBus.consumer(eventAddress, message -> {
-            try {
-                CacheEvent event = new CacheEvent(message.body());
-                if (key.equals(event.getKey())) {
-                    handler.handle(event);
-                }
-            } catch (Exception e) {
-                log.trace("Error in event handler", e);
+        return register(dispatcher.registerKey(key, handler, getVertx().getOrCreateContext()));
+    }
+
+    @Override
+    public Future<String> registerKeyPrefixEventHandler(String prefix, Handler<CacheEvent> handler) {
+        return register(dispatcher.registerKeyPrefix(prefix, handler, getVertx().getOrCreateContext()));
+    }
+
+    /**
+     * Subscribes to the event address on the first registration. A single consumer decodes each event once and hands it to the dispatcher, instead of every handler decoding and
+     * filtering every event.
+     */
+    private synchronized Future<String> register(String registrationId) {
+        if (consumer == null) {
+            consumer = eventBus.consumer(eventAddress, this::handleEventBusMessage);
+        }
+        return consumer.completion().map(registrationId);
+    }
+
+    private void handleEventBusMessage(Message<JsonObject> message) {
+        JsonObject body = message.body();
+        if (body == null || dispatcher.isEmpty()) {
+            return;
+        }
+
+        try {
+            CacheEvent.EventType type = CacheEvent.EventType.valueOf(body.getString("type"));
+            if (dispatcher.hasListeners(type, body.getString("key"))) {
+                dispatcher.dispatch(new CacheEvent(body));
             }
-        });
-        consumers.put(registrationId, consumer);
-        return Future.succeededFuture(registrationId);
+        } catch (Exception e) {
+            log.trace("Error in event handler", e);
+        }
     }
 
     @Override
     public Future<Void> unregisterEventHandler(String registrationId) {
-        MessageConsumer<JsonObject> consumer = consumers.remove(registrationId);
-        if (consumer != null) {
-            return consumer.unregister();
-        }
+        dispatcher.unregister(registrationId);
         return Future.succeededFuture();
     }
 
@@ -249,10 +262,13 @@ public class DistributedCacheEventManager implements CacheEventManager {
         }
 
         pubSubCloseFuture.onSuccess(v -> {
-            for (Map.Entry<String, MessageConsumer<JsonObject>> entry : consumers.entrySet()) {
-                entry.getValue().unregister();
+            dispatcher.clear();
+            synchronized (this) {
+                if (consumer != null) {
+                    consumer.unregister();
+                    consumer = null;
+                }
             }
-            consumers.clear();
         }).onComplete(completion);
     }
 }
@@ -1,14 +1,18 @@
 package io.vertx.cache.distributed.impl.operation;
 
-import io.vertx.cache.common.event.CacheEvent;
+import io.vertx.cache.common.impl.stream.KeyScanStream;
 import io.vertx.cache.common.operation.KeyOperation;
+import io.vertx.cache.common.operation.KeyScanPage;
 import io.vertx.cache.distributed.impl.DistributedCacheImpl;
 import io.vertx.core.Future;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.redis.client.Response;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 public class DistributedKeyOperation implements KeyOperation {
 
@@ -20,34 +24,126 @@ public class DistributedKeyOperation implements KeyOperation {
 
     @Override
     public Future<Set<String>> keys(String pattern) {
-        return cache.getRedis().keys(cache.getKeyPrefix() + pattern).compose(response -> {
-            Set<String> keys = extractKeys(response);
-            return Future.succeededFuture(keys);
-        });
+        // SCAN rather than KEYS, so that Redis keeps serving other clients while the keys are collected
+        Set<String> keys = new HashSet<>();
+        return scan(pattern, DEFAULT_SCAN_COUNT, batch -> {
+            keys.addAll(batch);
+            return Future.succeededFuture();
+        }).map(keys);
     }
 
     @Override
     public Future<Set<String>> keys() {
-        return cache.getRedis().keys(cache.getKeyPrefix() + "*").compose(response -> {
-            Set<String> keys = extractKeys(response);
-            return Future.succeededFuture(keys);
+        return keys("*");
+    }
+
+    @Override
+    public ReadStream<String> scan(String pattern) {
+        return scan(pattern, DEFAULT_SCAN_COUNT);
+    }
+
+    @Override
+    public ReadStream<String> scan(String pattern, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("The scan count must be positive: " + count);
+        }
+
+        return new KeyScanStream(cache.getVertx().getOrCreateContext(), cursor -> scan(cursor, pattern, count));
+    }
+
+    @Override
+    public Future<KeyScanPage> scan(String cursor, String pattern, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("The scan count must be positive: " + count);
+        }
+
+        // The cursor of a Redis scan is already the whole state of the scan, it is handed over as is
+        return scanStep(cursor, cache.getKeyPrefix() + pattern, count).map(response -> {
+            List<String> keys = new ArrayList<>();
+            extractKeys(response.get(1), keys);
+            return new KeyScanPage(response.get(0).toString(), keys);
         });
     }
 
     /**
-     * Extracts keys from a Redis response and removes the prefix.
+     * Scans the keys matching a pattern, handing each batch of keys to a function before taking the next step of the scan.
+     *
+     * @param pattern The pattern to match
+     * @param count The number of keys examined by each step
+     * @param batchHandler The function processing each batch of keys
+     * @return A future completed once every batch has been processed
+     */
+    public Future<Void> scan(String pattern, int count, Function<List<String>, Future<?>> batchHandler) {
+        return scan(START_CURSOR, cache.getKeyPrefix() + pattern, count, false, batchHandler);
+    }
+
+    /**
+     * Scans the companion keys of the entries of the cache, handing each batch of keys to a function before taking the next step of the scan.
+     *
+     * @param count The number of keys examined by each step
+     * @param batchHandler The function processing each batch of keys, as stored in Redis
+     * @return A future completed once every batch has been processed
+     * @see DistributedCacheImpl#companionKey(String, String)
+     */
+    public Future<Void> scanCompanions(int count, Function<List<String>, Future<?>> batchHandler) {
+        return scan(START_CURSOR, cache.companionPattern(), count, true, batchHandler);
+    }
+
+    private Future<Void> scan(String cursor, String match, int count, boolean companions, Function<List<String>, Future<?>> batchHandler) {
+        return scanStep(cursor, match, count).compose(response -> {
+            String next = response.get(0).toString();
+            List<String> keys = new ArrayList<>();
+            if (companions) {
+                extractCompanionKeys(response.get(1), keys);
+            } else {
+                extractKeys(response.get(1), keys);
+            }
+
+            Future<?> processed = keys.isEmpty() ? Future.succeededFuture() : batchHandler.apply(keys);
+            return processed.compose(v -> START_CURSOR.equals(next) ? Future.succeededFuture() : scan(next, match, count, companions, batchHandler));
+        });
+    }
+
+    private Future<Response> scanStep(String cursor, String match, int count) {
+        return cache.getRedis().scan(List.of(cursor, "MATCH", match, "COUNT", Integer.toString(count)));
+    }
+
+    /**
+     * Extracts keys from a Redis response and removes the prefix. Companion keys, which a pattern matches when the cache has no key prefix, are left out.
+     *
+     * @param response The Redis response
+     * @param keys The list receiving the keys without the prefix
+     */
+    private void extractKeys(Response response, List<String> keys) {
+        if (response == null) {
+            return;
+        }
+
+        int prefixLength = cache.getKeyPrefix().length();
+        for (Response key : response) {
+            String redisKey = key.toString();
+            if (!DistributedCacheImpl.isCompanionKey(redisKey)) {
+                keys.add(redisKey.substring(prefixLength));
+            }
+        }
+    }
+
+    /**
+     * Extracts the companion keys from a Redis response, as stored in Redis.
      *
      * @param response The Redis response
-     * @return A set of keys without the prefix
+     * @param keys The list receiving the companion keys
      */
-    private Set<String> extractKeys(Response response) {
+    private void extractCompanionKeys(Response response, List<String> keys) {
         if (response == null) {
-            return new HashSet<>();
+            return;
         }
 
-        return response.stream()
-                .map(Response::toString)
-                .map(key -> key.substring(cache.getKeyPrefix().length()))
-                .collect(Collectors.toSet());
+        for (Response key : response) {
+            String redisKey = key.toString();
+            if (DistributedCacheImpl.isCompanionKey(redisKey)) {
+                keys.add(redisKey);
+            }
+        }
     }
-}
\ No newline at end of file
+}
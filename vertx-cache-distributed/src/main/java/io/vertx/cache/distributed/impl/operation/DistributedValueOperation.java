@@ -1,21 +1,39 @@
 package io.vertx.cache.distributed.impl.operation;
 
 import io.vertx.cache.common.event.CacheEvent;
+import io.vertx.cache.common.impl.load.SingleFlight;
+import io.vertx.cache.common.impl.stats.StatsCounter;
 import io.vertx.cache.common.operation.ValueOperation;
+import io.vertx.cache.common.serialization.CacheCompression;
 import io.vertx.cache.common.serialization.CacheDeserializer;
 import io.vertx.cache.common.serialization.CacheSerializer;
+import io.vertx.cache.common.serialization.CompressingSerializer;
+import io.vertx.cache.common.serialization.SerializerRegistry;
 import io.vertx.cache.distributed.impl.DistributedCacheImpl;
+import io.vertx.cache.distributed.impl.LoadLease;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
 import io.vertx.redis.client.Response;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Implementation of the ValueOperation interface using Redis.
  *
+ * When the cache compresses values, the serializers of the operation are wrapped in a {@link CompressingSerializer}, as are the serializers passed to each call. String and
+ * number values are left uncompressed, so that Redis can still append to them or increment them.
+ *
+ * Without serializers of their own, values of the types supported by the {@link SerializerRegistry serializer registry} of the cache are encoded by the registry. String, number
+ * and boolean values keep their text form, which other Redis clients and commands understand.
+ *
  * @param <T> The type of values this operation works with
  */
 public class DistributedValueOperation<T> implements ValueOperation<T> {
@@ -25,13 +43,38 @@ public class DistributedValueOperation<T> implements ValueOperation<T> {
     private final Class<T> valueClass;
     private final CacheSerializer<T> serializer;
     private final CacheDeserializer<T> deserializer;
+    private final boolean compressed;
+    private final SingleFlight<T> loads = new SingleFlight<>();
+    private final StatsCounter stats = new StatsCounter();
 
     public DistributedValueOperation(DistributedCacheImpl cache, Class<T> valueClass,
             CacheSerializer<T> serializer, CacheDeserializer<T> deserializer) {
         this.cache = cache;
         this.valueClass = valueClass;
-        this.serializer = serializer != null ? serializer : createDefaultSerializer();
-        this.deserializer = deserializer != null ? deserializer : createDefaultDeserializer();
+        this.compressed = cache.getCompression() != CacheCompression.NONE && valueClass != String.class && !Number.class.isAssignableFrom(valueClass);
+
+        SerializerRegistry registry = cache.getSerializerRegistry();
+        boolean registered = !isText(valueClass) && registry.supports(valueClass);
+        this.serializer = compress(serializer != null ? serializer : registered ? registry.serializer(valueClass) : createDefaultSerializer());
+        this.deserializer = decompress(deserializer != null ? deserializer : registered ? registry.deserializer(valueClass) : createDefaultDeserializer());
+    }
+
+    private static boolean isText(Class<?> type) {
+        return type == String.class || type == Boolean.class || Number.class.isAssignableFrom(type);
+    }
+
+    private CacheSerializer<T> compress(CacheSerializer<T> serializer) {
+        if (!compressed || serializer instanceof CompressingSerializer) {
+            return serializer;
+        }
+        return new CompressingSerializer<>(serializer, null, cache.getCompression(), cache.getCompressionThreshold());
+    }
+
+    private CacheDeserializer<T> decompress(CacheDeserializer<T> deserializer) {
+        if (!compressed || deserializer instanceof CompressingSerializer) {
+            return deserializer;
+        }
+        return new CompressingSerializer<>(null, deserializer, cache.getCompression(), cache.getCompressionThreshold());
     }
 
     private CacheSerializer<T> createDefaultSerializer() {
@@ -40,8 +83,8 @@ public class DistributedValueOperation<T> implements ValueOperation<T> {
             if (value == null) {
                 return null;
             }
-            // For non-null values, convert to string and then to bytes
-            return Buffer.buffer(value.toString().getBytes());
+            // For non-null values, encode their string form in UTF-8
+            return Buffer.buffer(value.toString());
         };
     }
 
@@ -52,7 +95,7 @@ public class DistributedValueOperation<T> implements ValueOperation<T> {
                 return null;
             }
 
-            String str = new String(data.getBytes());
+            String str = data.toString();
 
             // Try to convert string to the target type
             try {
@@ -77,11 +120,23 @@ public class DistributedValueOperation<T> implements ValueOperation<T> {
     }
 
     private T deserialize(Response response) {
+        return deserialize(response, deserializer);
+    }
+
+    private static <T> T deserialize(Response response, CacheDeserializer<T> deserializer) {
         if (response == null) {
             return null;
         }
 
-        return deserializer.deserialize(Buffer.buffer(response.toString().getBytes()));
+        // The bulk reply is handed over as is, without going through a string
+        return deserializer.deserialize(response.toBuffer());
+    }
+
+    /**
+     * Creates a SET command writing the serialized value as a binary-safe argument.
+     */
+    private Request setRequest(String key, T value, CacheSerializer<T> serializer) {
+        return cache.cmd(Command.SET, cache.prefixKey(key)).arg(compress(serializer).serialize(value));
     }
 
     @Override
@@ -91,98 +146,321 @@ public class DistributedValueOperation<T> implements ValueOperation<T> {
 
     @Override
     public Future<T> get(String key, CacheDeserializer<T> deserializer) {
-        return cache.getRedis().get(cache.prefixKey(key)).compose(response -> {
-            if (response == null) {
-                return Future.succeededFuture(null);
-            }
+        CacheDeserializer<T> valueDeserializer = decompress(deserializer);
+        return cache.send(cache.cmd(Command.GET, cache.prefixKey(key))).map(response -> {
+            T value = deserialize(response, valueDeserializer);
+            stats.recordGet(value);
+            return value;
+        });
+    }
 
-            // Deserialize the value
-            byte[] bytes = response.toString().getBytes();
-            T value = deserializer.deserialize(Buffer.buffer(bytes));
+    @Override
+    public Future<T> getOrLoad(String key, Supplier<Future<T>> loader, long ttl, TimeUnit unit) {
+        long refreshAfterWrite = cache.getRefreshAfterWrite();
+        double beta = cache.getEarlyExpirationBeta();
+        long negativeTtl = cache.getNegativeTtl();
+        boolean refreshing = refreshAfterWrite > 0 && ttl > 0;
+        boolean early = beta > 0 && ttl > 0;
+        boolean negative = negativeTtl > 0;
+        Supplier<Future<T>> recordedLoader = stats.recordLoads(loader);
+        if (!refreshing && !early && !negative) {
+            return get(key).compose(value -> value != null ? Future.succeededFuture(value) : load(key, recordedLoader, ttl, unit));
+        }
 
+        // The remaining time to live, the write time, the recompute time and the tombstone are read in the same round trip as the value
+        String prefixedKey = cache.prefixKey(key);
+        List<Request> requests = new ArrayList<>(5);
+        requests.add(cache.cmd(Command.GET, prefixedKey));
+        requests.add(cache.cmd(Command.PTTL, prefixedKey));
+        int writtenIndex = refreshing ? requests.size() : -1;
+        if (refreshing) {
+            requests.add(cache.cmd(Command.GET, writtenKey(prefixedKey)));
+        }
+        int deltaIndex = early ? requests.size() : -1;
+        if (early) {
+            requests.add(cache.cmd(Command.GET, deltaKey(prefixedKey)));
+        }
+        int absentIndex = negative ? requests.size() : -1;
+        if (negative) {
+            requests.add(cache.cmd(Command.EXISTS, absentKey(prefixedKey)));
+        }
+
+        Supplier<Future<T>> valueLoader = refreshing || early ? annotate(prefixedKey, recordedLoader, unit.toMillis(ttl), refreshing, early) : recordedLoader;
+        if (negative) {
+            valueLoader = remember(prefixedKey, valueLoader, negativeTtl);
+        }
+
+        Supplier<Future<T>> finalLoader = valueLoader;
+        return cache.batch(requests).compose(responses -> {
+            T value = deserialize(responses.get(0));
+            stats.recordGet(value);
+            if (value == null) {
+                // A tombstone records that the loader found nothing for the key not long ago
+                if (negative && responses.get(absentIndex).toInteger() == 1) {
+                    return Future.succeededFuture();
+                }
+                return load(key, finalLoader, ttl, unit);
+            }
+
+            // A value due for a reload is served as is while it is reloaded in the background
+            long remaining = responses.get(1).toLong();
+            if (remaining >= 0 && (refreshing && age(responses.get(writtenIndex), remaining, unit.toMillis(ttl)) >= refreshAfterWrite
+                    || early && expiresEarly(responses.get(deltaIndex), beta, remaining))) {
+                refresh(key, value, finalLoader, ttl, unit);
+            }
             return Future.succeededFuture(value);
         });
     }
 
+    /**
+     * Loads the value of a key missing from the cache. With load leases, the node holding the lease of the key loads the value while the others wait for it.
+     */
+    private Future<T> load(String key, Supplier<Future<T>> loader, long ttl, TimeUnit unit) {
+        LoadLease lease = cache.getLoadLease();
+        if (lease == null) {
+            return loads.load(this, key, loader, ttl, unit);
+        }
+        return loads.run(key, () -> loadLeased(lease, key, loader, ttl, unit));
+    }
+
+    private Future<T> loadLeased(LoadLease lease, String key, Supplier<Future<T>> loader, long ttl, TimeUnit unit) {
+        String prefixedKey = cache.prefixKey(key);
+        return lease.acquire(prefixedKey).compose(token -> {
+            if (token != null) {
+                return SingleFlight.loadAndSet(this, key, loader, ttl, unit).eventually(() -> lease.release(prefixedKey, token));
+            }
+
+            // Another node is loading the value, it is read once written, or loaded again if the lease is gone without it
+            return lease.await(prefixedKey, cache.getNegativeTtl() > 0 ? absentKey(prefixedKey) : null).compose(written -> written != null
+                    ? Future.succeededFuture(deserialize(written.value()))
+                    : loadLeased(lease, key, loader, ttl, unit));
+        });
+    }
+
+    /**
+     * Reloads the value of a key in the background. With load leases, the value is only reloaded if no other node is reloading it.
+     */
+    private void refresh(String key, T current, Supplier<Future<T>> loader, long ttl, TimeUnit unit) {
+        LoadLease lease = cache.getLoadLease();
+        if (lease == null) {
+            loads.refresh(this, key, loader, ttl, unit);
+            return;
+        }
+
+        String prefixedKey = cache.prefixKey(key);
+        loads.refresh(key, () -> lease.acquire(prefixedKey).compose(token -> token != null
+                ? SingleFlight.loadAndSet(this, key, loader, ttl, unit).eventually(() -> lease.release(prefixedKey, token))
+                : Future.succeededFuture(current)));
+    }
+
+    /**
+     * Gets the key holding the time it took to load the value of a key.
+     */
+    private static String deltaKey(String prefixedKey) {
+        return DistributedCacheImpl.companionKey(prefixedKey, "delta");
+    }
+
+    /**
+     * Gets the key holding the time the loaded value of a key was written at.
+     */
+    private static String writtenKey(String prefixedKey) {
+        return DistributedCacheImpl.companionKey(prefixedKey, "written");
+    }
+
+    /**
+     * Gets the key holding the tombstone of a key, stored when its loader found nothing.
+     */
+    private static String absentKey(String prefixedKey) {
+        return DistributedCacheImpl.companionKey(prefixedKey, "absent");
+    }
+
+    /**
+     * Wraps a loader so that a tombstone is stored for the key when it finds nothing.
+     */
+    private Supplier<Future<T>> remember(String prefixedKey, Supplier<Future<T>> loader, long negativeTtl) {
+        return () -> loader.get().compose(value -> value != null
+                ? Future.succeededFuture(value)
+                : cache.send(cache.cmd(Command.SET, absentKey(prefixedKey)).arg("").arg("PX").arg(negativeTtl)).map((T) null));
+    }
+
+    /**
+     * Wraps a loader so that the time the value is written at, the time it takes to load, or both, are stored next to the value, with the same time to live.
+     */
+    private Supplier<Future<T>> annotate(String prefixedKey, Supplier<Future<T>> loader, long ttlMillis, boolean written, boolean delta) {
+        return () -> {
+            long start = System.nanoTime();
+            return loader.get().compose(value -> {
+                if (value == null) {
+                    return Future.succeededFuture();
+                }
+
+                List<Request> requests = new ArrayList<>(2);
+                if (written) {
+                    requests.add(cache.cmd(Command.SET, writtenKey(prefixedKey)).arg(cache.getTicker().millis()).arg("PX").arg(ttlMillis));
+                }
+                if (delta) {
+                    long elapsed = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), 1);
+                    requests.add(cache.cmd(Command.SET, deltaKey(prefixedKey)).arg(elapsed).arg("PX").arg(ttlMillis));
+                }
+                return (requests.size() == 1 ? cache.send(requests.get(0)) : cache.batch(requests)).map(value);
+            });
+        };
+    }
+
+    /**
+     * Gets the age of a value. The age is read from the write time stored when the value was loaded, and is only estimated from the remaining time to live for a value written
+     * otherwise, which assumes that it was written with the given time to live.
+     *
+     * @param written The time the value was written at, or null if it is unknown
+     * @param remaining The remaining time to live of the value
+     * @param ttlMillis The time to live the value is read with
+     */
+    private long age(Response written, long remaining, long ttlMillis) {
+        return written != null ? cache.getTicker().millis() - written.toLong() : ttlMillis - remaining;
+    }
+
+    /**
+     * Decides whether a value expires early, following the XFetch algorithm: the value expires early when {@code delta * beta * -ln(random)} reaches its remaining time to
+     * live, so the chance rises as the expiry approaches and with the time the value takes to load, and the nodes reading the key reload it at different times.
+     *
+     * @param delta The time it took to load the value, or null if it is unknown
+     * @param beta The weight of the load time, above 1 to favour earlier reloads
+     * @param remaining The remaining time to live of the value
+     */
+    private static boolean expiresEarly(Response delta, double beta, long remaining) {
+        if (delta == null) {
+            return false;
+        }
+        double random = 1 - ThreadLocalRandom.current().nextDouble();
+        return delta.toLong() * beta * -Math.log(random) >= remaining;
+    }
+
+    @Override
+    public Future<Map<String, T>> getAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Future.succeededFuture(new HashMap<>());
+        }
+
+        List<String> prefixedKeys = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            prefixedKeys.add(cache.prefixKey(key));
+        }
+
+        // MGET returns the values in the order of the keys, with null for the missing ones
+        return cache.send(cache.cmd(Command.MGET, prefixedKeys)).map(response -> {
+            Map<String, T> values = new HashMap<>(keys.size() * 4 / 3 + 1);
+            for (int i = 0; i < keys.size(); i++) {
+                T value = deserialize(response.get(i));
+                if (value != null) {
+                    values.put(keys.get(i), value);
+                }
+            }
+            stats.recordGetAll(values.size(), keys.size() - values.size());
+            return values;
+        });
+    }
+
     @Override
     public Future<T> getAndSet(String key, T value) {
-        return cache.getRedis().set(List.of(cache.prefixKey(key), serializer.serialize(value).toString(), "!GET")).map(this::deserialize);
+        return cache.send(setRequest(key, value, serializer).arg("GET")).map(this::deserialize);
     }
 
     @Override
     public Future<T> getAndDelete(String key) {
-        return cache.getRedis().getdel(cache.prefixKey(key)).map(this::deserialize);
+        return cache.send(cache.cmd(Command.GETDEL, cache.prefixKey(key))).map(this::deserialize);
     }
 
     @Override
     public Future<Void> set(String key, T value) {
-        return cache.getRedis().set(List.of(cache.prefixKey(key), serializer.serialize(value).toString())).compose(response -> Future.succeededFuture());
+        return set(key, value, serializer);
     }
 
     @Override
     public Future<Void> set(String key, T value, CacheSerializer<T> serializer) {
-        return cache.getRedis().set(List.of(cache.prefixKey(key), serializer.serialize(value).toString())).compose(response -> Future.succeededFuture());
+        return cache.send(setRequest(key, value, serializer)).mapEmpty();
     }
 
     @Override
     public Future<Void> set(String key, T value, long ttl, TimeUnit unit) {
-        return cache.put(key, serializer.serialize(value).toString(), unit.toMillis(ttl)).compose(v -> Future.succeededFuture());
+        return set(key, value, ttl, unit, serializer);
     }
 
     @Override
     public Future<Void> set(String key, T value, long ttl, TimeUnit unit, CacheSerializer<T> serializer) {
-        return cache.getRedis().set(List.of(cache.prefixKey(key), serializer.serialize(value).toString(), "PX", String.valueOf(unit.toMillis(ttl)))).compose(response -> Future.succeededFuture());
+        return cache.send(setRequest(key, value, serializer).arg("PX").arg(unit.toMillis(ttl))).mapEmpty();
     }
 
     @Override
-    public Future<Void> setIfAbsent(String key, T value) {
-        String prefixedKey = cache.prefixKey(key);
+    public Future<Void> setAll(Map<String, T> entries) {
+        return setAll(entries, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Future<Void> setAll(Map<String, T> entries, long ttl, TimeUnit unit) {
+        if (entries.isEmpty()) {
+            return Future.succeededFuture();
+        }
 
-        // Use Redis SETNX command to set the value only if the key doesn't exist
-        return cache.getRedis().setnx(prefixedKey, serializer.serialize(value).toString()).compose(response -> Future.succeededFuture());
+        long ttlMillis = unit.toMillis(ttl);
+        if (ttlMillis <= 0) {
+            Request request = Request.cmd(Command.MSET);
+            List<String> prefixedKeys = new ArrayList<>(entries.size());
+            entries.forEach((key, value) -> {
+                String prefixedKey = cache.prefixKey(key);
+                prefixedKeys.add(prefixedKey);
+                request.arg(prefixedKey).arg(serializer.serialize(value));
+            });
+            return cache.send(cache.keyed(request, prefixedKeys)).mapEmpty();
+        }
+
+        // MSET cannot expire the keys, so the SET commands are pipelined instead: they are all written at once and cost a single round trip
+        List<Request> requests = new ArrayList<>(entries.size());
+        entries.forEach((key, value) -> requests.add(setRequest(key, value, serializer).arg("PX").arg(ttlMillis)));
+        return cache.batch(requests).mapEmpty();
     }
 
     @Override
-    public Future<Void> setIfAbsent(String key, T value, long ttl, TimeUnit unit) {
-        String prefixedKey = cache.prefixKey(key);
+    public Future<Void> setIfAbsent(String key, T value) {
+        // Use Redis SET command with the NX option to set the value only if the key doesn't exist
+        return cache.send(setRequest(key, value, serializer).arg("NX")).mapEmpty();
+    }
 
+    @Override
+    public Future<Void> setIfAbsent(String key, T value, long ttl, TimeUnit unit) {
         // Use Redis SET command with NX and PX options
-        List<String> args = new ArrayList<>();
-        args.add(prefixedKey);
-        args.add(serializer.serialize(value).toString());
-        args.add("NX");
-        args.add("PX");
-        args.add(String.valueOf(unit.toMillis(ttl)));
-
-        return cache.getRedis().set(args).compose(response -> Future.succeededFuture());
+        return cache.send(setRequest(key, value, serializer).arg("NX").arg("PX").arg(unit.toMillis(ttl))).mapEmpty();
     }
 
     @Override
     public Future<Boolean> exists(String... key) {
         // Prefix all keys
-        String[] prefixedKeys = new String[key.length];
-        for (int i = 0; i < key.length; i++) {
-            prefixedKeys[i] = cache.prefixKey(key[i]);
+        List<String> prefixedKeys = new ArrayList<>(key.length);
+        for (String k : key) {
+            prefixedKeys.add(cache.prefixKey(k));
         }
 
-        // Convert to List for Redis API
-        List<String> keysList = List.of(prefixedKeys);
-        return cache.getRedis().exists(keysList).map(response -> response.toInteger() == key.length);
+        return cache.send(cache.cmd(Command.EXISTS, prefixedKeys)).map(response -> response.toInteger() == key.length);
     }
 
     @Override
     public Future<Void> delete(String... keys) {
         // Prefix all keys
-        String[] prefixedKeys = new String[keys.length];
-        for (int i = 0; i < keys.length; i++) {
-            prefixedKeys[i] = cache.prefixKey(keys[i]);
+        List<String> prefixedKeys = new ArrayList<>(keys.length);
+        for (String key : keys) {
+            prefixedKeys.add(cache.prefixKey(key));
         }
 
-        // Convert to List for Redis API
-        List<String> keysList = List.of(prefixedKeys);
-
         // Delete the keys
-        return cache.getRedis().del(keysList).compose(response -> Future.succeededFuture());
+        return cache.send(cache.cmd(Command.DEL, prefixedKeys)).compose(response -> Future.succeededFuture());
+    }
+
+    /**
+     * Gets the counter recording the reads and loads of this operation.
+     *
+     * @return The stats counter
+     */
+    public StatsCounter statsCounter() {
+        return stats;
     }
 
     @Override
@@ -2,6 +2,7 @@ package io.vertx.cache.distributed.impl.operation.binary;
 
 import io.vertx.cache.common.operation.binary.BinaryOperation;
 import io.vertx.cache.common.operation.binary.BinarySerializer;
+import io.vertx.cache.common.serialization.CacheSerializer;
 import io.vertx.cache.distributed.impl.DistributedCacheImpl;
 import io.vertx.cache.distributed.impl.operation.DistributedValueOperation;
 import io.vertx.core.buffer.Buffer;
@@ -10,7 +11,10 @@ public class DistributedBinaryOperation extends DistributedValueOperation<Buffer
 
     private static final BinarySerializer SERIALIZER = new BinarySerializer();
 
+    // The bytes of request arguments are copied when the request is built, so the value does not have to be copied beforehand
+    private static final CacheSerializer<Buffer> WRITER = value -> value;
+
     public DistributedBinaryOperation(DistributedCacheImpl cache) {
-        super(cache, Buffer.class, SERIALIZER, SERIALIZER);
+        super(cache, Buffer.class, WRITER, SERIALIZER);
     }
 }
@@ -8,6 +8,7 @@ import io.vertx.cache.distributed.impl.DistributedCacheImpl;
 import io.vertx.cache.distributed.impl.operation.DistributedValueOperation;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.redis.client.Command;
 
 public class DistributedDoubleOperation extends DistributedValueOperation<Double> implements NumberOperation<Double> {
 
@@ -19,22 +20,22 @@ public class DistributedDoubleOperation extends DistributedValueOperation<Double
 
     @Override
     public Future<Double> increment(String key) {
-        return cache.getRedis().incr(cache.prefixKey(key)).compose(response -> Future.succeededFuture(response.toDouble()));
+        return cache.send(cache.cmd(Command.INCR, cache.prefixKey(key))).compose(response -> Future.succeededFuture(response.toDouble()));
     }
 
     @Override
     public Future<Double> increment(String key, Double amount) {
-        return cache.getRedis().incrbyfloat(cache.prefixKey(key), amount.toString()).compose(response -> Future.succeededFuture(response.toDouble()));
+        return cache.send(cache.cmd(Command.INCRBYFLOAT, cache.prefixKey(key)).arg(amount.toString())).compose(response -> Future.succeededFuture(response.toDouble()));
     }
 
     @Override
     public Future<Double> decrement(String key) {
-        return cache.getRedis().decr(cache.prefixKey(key)).compose(response -> Future.succeededFuture(response.toDouble()));
+        return cache.send(cache.cmd(Command.DECR, cache.prefixKey(key))).compose(response -> Future.succeededFuture(response.toDouble()));
     }
 
     @Override
     public Future<Double> decrement(String key, Double amount) {
-        return cache.getRedis().decrby(cache.prefixKey(key), amount.toString()).compose(response -> Future.succeededFuture(response.toDouble()));
+        return cache.send(cache.cmd(Command.DECRBY, cache.prefixKey(key)).arg(amount.toString())).compose(response -> Future.succeededFuture(response.toDouble()));
     }
 
     private static class RedisDoubleSerializer implements CacheSerializer<Double>, CacheDeserializer<Double> {
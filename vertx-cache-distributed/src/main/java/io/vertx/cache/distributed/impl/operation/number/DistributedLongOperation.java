@@ -8,6 +8,7 @@ import io.vertx.cache.distributed.impl.DistributedCacheImpl;
 import io.vertx.cache.distributed.impl.operation.DistributedValueOperation;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.redis.client.Command;
 
 public class DistributedLongOperation extends DistributedValueOperation<Long> implements NumberOperation<Long> {
 
@@ -19,22 +20,22 @@ public class DistributedLongOperation extends DistributedValueOperation<Long> im
 
     @Override
     public Future<Long> increment(String key) {
-        return cache.getRedis().incr(cache.prefixKey(key)).compose(response -> Future.succeededFuture(response.toLong()));
+        return cache.send(cache.cmd(Command.INCR, cache.prefixKey(key))).compose(response -> Future.succeededFuture(response.toLong()));
     }
 
     @Override
     public Future<Long> increment(String key, Long amount) {
-        return cache.getRedis().incrby(cache.prefixKey(key), amount.toString()).compose(response -> Future.succeededFuture(response.toLong()));
+        return cache.send(cache.cmd(Command.INCRBY, cache.prefixKey(key)).arg(amount.toString())).compose(response -> Future.succeededFuture(response.toLong()));
     }
 
     @Override
     public Future<Long> decrement(String key) {
-        return cache.getRedis().decr(cache.prefixKey(key)).compose(response -> Future.succeededFuture(response.toLong()));
+        return cache.send(cache.cmd(Command.DECR, cache.prefixKey(key))).compose(response -> Future.succeededFuture(response.toLong()));
     }
 
     @Override
     public Future<Long> decrement(String key, Long amount) {
-        return cache.getRedis().decrby(cache.prefixKey(key), amount.toString()).compose(response -> Future.succeededFuture(response.toLong()));
+        return cache.send(cache.cmd(Command.DECRBY, cache.prefixKey(key)).arg(amount.toString())).compose(response -> Future.succeededFuture(response.toLong()));
     }
 
     private static class RedisLongSerializer implements CacheSerializer<Long>, CacheDeserializer<Long> {
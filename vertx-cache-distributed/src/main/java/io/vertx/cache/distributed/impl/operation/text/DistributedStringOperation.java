@@ -5,6 +5,7 @@ import io.vertx.cache.common.operation.text.StringOperation;
 import io.vertx.cache.distributed.impl.DistributedCacheImpl;
 import io.vertx.cache.distributed.impl.operation.DistributedValueOperation;
 import io.vertx.core.Future;
+import io.vertx.redis.client.Command;
 
 public class DistributedStringOperation extends DistributedValueOperation<String> implements StringOperation {
 
@@ -16,7 +17,7 @@ public class DistributedStringOperation extends DistributedValueOperation<String
     public Future<Long> length(String key) {
         String prefixedKey = cache.prefixKey(key);
 
-        return cache.getRedis().strlen(prefixedKey).compose(response -> {
+        return cache.send(cache.cmd(Command.STRLEN, prefixedKey)).compose(response -> {
             if (response != null) {
                 return Future.succeededFuture(response.toLong());
             }
@@ -28,14 +29,14 @@ public class DistributedStringOperation extends DistributedValueOperation<String
     public Future<Integer> append(String key, String value) {
         String prefixedKey = cache.prefixKey(key);
 
-        return cache.getRedis().append(prefixedKey, value).compose(response -> Future.succeededFuture(response.toInteger()));
+        return cache.send(cache.cmd(Command.APPEND, prefixedKey).arg(value)).compose(response -> Future.succeededFuture(response.toInteger()));
     }
 
     @Override
     public Future<String> getRange(String key, int start, int end) {
         String prefixedKey = cache.prefixKey(key);
 
-        return cache.getRedis().getrange(prefixedKey, String.valueOf(start), String.valueOf(end)).compose(response -> {
+        return cache.send(cache.cmd(Command.GETRANGE, prefixedKey).arg(start).arg(end)).compose(response -> {
             if (response != null) {
                 return Future.succeededFuture(response.toString());
             }
@@ -47,6 +48,6 @@ public class DistributedStringOperation extends DistributedValueOperation<String
     public Future<Long> setRange(String key, long offset, String value) {
         String prefixedKey = cache.prefixKey(key);
 
-        return cache.getRedis().setrange(prefixedKey, String.valueOf(offset), value).compose(response -> Future.succeededFuture(response.toLong()));
+        return cache.send(cache.cmd(Command.SETRANGE, prefixedKey).arg(offset).arg(value)).compose(response -> Future.succeededFuture(response.toLong()));
     }
 }
\ No newline at end of file
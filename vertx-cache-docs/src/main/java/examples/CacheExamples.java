@@ -10,6 +10,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.docgen.Source;
 import io.vertx.redis.client.RedisOptions;
 
@@ -145,6 +146,18 @@ public class CacheExamples {
         // end::binaryOperations[]
     }
 
+    /**
+     * Example of scanning keys incrementally using any Cache implementation
+     */
+    public void scanKeys(Cache cache) {
+        // tag::scanKeys[]
+        // Walk the keys of a tenant, 500 keys per step
+        ReadStream<String> keys = cache.keys().scan("tenant:123:*", 500);
+        keys.handler(key -> System.out.println("Found key: " + key));
+        keys.endHandler(v -> System.out.println("Scan complete"));
+        // end::scanKeys[]
+    }
+
     /**
      * Example of setting a TTL (Time-To-Live) for cache entries
      */
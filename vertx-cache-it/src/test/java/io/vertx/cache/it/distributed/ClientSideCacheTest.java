@@ -0,0 +1,58 @@
+package io.vertx.cache.it.distributed;
+
+import io.vertx.cache.distributed.impl.ClientSideCache;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ClientSideCacheTest {
+
+    private static final Response REPLY = () -> ResponseType.BULK;
+
+    private static void read(ClientSideCache cache, String key) {
+        cache.complete(key, cache.begin(key), REPLY);
+    }
+
+    @Test
+    public void testReadIsKept() {
+        ClientSideCache cache = new ClientSideCache(16);
+        read(cache, "key");
+        assertSame(REPLY, cache.get("key"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testInvalidationOvertakingReply() {
+        ClientSideCache cache = new ClientSideCache(16);
+        Object token = cache.begin("key");
+        cache.invalidate("key");
+        cache.complete("key", token, REPLY);
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedAreEvicted() {
+        ClientSideCache cache = new ClientSideCache(64);
+        for (int i = 0; i < 64; i++) {
+            read(cache, "key" + i);
+        }
+        // Hits refresh the keys read first, which keeps them over the keys read later
+        for (int i = 0; i < 8; i++) {
+            assertNotNull(cache.get("key" + i));
+        }
+
+        read(cache, "extra");
+        assertTrue(cache.size() <= 64);
+        assertNotNull(cache.get("extra"));
+        for (int i = 0; i < 8; i++) {
+            assertNotNull(cache.get("key" + i));
+        }
+        assertNull(cache.get("key8"));
+    }
+}
@@ -0,0 +1,91 @@
+package io.vertx.cache.it.distributed;
+
+import com.redis.testcontainers.RedisContainer;
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.distributed.DistributedCache;
+import io.vertx.cache.distributed.DistributedCacheOptions;
+import io.vertx.cache.it.operation.OperationCacheTest;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.redis.client.RedisOptions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DistributedAutoBatchingCacheTest extends OperationCacheTest {
+
+    private final RedisContainer container = new RedisContainer(RedisContainer.DEFAULT_IMAGE_NAME.withTag(RedisContainer.DEFAULT_TAG));
+
+    @Before
+    @Override
+    public void setUp() {
+        this.vertx = Vertx.vertx();
+        this.container.start();
+        this.cache = cache(vertx);
+    }
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        RedisOptions redisOptions = new RedisOptions().setConnectionString(container.getRedisURI());
+
+        DistributedCacheOptions options = new DistributedCacheOptions()
+                .setKeyPrefix("test:" + System.currentTimeMillis() + ":")
+                .setRedisOptions(redisOptions)
+                .setAutoBatching(true)
+                .setAutoBatchMaxSize(16);
+
+        return DistributedCache.create(vertx, options);
+    }
+
+    @After
+    @Override
+    public void tearDown(TestContext should) {
+        super.tearDown(should);
+    }
+
+    @Test
+    public void testConcurrentCommandsAreDemultiplexed(TestContext should) {
+        List<Future<Void>> writes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            writes.add(cache.strings().set("key" + i, "value" + i));
+        }
+
+        Future.all(writes)
+                .compose(v -> {
+                    List<Future<String>> reads = new ArrayList<>();
+                    for (int i = 0; i < 100; i++) {
+                        reads.add(cache.strings().get("key" + i));
+                    }
+                    return Future.all(reads);
+                })
+                .onComplete(should.asyncAssertSuccess(values -> {
+                    for (int i = 0; i < 100; i++) {
+                        should.assertEquals("value" + i, values.resultAt(i));
+                    }
+                }));
+    }
+
+    @Test
+    public void testErrorReplyOnlyFailsItsCommand(TestContext should) {
+        cache.strings().set("text", "not a number")
+                .compose(v -> {
+                    // Issued within the same event loop turn, the commands share a batch
+                    Future<Void> write = cache.strings().set("key1", "value1");
+                    Future<Long> increment = cache.integers().increment("text");
+                    Future<String> read = cache.strings().get("text");
+                    return Future.join(write, increment, read).otherwiseEmpty().map(composite -> {
+                        should.assertTrue(write.succeeded());
+                        should.assertTrue(increment.failed());
+                        should.assertTrue(read.succeeded());
+                        should.assertEquals("not a number", read.result());
+                        return null;
+                    });
+                })
+                .compose(v -> cache.strings().get("key1"))
+                .onComplete(should.asyncAssertSuccess(value -> should.assertEquals("value1", value)));
+    }
+}
@@ -0,0 +1,99 @@
+package io.vertx.cache.it.distributed;
+
+import com.redis.testcontainers.RedisContainer;
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.distributed.ClientTrackingMode;
+import io.vertx.cache.distributed.DistributedCache;
+import io.vertx.cache.distributed.DistributedCacheOptions;
+import io.vertx.cache.it.operation.OperationCacheTest;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.redis.client.RedisOptions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DistributedClientTrackingCacheTest extends OperationCacheTest {
+
+    private final RedisContainer container = new RedisContainer(RedisContainer.DEFAULT_IMAGE_NAME.withTag(RedisContainer.DEFAULT_TAG));
+
+    private DistributedCacheOptions options;
+
+    @Before
+    @Override
+    public void setUp() {
+        this.vertx = Vertx.vertx();
+        this.container.start();
+        this.options = new DistributedCacheOptions()
+                .setKeyPrefix("test:" + System.currentTimeMillis() + ":")
+                .setRedisOptions(new RedisOptions().setConnectionString(container.getRedisURI()))
+                .setClientTracking(true);
+        this.cache = cache(vertx);
+    }
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        return DistributedCache.create(vertx, options);
+    }
+
+    @After
+    @Override
+    public void tearDown(TestContext should) {
+        super.tearDown(should);
+    }
+
+    @Test
+    public void testReadYourWrites(TestContext should) {
+        cache.strings().set("key", "value1")
+                .compose(v -> cache.strings().get("key"))
+                .compose(value -> {
+                    should.assertEquals("value1", value);
+                    return cache.strings().set("key", "value2");
+                })
+                .compose(v -> cache.strings().get("key"))
+                .onComplete(should.asyncAssertSuccess(value -> should.assertEquals("value2", value)));
+    }
+
+    @Test
+    public void testInvalidationByAnotherNode(TestContext should) {
+        assertInvalidatedByAnotherNode(should, cache).onComplete(should.asyncAssertSuccess());
+    }
+
+    @Test
+    public void testBroadcastInvalidationByAnotherNode(TestContext should) {
+        Cache broadcastCache = DistributedCache.create(vertx, new DistributedCacheOptions(options).setClientTrackingMode(ClientTrackingMode.BCAST));
+        assertInvalidatedByAnotherNode(should, broadcastCache)
+                .compose(v -> broadcastCache.close())
+                .onComplete(should.asyncAssertSuccess());
+    }
+
+    private Future<Void> assertInvalidatedByAnotherNode(TestContext should, Cache trackingCache) {
+        DistributedCache otherNode = DistributedCache.create(vertx, new DistributedCacheOptions(options).setClientTracking(false));
+        Promise<Void> invalidated = Promise.promise();
+
+        // Leave time for the tracking connections to be set up, then read the value so that it is held locally
+        vertx.setTimer(1000, t -> otherNode.strings().set("key", "value1")
+                .compose(v -> trackingCache.strings().get("key"))
+                .compose(value -> {
+                    should.assertEquals("value1", value);
+                    return otherNode.strings().set("key", "value2");
+                })
+                .onFailure(invalidated::fail)
+                .onSuccess(v -> {
+                    long timerId = vertx.setPeriodic(50, id -> trackingCache.strings().get("key").onSuccess(value -> {
+                        if ("value2".equals(value) && vertx.cancelTimer(id)) {
+                            invalidated.complete();
+                        }
+                    }));
+                    vertx.setTimer(5000, id -> {
+                        if (vertx.cancelTimer(timerId)) {
+                            invalidated.fail("The value held on the client side was not invalidated");
+                        }
+                    });
+                }));
+
+        return invalidated.future().eventually(() -> otherNode.close());
+    }
+}
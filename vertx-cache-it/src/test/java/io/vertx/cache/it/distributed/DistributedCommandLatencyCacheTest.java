@@ -0,0 +1,97 @@
+package io.vertx.cache.it.distributed;
+
+import com.redis.testcontainers.RedisContainer;
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.distributed.CommandLatency;
+import io.vertx.cache.distributed.DistributedCache;
+import io.vertx.cache.distributed.DistributedCacheOptions;
+import io.vertx.cache.it.operation.OperationCacheTest;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.redis.client.RedisOptions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class DistributedCommandLatencyCacheTest extends OperationCacheTest {
+
+    private static final String LATENCY_ADDRESS = "test.cache.latency";
+
+    private final RedisContainer container = new RedisContainer(RedisContainer.DEFAULT_IMAGE_NAME.withTag(RedisContainer.DEFAULT_TAG));
+
+    @Before
+    @Override
+    public void setUp() {
+        this.vertx = Vertx.vertx();
+        this.container.start();
+        this.cache = cache(vertx);
+    }
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        RedisOptions redisOptions = new RedisOptions().setConnectionString(container.getRedisURI());
+
+        DistributedCacheOptions options = new DistributedCacheOptions()
+                .setKeyPrefix("test:" + System.currentTimeMillis() + ":")
+                .setRedisOptions(redisOptions)
+                .setCommandLatency(true)
+                .setCommandLatencyAddress(LATENCY_ADDRESS)
+                .setCommandLatencyPublishInterval(100)
+                .setCommandLatencyPublishIntervalTimeUnit(TimeUnit.MILLISECONDS);
+
+        return DistributedCache.create(vertx, options);
+    }
+
+    @After
+    @Override
+    public void tearDown(TestContext should) {
+        super.tearDown(should);
+    }
+
+    @Test
+    public void testLatenciesAreRecordedPerCommand(TestContext should) {
+        DistributedCache distributedCache = (DistributedCache) cache;
+        // Drop the latencies of the commands sent while the cache was set up
+        distributedCache.commandLatencies(true);
+
+        cache.strings().set("key1", "value1")
+                .compose(v -> cache.strings().get("key1"))
+                .compose(v -> cache.strings().get("key2"))
+                .compose(v -> cache.integers().increment("counter"))
+                .onComplete(should.asyncAssertSuccess(v -> {
+                    List<CommandLatency> latencies = distributedCache.commandLatencies(true);
+                    CommandLatency get = latencies.stream().filter(latency -> latency.getCommand().equals("get")).findFirst().orElse(null);
+                    should.assertNotNull(get);
+                    should.assertEquals(2L, get.getCount());
+                    should.assertTrue(get.getP50() > 0);
+                    should.assertTrue(get.getP50() <= get.getP99());
+                    should.assertTrue(get.getP99() <= get.getMax());
+                    should.assertTrue(latencies.stream().anyMatch(latency -> latency.getCommand().equals("set")));
+                    should.assertTrue(latencies.stream().anyMatch(latency -> latency.getCommand().equals("incr")));
+
+                    // The reset snapshot started the counts again
+                    should.assertTrue(distributedCache.commandLatencies(false).stream().noneMatch(latency -> latency.getCommand().equals("get")));
+                }));
+    }
+
+    @Test
+    public void testLatenciesArePublished(TestContext should) {
+        Async async = should.async();
+        vertx.eventBus().<JsonObject>consumer(LATENCY_ADDRESS, message -> {
+            JsonObject get = message.body().getJsonObject("get");
+            if (get != null && !async.isCompleted()) {
+                CommandLatency latency = new CommandLatency(get);
+                should.assertTrue(latency.getCount() > 0);
+                should.assertTrue(latency.getMax() >= latency.getP50());
+                async.complete();
+            }
+        }).completion().compose(v -> Future.all(cache.strings().get("key1"), cache.strings().get("key2")))
+                .onComplete(should.asyncAssertSuccess());
+    }
+}
@@ -0,0 +1,64 @@
+package io.vertx.cache.it.distributed;
+
+import com.redis.testcontainers.RedisContainer;
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.common.serialization.CacheCompression;
+import io.vertx.cache.distributed.DistributedCache;
+import io.vertx.cache.distributed.DistributedCacheOptions;
+import io.vertx.cache.it.operation.OperationCacheTest;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.redis.client.RedisOptions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DistributedCompressionCacheTest extends OperationCacheTest {
+
+    private final RedisContainer container = new RedisContainer(RedisContainer.DEFAULT_IMAGE_NAME.withTag(RedisContainer.DEFAULT_TAG));
+
+    @Before
+    @Override
+    public void setUp() {
+        this.vertx = Vertx.vertx();
+        this.container.start();
+        this.cache = cache(vertx);
+    }
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        RedisOptions redisOptions = new RedisOptions().setConnectionString(container.getRedisURI());
+
+        DistributedCacheOptions options = new DistributedCacheOptions()
+                .setKeyPrefix("test:" + System.currentTimeMillis() + ":")
+                .setRedisOptions(redisOptions)
+                .setCompression(CacheCompression.LZ4)
+                .setCompressionThreshold(16);
+
+        return DistributedCache.create(vertx, options);
+    }
+
+    @After
+    @Override
+    public void tearDown(TestContext should) {
+        super.tearDown(should);
+    }
+
+    @Test
+    public void testCompressedValuesAreSmaller(TestContext should) {
+        JsonObject document = new JsonObject();
+        for (int i = 0; i < 100; i++) {
+            document.put("field" + i, "a value repeated in every field");
+        }
+
+        // STRLEN gives the stored size of the value
+        cache.jsonOperation().set("document", document)
+                .compose(v -> cache.strings().length("document"))
+                .compose(length -> {
+                    should.assertTrue(length < document.toBuffer().length() / 2);
+                    return cache.jsonOperation().get("document");
+                })
+                .onComplete(should.asyncAssertSuccess(value -> should.assertEquals(document, value)));
+    }
+}
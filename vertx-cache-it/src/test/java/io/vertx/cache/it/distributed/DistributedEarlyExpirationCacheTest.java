@@ -0,0 +1,92 @@
+package io.vertx.cache.it.distributed;
+
+import com.redis.testcontainers.RedisContainer;
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.distributed.DistributedCache;
+import io.vertx.cache.distributed.DistributedCacheOptions;
+import io.vertx.cache.it.operation.OperationCacheTest;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.redis.client.RedisOptions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class DistributedEarlyExpirationCacheTest extends OperationCacheTest {
+
+    private final RedisContainer container = new RedisContainer(RedisContainer.DEFAULT_IMAGE_NAME.withTag(RedisContainer.DEFAULT_TAG));
+
+    @Before
+    @Override
+    public void setUp() {
+        this.vertx = Vertx.vertx();
+        this.container.start();
+        this.cache = cache(vertx);
+    }
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        RedisOptions redisOptions = new RedisOptions().setConnectionString(container.getRedisURI());
+
+        DistributedCacheOptions options = new DistributedCacheOptions()
+                .setKeyPrefix("test:" + System.currentTimeMillis() + ":")
+                .setRedisOptions(redisOptions)
+                .setEarlyExpirationBeta(100000);
+
+        return DistributedCache.create(vertx, options);
+    }
+
+    @After
+    @Override
+    public void tearDown(TestContext should) {
+        super.tearDown(should);
+    }
+
+    @Test
+    public void testValueExpiresEarly(TestContext should) {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Future<String>> loader = () -> {
+            int load = loads.incrementAndGet();
+            Promise<String> promise = Promise.promise();
+            vertx.setTimer(20, id -> promise.complete("value" + load));
+            return promise.future();
+        };
+
+        // With a load time of 20ms and such a weight, the value is almost certainly reloaded long before its expiry
+        cache.strings().getOrLoad("key", loader, 1, TimeUnit.MINUTES)
+                .compose(value -> {
+                    should.assertEquals("value1", value);
+                    return cache.strings().getOrLoad("key", loader, 1, TimeUnit.MINUTES);
+                })
+                .compose(value -> {
+                    should.assertEquals("value1", value);
+                    Promise<Void> wait = Promise.promise();
+                    vertx.setTimer(200, id -> wait.complete());
+                    return wait.future();
+                })
+                .compose(v -> cache.strings().get("key"))
+                .onComplete(should.asyncAssertSuccess(value -> {
+                    should.assertEquals("value2", value);
+                    should.assertEquals(2, loads.get());
+                }));
+    }
+
+    @Test
+    public void testValueWithoutTtlDoesNotExpireEarly(TestContext should) {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Future<String>> loader = () -> Future.succeededFuture("value" + loads.incrementAndGet());
+
+        cache.strings().getOrLoad("key", loader, 0, TimeUnit.MINUTES)
+                .compose(value -> cache.strings().getOrLoad("key", loader, 0, TimeUnit.MINUTES))
+                .onComplete(should.asyncAssertSuccess(value -> {
+                    should.assertEquals("value1", value);
+                    should.assertEquals(1, loads.get());
+                }));
+    }
+}
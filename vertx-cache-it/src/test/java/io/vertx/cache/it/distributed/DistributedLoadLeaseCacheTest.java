@@ -0,0 +1,108 @@
+package io.vertx.cache.it.distributed;
+
+import com.redis.testcontainers.RedisContainer;
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.distributed.DistributedCache;
+import io.vertx.cache.distributed.DistributedCacheOptions;
+import io.vertx.cache.it.operation.OperationCacheTest;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.redis.client.RedisOptions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class DistributedLoadLeaseCacheTest extends OperationCacheTest {
+
+    private final RedisContainer container = new RedisContainer(RedisContainer.DEFAULT_IMAGE_NAME.withTag(RedisContainer.DEFAULT_TAG));
+
+    private DistributedCacheOptions options;
+
+    @Before
+    @Override
+    public void setUp() {
+        this.vertx = Vertx.vertx();
+        this.container.start();
+        this.options = new DistributedCacheOptions()
+                .setKeyPrefix("test:" + System.currentTimeMillis() + ":")
+                .setRedisOptions(new RedisOptions().setConnectionString(container.getRedisURI()))
+                .setLoadLease(true)
+                .setLoadLeasePollInterval(10);
+        this.cache = cache(vertx);
+    }
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        return DistributedCache.create(vertx, options);
+    }
+
+    @After
+    @Override
+    public void tearDown(TestContext should) {
+        super.tearDown(should);
+    }
+
+    @Test
+    public void testSingleLoadAcrossNodes(TestContext should) {
+        List<Cache> nodes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            nodes.add(DistributedCache.create(vertx, options));
+        }
+
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Future<String>> loader = () -> {
+            loads.incrementAndGet();
+            Promise<String> promise = Promise.promise();
+            vertx.setTimer(200, id -> promise.complete("loaded"));
+            return promise.future();
+        };
+
+        List<Future<String>> calls = new ArrayList<>();
+        for (Cache node : nodes) {
+            calls.add(node.strings().getOrLoad("key", loader, 1, TimeUnit.MINUTES));
+        }
+
+        Future.all(calls)
+                .eventually(() -> Future.all(nodes.stream().map(Cache::close).toList()))
+                .onComplete(should.asyncAssertSuccess(v -> {
+                    should.assertEquals(1, loads.get());
+                    calls.forEach(call -> should.assertEquals("loaded", call.result()));
+                }));
+    }
+
+    @Test
+    public void testLoadAfterFailedHolder(TestContext should) {
+        Cache otherNode = DistributedCache.create(vertx, options);
+        AtomicInteger loads = new AtomicInteger();
+
+        // The holder fails, which releases the lease, and the waiting node loads the value itself
+        Future<String> failed = cache.strings().getOrLoad("key", () -> {
+            loads.incrementAndGet();
+            Promise<String> promise = Promise.promise();
+            vertx.setTimer(100, id -> promise.fail("unavailable"));
+            return promise.future();
+        }, 1, TimeUnit.MINUTES);
+        Promise<Void> leased = Promise.promise();
+        vertx.setTimer(50, id -> leased.complete());
+        Future<String> loaded = leased.future().compose(v -> otherNode.strings().getOrLoad("key", () -> {
+            loads.incrementAndGet();
+            return Future.succeededFuture("loaded");
+        }, 1, TimeUnit.MINUTES));
+
+        Future.join(failed, loaded)
+                .eventually(otherNode::close)
+                .onComplete(should.asyncAssertFailure(err -> {
+                    should.assertTrue(failed.failed());
+                    should.assertEquals("loaded", loaded.result());
+                    should.assertEquals(2, loads.get());
+                }));
+    }
+}
@@ -0,0 +1,117 @@
+package io.vertx.cache.it.distributed;
+
+import com.redis.testcontainers.RedisContainer;
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.distributed.DistributedCache;
+import io.vertx.cache.distributed.DistributedCacheOptions;
+import io.vertx.cache.it.operation.OperationCacheTest;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.redis.client.RedisOptions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class DistributedNegativeCacheTest extends OperationCacheTest {
+
+    private final RedisContainer container = new RedisContainer(RedisContainer.DEFAULT_IMAGE_NAME.withTag(RedisContainer.DEFAULT_TAG));
+
+    @Before
+    @Override
+    public void setUp() {
+        this.vertx = Vertx.vertx();
+        this.container.start();
+        this.cache = cache(vertx);
+    }
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        RedisOptions redisOptions = new RedisOptions().setConnectionString(container.getRedisURI());
+
+        DistributedCacheOptions options = new DistributedCacheOptions()
+                .setKeyPrefix("test:" + System.currentTimeMillis() + ":")
+                .setRedisOptions(redisOptions)
+                .setNegativeTtl(300)
+                .setNegativeTtlTimeUnit(TimeUnit.MILLISECONDS);
+
+        return DistributedCache.create(vertx, options);
+    }
+
+    @After
+    @Override
+    public void tearDown(TestContext should) {
+        super.tearDown(should);
+    }
+
+    @Test
+    public void testAbsentKeyIsNotLoadedAgain(TestContext should) {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Future<String>> loader = () -> {
+            loads.incrementAndGet();
+            return Future.succeededFuture();
+        };
+
+        cache.strings().getOrLoad("key", loader, 1, TimeUnit.MINUTES)
+                .compose(value -> cache.strings().getOrLoad("key", loader, 1, TimeUnit.MINUTES))
+                .compose(value -> {
+                    should.assertNull(value);
+                    should.assertEquals(1, loads.get());
+                    // The tombstone is not an entry of the cache
+                    return cache.keys().keys("*");
+                })
+                .compose(keys -> {
+                    should.assertTrue(keys.isEmpty());
+                    Promise<Void> wait = Promise.promise();
+                    vertx.setTimer(400, id -> wait.complete());
+                    return wait.future();
+                })
+                .compose(v -> cache.strings().getOrLoad("key", loader, 1, TimeUnit.MINUTES))
+                .onComplete(should.asyncAssertSuccess(value -> {
+                    should.assertNull(value);
+                    should.assertEquals(2, loads.get());
+                }));
+    }
+
+    @Test
+    public void testWriteReplacesTombstone(TestContext should) {
+        cache.strings().getOrLoad("key", Future::succeededFuture, 1, TimeUnit.MINUTES)
+                .compose(value -> cache.strings().set("key", "value"))
+                .compose(v -> cache.strings().getOrLoad("key", Future::succeededFuture, 1, TimeUnit.MINUTES))
+                .onComplete(should.asyncAssertSuccess(value -> should.assertEquals("value", value)));
+    }
+
+    @Test
+    public void testClearRemovesTombstone(TestContext should) {
+        cache.strings().getOrLoad("key", Future::succeededFuture, 1, TimeUnit.MINUTES)
+                .compose(value -> cache.clear())
+                .compose(v -> cache.strings().getOrLoad("key", () -> Future.succeededFuture("value"), 1, TimeUnit.MINUTES))
+                .onComplete(should.asyncAssertSuccess(value -> should.assertEquals("value", value)));
+    }
+
+    @Test
+    public void testTombstoneIsNotListedWithoutKeyPrefix(TestContext should) {
+        Cache unprefixed = DistributedCache.create(vertx, new DistributedCacheOptions()
+                .setKeyPrefix("")
+                .setRedisOptions(new RedisOptions().setConnectionString(container.getRedisURI()))
+                .setNegativeTtl(1)
+                .setNegativeTtlTimeUnit(TimeUnit.MINUTES));
+
+        unprefixed.strings().set("other", "value")
+                .compose(v -> unprefixed.strings().getOrLoad("key", Future::succeededFuture, 1, TimeUnit.MINUTES))
+                .compose(value -> unprefixed.keys().keys())
+                .compose(keys -> {
+                    should.assertEquals(Set.of("other"), keys);
+                    return unprefixed.clear();
+                })
+                .compose(v -> unprefixed.strings().getOrLoad("key", () -> Future.succeededFuture("value"), 1, TimeUnit.MINUTES))
+                .eventually(unprefixed::close)
+                .onComplete(should.asyncAssertSuccess(value -> should.assertEquals("value", value)));
+    }
+}
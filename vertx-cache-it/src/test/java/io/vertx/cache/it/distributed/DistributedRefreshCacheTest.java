@@ -0,0 +1,104 @@
+package io.vertx.cache.it.distributed;
+
+import com.redis.testcontainers.RedisContainer;
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.distributed.DistributedCache;
+import io.vertx.cache.distributed.DistributedCacheOptions;
+import io.vertx.cache.it.operation.OperationCacheTest;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.redis.client.RedisOptions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class DistributedRefreshCacheTest extends OperationCacheTest {
+
+    private final RedisContainer container = new RedisContainer(RedisContainer.DEFAULT_IMAGE_NAME.withTag(RedisContainer.DEFAULT_TAG));
+
+    @Before
+    @Override
+    public void setUp() {
+        this.vertx = Vertx.vertx();
+        this.container.start();
+        this.cache = cache(vertx);
+    }
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        RedisOptions redisOptions = new RedisOptions().setConnectionString(container.getRedisURI());
+
+        DistributedCacheOptions options = new DistributedCacheOptions()
+                .setKeyPrefix("test:" + System.currentTimeMillis() + ":")
+                .setRedisOptions(redisOptions)
+                .setRefreshAfterWrite(200)
+                .setRefreshAfterWriteTimeUnit(TimeUnit.MILLISECONDS);
+
+        return DistributedCache.create(vertx, options);
+    }
+
+    @After
+    @Override
+    public void tearDown(TestContext should) {
+        super.tearDown(should);
+    }
+
+    @Test
+    public void testStaleValueIsServedWhileRefreshing(TestContext should) {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Future<String>> loader = () -> Future.succeededFuture("value" + loads.incrementAndGet());
+
+        cache.strings().getOrLoad("key", loader, 1, TimeUnit.MINUTES)
+                .compose(value -> {
+                    should.assertEquals("value1", value);
+                    Promise<Void> wait = Promise.promise();
+                    vertx.setTimer(300, id -> wait.complete());
+                    return wait.future();
+                })
+                .compose(v -> cache.strings().getOrLoad("key", loader, 1, TimeUnit.MINUTES))
+                .compose(value -> {
+                    // The current value is served, and the reload is written in the background
+                    should.assertEquals("value1", value);
+                    Promise<Void> wait = Promise.promise();
+                    vertx.setTimer(200, id -> wait.complete());
+                    return wait.future();
+                })
+                .compose(v -> cache.strings().get("key"))
+                .onComplete(should.asyncAssertSuccess(value -> {
+                    should.assertEquals("value2", value);
+                    should.assertEquals(2, loads.get());
+                }));
+    }
+
+    @Test
+    public void testRefreshWithDifferentTtl(TestContext should) {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Future<String>> loader = () -> Future.succeededFuture("value" + loads.incrementAndGet());
+
+        // The age of the value comes from its write time, not from the TTL it is read with
+        cache.strings().getOrLoad("key", loader, 10, TimeUnit.MINUTES)
+                .compose(value -> {
+                    Promise<Void> wait = Promise.promise();
+                    vertx.setTimer(300, id -> wait.complete());
+                    return wait.future();
+                })
+                .compose(v -> cache.strings().getOrLoad("key", loader, 1, TimeUnit.MINUTES))
+                .compose(value -> {
+                    should.assertEquals("value1", value);
+                    Promise<Void> wait = Promise.promise();
+                    vertx.setTimer(200, id -> wait.complete());
+                    return wait.future();
+                })
+                .compose(v -> cache.strings().get("key"))
+                .onComplete(should.asyncAssertSuccess(value -> {
+                    should.assertEquals("value2", value);
+                    should.assertEquals(2, loads.get());
+                }));
+    }
+}
@@ -0,0 +1,66 @@
+package io.vertx.cache.it.distributed;
+
+import io.vertx.cache.distributed.CommandLatency;
+import io.vertx.cache.distributed.impl.LatencyHistogram;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue("Expected about " + expected + " but was " + actual, Math.abs(actual - expected) <= expected / 16 + 1);
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        CommandLatency latency = histogram.snapshot("get", false);
+        assertEquals("get", latency.getCommand());
+        assertEquals(100_000L, latency.getCount());
+        assertEquals(100_000_000L, latency.getMax());
+        assertWithin(50_000_500L, latency.getMean());
+        assertWithin(50_000_000L, latency.getP50());
+        assertWithin(90_000_000L, latency.getP90());
+        assertWithin(99_000_000L, latency.getP99());
+        assertWithin(99_900_000L, latency.getP999());
+    }
+
+    @Test
+    public void testSmallAndLargeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(3);
+        histogram.record(Long.MAX_VALUE);
+
+        CommandLatency latency = histogram.snapshot("get", false);
+        assertEquals(3L, latency.getCount());
+        assertEquals(3L, latency.getP50());
+        assertEquals(Long.MAX_VALUE, latency.getMax());
+        assertEquals(Long.MAX_VALUE, latency.getP999());
+    }
+
+    @Test
+    public void testSnapshotAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+        histogram.record(2000);
+
+        assertEquals(2L, histogram.snapshot("get", true).getCount());
+        CommandLatency latency = histogram.snapshot("get", false);
+        assertEquals(0L, latency.getCount());
+        assertEquals(0L, latency.getMax());
+        assertEquals(0L, latency.getP99());
+
+        histogram.record(500);
+        latency = histogram.snapshot("get", true);
+        assertEquals(1L, latency.getCount());
+        assertEquals(500L, latency.getMax());
+        assertWithin(500L, latency.getP50());
+    }
+}
@@ -30,6 +30,25 @@ public abstract class EventCacheTest extends AbstractCacheTest {
         async.awaitSuccess(5000);
     }
 
+    @Test
+    public void testIncrementPublishesKeyUpdatedEvent(TestContext should) {
+        Async async = should.async(2);
+
+        cache.events().registerEventHandler(CacheEvent.EventType.KEY_UPDATED, event -> {
+                    if (event.getKey().equals("counter") || event.getKey().equals("ratio")) {
+                        should.assertEquals(CacheEvent.EventType.KEY_UPDATED, event.getType());
+                        async.countDown();
+                    }
+                })
+                .onFailure(should::fail)
+                .onComplete(should.asyncAssertSuccess(id -> {
+                    cache.integers().increment("counter").onFailure(should::fail);
+                    cache.floats().increment("ratio").onFailure(should::fail);
+                }));
+
+        async.awaitSuccess(5000);
+    }
+
     @Test
     public void testKeyDeletedEvent(TestContext should) {
         Async async = should.async();
@@ -66,4 +85,54 @@ public abstract class EventCacheTest extends AbstractCacheTest {
 
         async.awaitSuccess(5000);
     }
+
+    @Test
+    public void testKeyEventHandler(TestContext should) {
+        Async async = should.async();
+
+        cache.events().registerKeyEventHandler("watchedKey", event -> {
+                    should.assertEquals("watchedKey", event.getKey());
+                    should.assertEquals(CacheEvent.EventType.KEY_UPDATED, event.getType());
+                    async.complete();
+                })
+                .onFailure(should::fail)
+                .onComplete(should.asyncAssertSuccess(id -> cache.strings().set("otherKey", "value")
+                        .compose(v -> cache.strings().set("watchedKey", "value"))));
+
+        async.awaitSuccess(5000);
+    }
+
+    @Test
+    public void testKeyPrefixEventHandler(TestContext should) {
+        Async async = should.async(2);
+
+        cache.events().registerKeyPrefixEventHandler("user.", event -> {
+                    should.assertTrue(event.getKey().startsWith("user."));
+                    should.assertEquals(CacheEvent.EventType.KEY_UPDATED, event.getType());
+                    async.countDown();
+                })
+                .onFailure(should::fail)
+                .onComplete(should.asyncAssertSuccess(id -> cache.strings().set("session.1", "value")
+                        .compose(v -> cache.strings().set("user.1", "value"))
+                        .compose(v -> cache.strings().set("user", "value"))
+                        .compose(v -> cache.strings().set("user.2", "value"))));
+
+        async.awaitSuccess(5000);
+    }
+
+    @Test
+    public void testUnregisterEventHandler(TestContext should) {
+        Async async = should.async();
+        AtomicInteger received = new AtomicInteger();
+
+        cache.events().registerEventHandler(CacheEvent.EventType.KEY_UPDATED, event -> received.incrementAndGet())
+                .compose(id -> cache.events().unregisterEventHandler(id))
+                .compose(v -> cache.strings().set("testKey", "value"))
+                .onComplete(should.asyncAssertSuccess(v -> vertx.setTimer(500, id -> {
+                    should.assertEquals(0, received.get());
+                    async.complete();
+                })));
+
+        async.awaitSuccess(5000);
+    }
 }
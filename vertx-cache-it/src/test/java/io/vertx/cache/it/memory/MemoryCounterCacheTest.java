@@ -0,0 +1,120 @@
+package io.vertx.cache.it.memory;
+
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.common.time.ManualTicker;
+import io.vertx.cache.common.time.Ticker;
+import io.vertx.cache.it.AbstractCacheTest;
+import io.vertx.cache.memory.MemoryCache;
+import io.vertx.cache.memory.MemoryCacheOptions;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class MemoryCounterCacheTest extends AbstractCacheTest {
+
+    private ManualTicker ticker;
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        ticker = Ticker.manual(System.currentTimeMillis());
+        return MemoryCache.create(vertx, new MemoryCacheOptions().setTicker(ticker));
+    }
+
+    @Test
+    public void testConcurrentIncrementsAreNotLost(TestContext should) throws InterruptedException {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    memoryCache.addAndGet("long", 1L);
+                    memoryCache.addAndGet("double", 0.5);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        should.assertEquals(80000L, memoryCache.get("long"));
+        should.assertEquals(40000.0, memoryCache.get("double"));
+    }
+
+    @Test
+    public void testIncrementsRacingWithRemovalsAreNotLost(TestContext should) throws InterruptedException {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    memoryCache.addAndGet("long", 1L);
+                }
+            }));
+        }
+
+        // Every increment ends up either in a removed value or in the final one
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicLong removed = new AtomicLong();
+        Thread remover = new Thread(() -> {
+            while (!done.get()) {
+                Long value = memoryCache.remove("long");
+                if (value != null) {
+                    removed.addAndGet(value);
+                }
+            }
+        });
+
+        remover.start();
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        done.set(true);
+        remover.join();
+
+        Long remaining = memoryCache.get("long");
+        should.assertEquals(80000L, removed.get() + (remaining != null ? remaining : 0L));
+    }
+
+    @Test
+    public void testIncrementKeepsTtl(TestContext should) {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        memoryCache.put("counter", 10L, 1000);
+
+        should.assertEquals(11L, memoryCache.addAndGet("counter", 1L));
+        ticker.advance(500, TimeUnit.MILLISECONDS);
+        should.assertEquals(12L, memoryCache.addAndGet("counter", 1L));
+        ticker.advance(501, TimeUnit.MILLISECONDS);
+
+        should.assertNull(memoryCache.get("counter"));
+        should.assertEquals(1L, memoryCache.addAndGet("counter", 1L));
+    }
+
+    @Test
+    public void testCounterOperations(TestContext should) {
+        cache.integers().increment("long", 5L)
+                .compose(v -> cache.integers().decrement("long"))
+                .compose(v -> cache.integers().get("long"))
+                .compose(value -> {
+                    should.assertEquals(4L, value);
+                    return cache.floats().set("double", 1.5);
+                })
+                .compose(v -> cache.floats().increment("double", 1.0))
+                .compose(v -> cache.floats().get("double"))
+                .onComplete(should.asyncAssertSuccess(value -> should.assertEquals(2.5, value)));
+    }
+
+    @Test
+    public void testIncrementNonNumericValue(TestContext should) {
+        cache.strings().set("text", "not a number")
+                .compose(v -> cache.integers().increment("text"))
+                .onComplete(should.asyncAssertFailure());
+    }
+}
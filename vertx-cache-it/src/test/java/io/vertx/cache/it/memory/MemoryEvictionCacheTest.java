@@ -0,0 +1,64 @@
+package io.vertx.cache.it.memory;
+
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.common.event.CacheEvent;
+import io.vertx.cache.it.AbstractCacheTest;
+import io.vertx.cache.memory.MemoryCache;
+import io.vertx.cache.memory.MemoryCacheOptions;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import org.junit.Test;
+
+public class MemoryEvictionCacheTest extends AbstractCacheTest {
+
+    private static final int MAXIMUM_SIZE = 100;
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        return MemoryCache.create(vertx, new MemoryCacheOptions().setMaximumSize(MAXIMUM_SIZE));
+    }
+
+    @Test
+    public void testMaximumSizeIsEnforced(TestContext should) {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        for (int i = 0; i < 1000; i++) {
+            memoryCache.put("key" + i, "value" + i);
+        }
+
+        should.assertTrue(memoryCache.keySet().size() <= MAXIMUM_SIZE);
+    }
+
+    @Test
+    public void testFrequentKeySurvivesScan(TestContext should) {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        memoryCache.put("hot", "value");
+        for (int i = 0; i < 1000; i++) {
+            should.assertEquals("value", memoryCache.get("hot"));
+            memoryCache.put("cold" + i, "value" + i);
+        }
+
+        should.assertEquals("value", memoryCache.get("hot"));
+    }
+
+    @Test
+    public void testKeyEvictedEvent(TestContext should) {
+        Async async = should.async();
+        MemoryCache memoryCache = (MemoryCache) cache;
+
+        cache.events().registerEventHandler(CacheEvent.EventType.KEY_EVICTED, event -> {
+                    should.assertEquals(CacheEvent.EventType.KEY_EVICTED, event.getType());
+                    should.assertNotNull(event.getKey());
+                    if (!async.isCompleted()) {
+                        async.complete();
+                    }
+                })
+                .onComplete(should.asyncAssertSuccess(id -> {
+                    for (int i = 0; i < MAXIMUM_SIZE * 2; i++) {
+                        memoryCache.put("key" + i, "value" + i);
+                    }
+                }));
+
+        async.awaitSuccess(5000);
+    }
+}
@@ -0,0 +1,67 @@
+package io.vertx.cache.it.memory;
+
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.common.event.CacheEvent;
+import io.vertx.cache.it.AbstractCacheTest;
+import io.vertx.cache.memory.MemoryCache;
+import io.vertx.cache.memory.MemoryCacheOptions;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class MemoryExpirationCacheTest extends AbstractCacheTest {
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        return MemoryCache.create(vertx, new MemoryCacheOptions()
+                .setCleanupInterval(50)
+                .setCleanupIntervalTimeUnit(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testExpiredEntriesAreRemoved(TestContext should) {
+        Async async = should.async();
+        MemoryCache memoryCache = (MemoryCache) cache;
+        for (int i = 0; i < 1000; i++) {
+            memoryCache.put("key" + i, "value" + i, 100);
+        }
+        memoryCache.put("persistent", "value", 60000);
+
+        vertx.setTimer(1000, id -> {
+            should.assertEquals(1, memoryCache.keySet().size());
+            should.assertEquals("value", memoryCache.get("persistent"));
+            async.complete();
+        });
+    }
+
+    @Test
+    public void testKeyExpiredEvent(TestContext should) {
+        Async async = should.async();
+        MemoryCache memoryCache = (MemoryCache) cache;
+
+        cache.events().registerEventHandler(CacheEvent.EventType.KEY_EXPIRED, event -> {
+                    should.assertEquals("key", event.getKey());
+                    should.assertFalse(memoryCache.keySet().contains("key"));
+                    async.complete();
+                })
+                .onComplete(should.asyncAssertSuccess(id -> memoryCache.put("key", "value", 100)));
+
+        async.awaitSuccess(5000);
+    }
+
+    @Test
+    public void testOverwriteReschedulesExpiration(TestContext should) {
+        Async async = should.async();
+        MemoryCache memoryCache = (MemoryCache) cache;
+        memoryCache.put("key", "value", 100);
+        memoryCache.put("key", "updated", 60000);
+
+        vertx.setTimer(500, id -> {
+            should.assertEquals("updated", memoryCache.get("key"));
+            async.complete();
+        });
+    }
+}
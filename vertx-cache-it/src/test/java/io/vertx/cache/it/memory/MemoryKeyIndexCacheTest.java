@@ -0,0 +1,119 @@
+package io.vertx.cache.it.memory;
+
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.common.operation.KeyOperation;
+import io.vertx.cache.common.time.ManualTicker;
+import io.vertx.cache.common.time.Ticker;
+import io.vertx.cache.it.AbstractCacheTest;
+import io.vertx.cache.memory.MemoryCache;
+import io.vertx.cache.memory.MemoryCacheOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+public class MemoryKeyIndexCacheTest extends AbstractCacheTest {
+
+    private ManualTicker ticker;
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        ticker = Ticker.manual(System.currentTimeMillis());
+        return MemoryCache.create(vertx, new MemoryCacheOptions().setKeyIndex(true).setTicker(ticker));
+    }
+
+    @Test
+    public void testPrefixLookup(TestContext should) {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        for (int tenant = 0; tenant < 20; tenant++) {
+            for (int i = 0; i < 10; i++) {
+                memoryCache.put("tenant:" + tenant + ":" + i, i);
+            }
+        }
+
+        should.assertEquals(10, memoryCache.keySet("tenant:1:").size());
+        should.assertEquals(110, memoryCache.keySet("tenant:1").size());
+        should.assertTrue(memoryCache.keySet("other:").isEmpty());
+    }
+
+    @Test
+    public void testIndexFollowsRemovals(TestContext should) {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        memoryCache.put("tenant:1:a", "value");
+        memoryCache.put("tenant:1:b", "value", 1000);
+        memoryCache.put("tenant:1:c", "value");
+        memoryCache.addAndGet("tenant:1:d", 1L);
+
+        memoryCache.remove("tenant:1:a");
+        ticker.advance(2, TimeUnit.SECONDS);
+        should.assertNull(memoryCache.get("tenant:1:b"));
+
+        should.assertEquals(Set.of("tenant:1:c", "tenant:1:d"), memoryCache.keySet("tenant:1:"));
+
+        cache.clear()
+                .compose(v -> cache.keys().keys("tenant:*"))
+                .onComplete(should.asyncAssertSuccess(keys -> should.assertTrue(keys.isEmpty())));
+    }
+
+    @Test
+    public void testConcurrentUpdates(TestContext should) throws InterruptedException {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    String key = "key:" + (i % 100);
+                    if (i % 3 == 0) {
+                        memoryCache.remove(key);
+                    } else {
+                        memoryCache.put(key, i);
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        should.assertEquals(memoryCache.keySet(), memoryCache.keySet("key:"));
+    }
+
+    @Test
+    public void testScanPagesThroughIndex(TestContext should) {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        for (int i = 0; i < 100; i++) {
+            memoryCache.put("tenant:" + i, i);
+            memoryCache.put("other:" + i, i);
+        }
+
+        cache.keys().scan(KeyOperation.START_CURSOR, "tenant:*", 30)
+                .compose(page -> {
+                    should.assertEquals(30, page.getKeys().size());
+                    should.assertFalse(page.isComplete());
+                    // Keys removed behind or added ahead of the cursor do not disturb the rest of the scan
+                    memoryCache.remove(page.getKeys().get(0));
+                    memoryCache.put("tenant:~", 100);
+                    Set<String> keys = new HashSet<>(page.getKeys());
+                    return scanRest(page.getCursor(), keys);
+                })
+                .onComplete(should.asyncAssertSuccess(keys -> should.assertEquals(101, keys.size())));
+    }
+
+    private Future<Set<String>> scanRest(String cursor, Set<String> keys) {
+        return cache.keys().scan(cursor, "tenant:*", 30).compose(page -> {
+            for (String key : page.getKeys()) {
+                if (!keys.add(key)) {
+                    return Future.failedFuture("Key returned twice: " + key);
+                }
+            }
+            return page.isComplete() ? Future.succeededFuture(keys) : scanRest(page.getCursor(), keys);
+        });
+    }
+}
@@ -0,0 +1,105 @@
+package io.vertx.cache.it.memory;
+
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.common.time.ManualTicker;
+import io.vertx.cache.common.time.Ticker;
+import io.vertx.cache.it.AbstractCacheTest;
+import io.vertx.cache.memory.MemoryCache;
+import io.vertx.cache.memory.MemoryCacheOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class MemoryNegativeCacheTest extends AbstractCacheTest {
+
+    private ManualTicker ticker;
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        ticker = Ticker.manual(1_000_000_000L);
+        return MemoryCache.create(vertx, new MemoryCacheOptions()
+                .setTicker(ticker)
+                .setNegativeTtl(1)
+                .setNegativeTtlTimeUnit(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAbsentKeyIsNotLoadedAgain(TestContext should) {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Future<String>> loader = () -> {
+            loads.incrementAndGet();
+            return Future.succeededFuture();
+        };
+
+        cache.strings().getOrLoad("key", loader, 1, TimeUnit.MINUTES)
+                .compose(value -> {
+                    should.assertNull(value);
+                    return cache.strings().getOrLoad("key", loader, 1, TimeUnit.MINUTES);
+                })
+                .compose(value -> {
+                    // The tombstone is never returned as a value
+                    should.assertNull(value);
+                    should.assertEquals(1, loads.get());
+                    return cache.strings().get("key");
+                })
+                .compose(value -> {
+                    should.assertNull(value);
+                    return cache.strings().getAll(List.of("key"));
+                })
+                .compose(values -> {
+                    should.assertTrue(values.isEmpty());
+                    ticker.advance(2, TimeUnit.SECONDS);
+                    return cache.strings().getOrLoad("key", loader, 1, TimeUnit.MINUTES);
+                })
+                .onComplete(should.asyncAssertSuccess(value -> {
+                    should.assertNull(value);
+                    should.assertEquals(2, loads.get());
+                }));
+    }
+
+    @Test
+    public void testWriteReplacesTombstone(TestContext should) {
+        cache.strings().getOrLoad("key", Future::succeededFuture, 1, TimeUnit.MINUTES)
+                .compose(value -> cache.strings().set("key", "value"))
+                .compose(v -> cache.strings().getOrLoad("key", Future::succeededFuture, 1, TimeUnit.MINUTES))
+                .compose(value -> {
+                    should.assertEquals("value", value);
+                    return cache.integers().getOrLoad("counter", Future::succeededFuture, 1, TimeUnit.MINUTES);
+                })
+                .compose(value -> cache.integers().increment("counter"))
+                .onComplete(should.asyncAssertSuccess(value -> should.assertEquals(1L, value)));
+    }
+
+    @Test
+    public void testTombstoneIsNotListed(TestContext should) {
+        cache.strings().set("other", "value")
+                .compose(v -> cache.strings().getOrLoad("key", Future::succeededFuture, 1, TimeUnit.MINUTES))
+                .compose(value -> {
+                    should.assertNull(value);
+                    return cache.strings().exists("key");
+                })
+                .compose(exists -> {
+                    should.assertFalse(exists);
+                    return cache.keys().keys();
+                })
+                .compose(keys -> {
+                    should.assertEquals(Set.of("other"), keys);
+                    return cache.keys().keys("k*");
+                })
+                .compose(keys -> {
+                    should.assertTrue(keys.isEmpty());
+                    return cache.keys().keys("key");
+                })
+                .onComplete(should.asyncAssertSuccess(keys -> {
+                    should.assertTrue(keys.isEmpty());
+                    should.assertEquals(Set.of("other"), ((MemoryCache) cache).keySet());
+                }));
+    }
+}
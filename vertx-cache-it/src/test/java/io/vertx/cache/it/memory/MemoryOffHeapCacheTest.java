@@ -0,0 +1,127 @@
+package io.vertx.cache.it.memory;
+
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.it.AbstractCacheTest;
+import io.vertx.cache.memory.MemoryCache;
+import io.vertx.cache.memory.MemoryCacheOptions;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.unit.TestContext;
+import org.junit.Test;
+
+import java.util.List;
+
+public class MemoryOffHeapCacheTest extends AbstractCacheTest {
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        return MemoryCache.create(vertx, new MemoryCacheOptions()
+                .setOffHeap(true)
+                .setOffHeapCapacity(64 * 1024)
+                .setOffHeapSlabSize(16 * 1024));
+    }
+
+    @Test
+    public void testSetAndGet(TestContext should) {
+        Buffer value = Buffer.buffer("binary value");
+        cache.binaryOperation().set("key", value)
+                .compose(v -> cache.binaryOperation().get("key"))
+                .onComplete(should.asyncAssertSuccess(result -> should.assertEquals(value, result)));
+    }
+
+    @Test
+    public void testValueCannotBeModifiedByReaders(TestContext should) {
+        Buffer value = Buffer.buffer("binary value");
+        cache.binaryOperation().set("key", value)
+                .compose(v -> cache.binaryOperation().get("key"))
+                .compose(result -> {
+                    result.setByte(0, (byte) 0);
+                    return cache.binaryOperation().get("key");
+                })
+                .onComplete(should.asyncAssertSuccess(result -> should.assertEquals(value, result)));
+    }
+
+    @Test
+    public void testReadValueSurvivesMemoryReuse(TestContext should) {
+        Buffer value = Buffer.buffer(new byte[1000]).setInt(0, -1);
+        cache.binaryOperation().set("key", value)
+                .compose(v -> cache.binaryOperation().get("key"))
+                .compose(read -> cache.binaryOperation().set("key", Buffer.buffer(new byte[1000]))
+                        .map(v -> {
+                            // Enough values of the same size class to reuse every free chunk, including the one the overwrite released
+                            for (int i = 0; i < 32; i++) {
+                                cache.binaryOperation().set("other" + i, Buffer.buffer(new byte[1000]).setInt(0, i));
+                            }
+                            return read;
+                        }))
+                .onComplete(should.asyncAssertSuccess(read -> should.assertEquals(value, read)));
+    }
+
+    @Test
+    public void testGetAndDeleteReturnsCopy(TestContext should) {
+        Buffer value = Buffer.buffer("binary value");
+        cache.binaryOperation().set("key", value)
+                .compose(v -> cache.binaryOperation().getAndDelete("key"))
+                .compose(deleted -> cache.binaryOperation().set("other", Buffer.buffer("overwritten!")).map(deleted))
+                .onComplete(should.asyncAssertSuccess(deleted -> should.assertEquals(value, deleted)));
+    }
+
+    @Test
+    public void testLargeValues(TestContext should) {
+        Buffer value = Buffer.buffer(new byte[32 * 1024]);
+        value.setInt(0, 42);
+        cache.binaryOperation().set("large", value)
+                .compose(v -> cache.binaryOperation().get("large"))
+                .onComplete(should.asyncAssertSuccess(result -> should.assertEquals(value, result)));
+    }
+
+    @Test
+    public void testFallbackToHeapWhenFull(TestContext should) {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        for (int i = 0; i < 32; i++) {
+            cache.binaryOperation().set("key" + i, Buffer.buffer(new byte[4096]).setInt(0, i));
+        }
+
+        for (int i = 0; i < 32; i++) {
+            Buffer result = memoryCache.get("key" + i);
+            should.assertEquals(i, result.getInt(0));
+        }
+    }
+
+    @Test
+    public void testMemoryIsReused(TestContext should) {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        for (int i = 0; i < 1000; i++) {
+            cache.binaryOperation().set("key", Buffer.buffer(new byte[4096]).setInt(0, i));
+            memoryCache.remove("key");
+        }
+
+        cache.binaryOperation().set("key", Buffer.buffer(new byte[4096]).setInt(0, 1000));
+        Buffer result = memoryCache.get("key");
+        should.assertEquals(1000, result.getInt(0));
+    }
+
+    @Test
+    public void testMemoryIsReusedOnOverwrite(TestContext should) {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        for (int i = 0; i < 1000; i++) {
+            cache.binaryOperation().set("key", Buffer.buffer(new byte[4096]).setInt(0, i));
+        }
+
+        Buffer result = memoryCache.get("key");
+        should.assertEquals(999, result.getInt(0));
+    }
+
+    @Test
+    public void testSetIfAbsentKeepsExistingValue(TestContext should) {
+        Buffer value = Buffer.buffer("binary value");
+        cache.binaryOperation().set("key", value)
+                .compose(v -> cache.binaryOperation().setIfAbsent("key", Buffer.buffer("other value")))
+                .compose(v -> cache.binaryOperation().setIfAbsent("absent", value))
+                .compose(v -> cache.binaryOperation().getAll(List.of("key", "absent")))
+                .onComplete(should.asyncAssertSuccess(values -> {
+                    should.assertEquals(value, values.get("key"));
+                    should.assertEquals(value, values.get("absent"));
+                }));
+    }
+}
@@ -0,0 +1,83 @@
+package io.vertx.cache.it.memory;
+
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.common.time.ManualTicker;
+import io.vertx.cache.common.time.Ticker;
+import io.vertx.cache.it.AbstractCacheTest;
+import io.vertx.cache.memory.MemoryCache;
+import io.vertx.cache.memory.MemoryCacheOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class MemoryRefreshCacheTest extends AbstractCacheTest {
+
+    private ManualTicker ticker;
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        ticker = Ticker.manual(1_000_000_000L);
+        return MemoryCache.create(vertx, new MemoryCacheOptions()
+                .setTicker(ticker)
+                .setRefreshAfterWrite(1)
+                .setRefreshAfterWriteTimeUnit(TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testStaleValueIsServedWhileRefreshing(TestContext should) {
+        AtomicInteger loads = new AtomicInteger();
+        Promise<String> refresh = Promise.promise();
+        Supplier<Future<String>> loader = () -> loads.incrementAndGet() == 1 ? Future.succeededFuture("value1") : refresh.future();
+
+        cache.strings().getOrLoad("key", loader, 10, TimeUnit.SECONDS)
+                .compose(value -> {
+                    should.assertEquals("value1", value);
+                    ticker.advance(500, TimeUnit.MILLISECONDS);
+                    return cache.strings().getOrLoad("key", loader, 10, TimeUnit.SECONDS);
+                })
+                .compose(value -> {
+                    // Not due for a refresh yet
+                    should.assertEquals(1, loads.get());
+                    ticker.advance(600, TimeUnit.MILLISECONDS);
+                    return cache.strings().getOrLoad("key", loader, 10, TimeUnit.SECONDS);
+                })
+                .compose(value -> {
+                    // The current value is served right away, and a single reload runs in the background
+                    should.assertEquals("value1", value);
+                    return cache.strings().getOrLoad("key", loader, 10, TimeUnit.SECONDS);
+                })
+                .compose(value -> {
+                    should.assertEquals("value1", value);
+                    should.assertEquals(2, loads.get());
+                    refresh.complete("value2");
+                    return cache.strings().getOrLoad("key", loader, 10, TimeUnit.SECONDS);
+                })
+                .onComplete(should.asyncAssertSuccess(value -> {
+                    should.assertEquals("value2", value);
+                    should.assertEquals(2, loads.get());
+                }));
+    }
+
+    @Test
+    public void testFailedRefreshKeepsValue(TestContext should) {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Future<String>> loader = () -> loads.incrementAndGet() == 1 ? Future.succeededFuture("value1") : Future.failedFuture("unavailable");
+
+        cache.strings().getOrLoad("key", loader, 10, TimeUnit.SECONDS)
+                .compose(value -> {
+                    ticker.advance(2, TimeUnit.SECONDS);
+                    return cache.strings().getOrLoad("key", loader, 10, TimeUnit.SECONDS);
+                })
+                .compose(value -> cache.strings().get("key"))
+                .onComplete(should.asyncAssertSuccess(value -> {
+                    should.assertEquals("value1", value);
+                    should.assertEquals(2, loads.get());
+                }));
+    }
+}
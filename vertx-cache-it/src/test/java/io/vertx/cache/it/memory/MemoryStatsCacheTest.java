@@ -0,0 +1,64 @@
+package io.vertx.cache.it.memory;
+
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.common.CacheStats;
+import io.vertx.cache.common.time.ManualTicker;
+import io.vertx.cache.common.time.Ticker;
+import io.vertx.cache.it.AbstractCacheTest;
+import io.vertx.cache.memory.MemoryCache;
+import io.vertx.cache.memory.MemoryCacheOptions;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class MemoryStatsCacheTest extends AbstractCacheTest {
+
+    private static final int MAXIMUM_SIZE = 100;
+
+    private ManualTicker ticker;
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        ticker = Ticker.manual(1_000_000_000L);
+        return MemoryCache.create(vertx, new MemoryCacheOptions()
+                .setTicker(ticker)
+                .setMaximumSize(MAXIMUM_SIZE));
+    }
+
+    @Test
+    public void testEvictionsAreCounted(TestContext should) {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        for (int i = 0; i < MAXIMUM_SIZE * 2; i++) {
+            memoryCache.put("key" + i, "value" + i);
+        }
+
+        CacheStats stats = cache.stats();
+        should.assertEquals((long) memoryCache.keySet().size(), stats.getSize());
+        should.assertEquals(stats.getSize(), stats.getWeight());
+        should.assertTrue(stats.getSize() <= MAXIMUM_SIZE);
+        should.assertEquals(MAXIMUM_SIZE * 2L - stats.getSize(), stats.getEvictionCount());
+        should.assertEquals(0L, stats.getExpirationCount());
+    }
+
+    @Test
+    public void testExpirationsAreCounted(TestContext should) {
+        cache.strings().set("key1", "value1", 1, TimeUnit.SECONDS)
+                .compose(v -> cache.strings().set("key2", "value2", 1, TimeUnit.MINUTES))
+                .compose(v -> {
+                    ticker.advance(2, TimeUnit.SECONDS);
+                    return cache.strings().get("key1");
+                })
+                .onComplete(should.asyncAssertSuccess(value -> {
+                    should.assertNull(value);
+
+                    CacheStats stats = cache.stats();
+                    should.assertEquals(1L, stats.getExpirationCount());
+                    should.assertEquals(0L, stats.getEvictionCount());
+                    should.assertEquals(1L, stats.getSize());
+                    should.assertEquals(1L, stats.getMissCount());
+                    should.assertEquals(0.0, stats.hitRate());
+                }));
+    }
+}
@@ -0,0 +1,81 @@
+package io.vertx.cache.it.memory;
+
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.common.event.CacheEvent;
+import io.vertx.cache.common.time.ManualTicker;
+import io.vertx.cache.common.time.Ticker;
+import io.vertx.cache.it.AbstractCacheTest;
+import io.vertx.cache.memory.MemoryCache;
+import io.vertx.cache.memory.MemoryCacheOptions;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class MemoryTickerCacheTest extends AbstractCacheTest {
+
+    private static final long START = 1_000_000_000L;
+
+    private ManualTicker ticker;
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        ticker = Ticker.manual(START);
+        return MemoryCache.create(vertx, new MemoryCacheOptions()
+                .setTicker(ticker)
+                .setCleanupInterval(10)
+                .setCleanupIntervalTimeUnit(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testEntryExpiresWhenTickerAdvances(TestContext should) {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        memoryCache.put("key", "value", 1000);
+
+        ticker.advance(999, TimeUnit.MILLISECONDS);
+        should.assertEquals("value", memoryCache.get("key"));
+
+        ticker.advance(2, TimeUnit.MILLISECONDS);
+        should.assertNull(memoryCache.get("key"));
+    }
+
+    @Test
+    public void testEntryDoesNotExpireWithoutTicker(TestContext should) {
+        Async async = should.async();
+        MemoryCache memoryCache = (MemoryCache) cache;
+        memoryCache.put("key", "value", 1);
+
+        vertx.setTimer(100, id -> {
+            should.assertEquals("value", memoryCache.get("key"));
+            async.complete();
+        });
+    }
+
+    @Test
+    public void testCleanupUsesTicker(TestContext should) {
+        Async async = should.async();
+        MemoryCache memoryCache = (MemoryCache) cache;
+
+        cache.events().registerEventHandler(CacheEvent.EventType.KEY_EXPIRED, event -> {
+                    should.assertEquals("key", event.getKey());
+                    should.assertTrue(event.getTimestamp() >= START + 1000);
+                    async.complete();
+                })
+                .onComplete(should.asyncAssertSuccess(id -> {
+                    memoryCache.put("key", "value", 1000);
+                    ticker.advance(1, TimeUnit.MINUTES);
+                }));
+
+        async.awaitSuccess(5000);
+    }
+
+    @Test
+    public void testCoarseClock(TestContext should) {
+        MemoryCache coarse = MemoryCache.create(vertx, new MemoryCacheOptions().setClockResolution(10));
+        coarse.put("key", "value", 60000);
+        should.assertEquals("value", coarse.get("key"));
+        coarse.close().onComplete(should.asyncAssertSuccess());
+    }
+}
@@ -0,0 +1,98 @@
+package io.vertx.cache.it.memory;
+
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.it.AbstractCacheTest;
+import io.vertx.cache.memory.MemoryCache;
+import io.vertx.cache.memory.MemoryCacheOptions;
+import io.vertx.cache.memory.Weigher;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import org.junit.Test;
+
+public class MemoryWeightCacheTest extends AbstractCacheTest {
+
+    private static final long MAXIMUM_WEIGHT = 64 * 1024;
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        return MemoryCache.create(vertx, new MemoryCacheOptions().setMaximumWeight(MAXIMUM_WEIGHT));
+    }
+
+    @Test
+    public void testMaximumWeightIsEnforced(TestContext should) {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        for (int i = 0; i < 100; i++) {
+            memoryCache.put("key" + i, Buffer.buffer(new byte[4096]));
+        }
+
+        long weight = memoryCache.keySet().size() * (long) Weigher.bytes().weigh("key00", Buffer.buffer(new byte[4096]));
+        should.assertTrue(weight <= MAXIMUM_WEIGHT);
+        should.assertTrue(memoryCache.keySet().size() >= 10);
+    }
+
+    @Test
+    public void testOversizedValueIsNotRetained(TestContext should) {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        for (int i = 0; i < 10; i++) {
+            memoryCache.put("key" + i, "value" + i);
+        }
+
+        memoryCache.put("large", Buffer.buffer(new byte[(int) MAXIMUM_WEIGHT * 2]));
+
+        should.assertNull(memoryCache.get("large"));
+        should.assertEquals(10, memoryCache.keySet().size());
+    }
+
+    @Test
+    public void testReplaceUpdatesWeight(TestContext should) {
+        MemoryCache memoryCache = (MemoryCache) cache;
+        for (int i = 0; i < 10; i++) {
+            memoryCache.put("key" + i, Buffer.buffer(new byte[4096]));
+        }
+        for (int i = 0; i < 10; i++) {
+            memoryCache.put("key" + i, "small");
+        }
+        for (int i = 0; i < 100; i++) {
+            memoryCache.put("json" + i, new JsonObject().put("index", i));
+        }
+
+        should.assertEquals(110, memoryCache.keySet().size());
+    }
+
+    @Test
+    public void testCustomWeigher(TestContext should) {
+        MemoryCache memoryCache = MemoryCache.create(vertx, new MemoryCacheOptions()
+                .setMaximumWeight(100)
+                .setWeigher((key, value) -> ((String) value).length()));
+        for (int i = 0; i < 100; i++) {
+            memoryCache.put("key" + i, "0123456789");
+        }
+
+        should.assertTrue(memoryCache.keySet().size() <= 10);
+        should.assertTrue(memoryCache.keySet().size() >= 5);
+        memoryCache.close();
+    }
+
+    @Test
+    public void testZeroWeightEntriesAreNotEvicted(TestContext should) {
+        MemoryCache memoryCache = MemoryCache.create(vertx, new MemoryCacheOptions()
+                .setMaximumWeight(100)
+                .setWeigher((key, value) -> key.startsWith("pinned") ? 0 : 10));
+        for (int i = 0; i < 10; i++) {
+            memoryCache.put("pinned" + i, "value" + i);
+        }
+        for (int i = 0; i < 100; i++) {
+            memoryCache.put("key" + i, "value" + i);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            should.assertEquals("value" + i, memoryCache.get("pinned" + i));
+        }
+        long weighted = memoryCache.keySet().stream().filter(key -> key.startsWith("key")).count();
+        should.assertTrue(weighted <= 10);
+        should.assertTrue(weighted >= 5);
+        memoryCache.close();
+    }
+}
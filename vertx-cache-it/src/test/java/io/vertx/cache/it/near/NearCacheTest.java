@@ -0,0 +1,109 @@
+package io.vertx.cache.it.near;
+
+import com.redis.testcontainers.RedisContainer;
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.distributed.DistributedCache;
+import io.vertx.cache.distributed.DistributedCacheOptions;
+import io.vertx.cache.it.operation.OperationCacheTest;
+import io.vertx.cache.near.NearCache;
+import io.vertx.cache.near.NearCacheOptions;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.redis.client.RedisOptions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class NearCacheTest extends OperationCacheTest {
+
+    private final RedisContainer container = new RedisContainer(RedisContainer.DEFAULT_IMAGE_NAME.withTag(RedisContainer.DEFAULT_TAG));
+
+    private DistributedCacheOptions distributedOptions;
+
+    @Before
+    @Override
+    public void setUp() {
+        this.vertx = Vertx.vertx();
+        this.container.start();
+
+        // Enable keyspace notifications in Redis, the near cache relies on them for invalidation
+        try {
+            this.container.execInContainer("redis-cli", "config", "set", "notify-keyspace-events", "KEA");
+        } catch (IOException | InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+
+        this.distributedOptions = new DistributedCacheOptions()
+                .setKeyPrefix("test:" + System.currentTimeMillis() + ":")
+                .setRedisOptions(new RedisOptions().setConnectionString(container.getRedisURI()));
+        this.cache = cache(vertx);
+    }
+
+    @Override
+    protected Cache cache(Vertx vertx) {
+        return NearCache.create(vertx, new NearCacheOptions()
+                .setDistributedOptions(distributedOptions)
+                .setLocalMaximumSize(1000));
+    }
+
+    @After
+    @Override
+    public void tearDown(TestContext should) {
+        super.tearDown(should);
+    }
+
+    @Test
+    public void testReadYourWrites(TestContext should) {
+        NearCache nearCache = (NearCache) cache;
+
+        nearCache.strings().set("key", "value1")
+                .compose(v -> nearCache.strings().get("key"))
+                .compose(value -> {
+                    should.assertEquals("value1", value);
+                    return nearCache.strings().set("key", "value2");
+                })
+                .compose(v -> nearCache.strings().get("key"))
+                .onComplete(should.asyncAssertSuccess(value -> should.assertEquals("value2", value)));
+    }
+
+    @Test
+    public void testInvalidationByAnotherNode(TestContext should) {
+        NearCache nearCache = (NearCache) cache;
+        DistributedCache otherNode = DistributedCache.create(vertx, new DistributedCacheOptions(distributedOptions));
+        Async async = should.async();
+
+        nearCache.strings().set("key", "value1")
+                .compose(v -> nearCache.strings().get("key"))
+                .compose(value -> {
+                    should.assertEquals("value1", value);
+                    return otherNode.strings().set("key", "value2");
+                })
+                .onComplete(should.asyncAssertSuccess(v -> {
+                    // The local value is dropped once the notification of the other write arrives
+                    long timerId = vertx.setPeriodic(50, id -> nearCache.strings().get("key").onSuccess(value -> {
+                        if ("value2".equals(value)) {
+                            vertx.cancelTimer(id);
+                            otherNode.close().onComplete(should.asyncAssertSuccess(closed -> async.complete()));
+                        }
+                    }));
+                    vertx.setTimer(5000, id -> {
+                        if (vertx.cancelTimer(timerId)) {
+                            should.fail("The local value was not invalidated");
+                        }
+                    });
+                }));
+    }
+
+    @Test
+    public void testDeleteInvalidatesLocalValue(TestContext should) {
+        NearCache nearCache = (NearCache) cache;
+
+        nearCache.strings().set("key", "value")
+                .compose(v -> nearCache.strings().get("key"))
+                .compose(value -> nearCache.strings().delete("key"))
+                .onComplete(should.asyncAssertSuccess(v -> should.assertNull(nearCache.getLocalCache().get("key"))));
+    }
+}
@@ -1,12 +1,46 @@
 package io.vertx.cache.it.operation;
 
 import io.vertx.cache.common.Cache;
+import io.vertx.cache.common.operation.ValueOperation;
 import io.vertx.cache.memory.MemoryCache;
 import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import org.junit.Test;
 
 public class MemoryOperationCacheTest extends OperationCacheTest {
     @Override
     protected Cache cache(Vertx vertx) {
         return MemoryCache.create(vertx);
     }
+
+    @Test
+    public void testRegisteredTypeSerializers(TestContext should) {
+        Profile profile = new Profile("Alice", 42, Level.ADMIN, new Address("Prague", null));
+        ValueOperation<Profile> profiles = cache.value(Profile.class);
+
+        profiles.set("profile:1", profile, profiles.getSerializer())
+                .compose(v -> profiles.get("profile:1", profiles.getDeserializer()))
+                .onComplete(should.asyncAssertSuccess(value -> should.assertEquals(profile, value)));
+    }
+
+    @Test
+    public void testUnsupportedTypeSerializersFail(TestContext should) {
+        Opaque opaque = new Opaque();
+        ValueOperation<Opaque> values = cache.value(Opaque.class);
+
+        try {
+            values.getSerializer().serialize(opaque);
+            should.fail("The value should not be serialized");
+        } catch (IllegalStateException expected) {
+            should.assertTrue(expected.getMessage().contains(Opaque.class.getName()));
+        }
+
+        // Values are stored as they are, so they do not need to be serialized
+        values.set("opaque", opaque)
+                .compose(v -> values.get("opaque"))
+                .onComplete(should.asyncAssertSuccess(value -> should.assertTrue(value == opaque)));
+    }
+
+    static class Opaque {
+    }
 }
@@ -1,13 +1,27 @@
 package io.vertx.cache.it.operation;
 
+import io.vertx.cache.common.CacheStats;
+import io.vertx.cache.common.operation.KeyOperation;
 import io.vertx.cache.it.AbstractCacheTest;
+import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 public abstract class OperationCacheTest extends AbstractCacheTest {
 
@@ -30,6 +44,133 @@ public abstract class OperationCacheTest extends AbstractCacheTest {
                 }));
     }
 
+    @Test
+    public void testKeyPatternOperations(TestContext should) {
+        cache.value(String.class).set("tenant:1:a", "value")
+                .compose(v -> cache.value(String.class).set("tenant:1:b", "value"))
+                .compose(v -> cache.value(String.class).set("tenant:12:a", "value"))
+                .compose(v -> cache.value(String.class).set("tenant:2:a", "value"))
+                .compose(v -> cache.keys().keys("tenant:1:*"))
+                .compose(keys -> {
+                    should.assertEquals(Set.of("tenant:1:a", "tenant:1:b"), keys);
+                    return cache.keys().keys("tenant:1?:a");
+                })
+                .compose(keys -> {
+                    should.assertEquals(Set.of("tenant:12:a"), keys);
+                    return cache.keys().keys("*:a");
+                })
+                .compose(keys -> {
+                    should.assertEquals(Set.of("tenant:1:a", "tenant:12:a", "tenant:2:a"), keys);
+                    return cache.keys().keys("tenant:2:a");
+                })
+                .onComplete(should.asyncAssertSuccess(keys -> should.assertEquals(Set.of("tenant:2:a"), keys)));
+    }
+
+    @Test
+    public void testScanOperation(TestContext should) {
+        Async async = should.async();
+        List<Future<Void>> writes = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            writes.add(cache.value(String.class).set("scan:" + i, "value"));
+        }
+        for (int i = 0; i < 10; i++) {
+            writes.add(cache.value(String.class).set("other:" + i, "value"));
+        }
+
+        Set<String> keys = new HashSet<>();
+        Future.all(writes).onComplete(should.asyncAssertSuccess(v -> cache.keys().scan("scan:*", 10)
+                .exceptionHandler(should::fail)
+                .endHandler(end -> {
+                    should.assertEquals(250, keys.size());
+                    should.assertTrue(keys.stream().allMatch(key -> key.startsWith("scan:")));
+                    async.complete();
+                })
+                .handler(keys::add)));
+    }
+
+    @Test
+    public void testScanBackpressure(TestContext should) {
+        Async async = should.async();
+        List<Future<Void>> writes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            writes.add(cache.value(String.class).set("scan:" + i, "value"));
+        }
+
+        List<String> keys = new ArrayList<>();
+        Future.all(writes).onComplete(should.asyncAssertSuccess(v -> {
+            ReadStream<String> stream = cache.keys().scan("scan:*", 20);
+            stream.pause();
+            stream.handler(keys::add);
+            stream.fetch(5);
+            vertx.setTimer(200, id -> {
+                should.assertEquals(5, keys.size());
+                stream.endHandler(end -> {
+                    should.assertEquals(50, new HashSet<>(keys).size());
+                    async.complete();
+                });
+                stream.resume();
+            });
+        }));
+    }
+
+    @Test
+    public void testScanCursor(TestContext should) {
+        List<Future<Void>> writes = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            writes.add(cache.value(String.class).set("scan:" + i, "value"));
+        }
+        for (int i = 0; i < 10; i++) {
+            writes.add(cache.value(String.class).set("other:" + i, "value"));
+        }
+
+        List<String> keys = new ArrayList<>();
+        Future.all(writes)
+                .compose(v -> scanPages(KeyOperation.START_CURSOR, "scan:*", keys))
+                .onComplete(should.asyncAssertSuccess(v -> {
+                    should.assertEquals(250, new HashSet<>(keys).size());
+                    should.assertTrue(keys.stream().allMatch(key -> key.startsWith("scan:")));
+                }));
+    }
+
+    private Future<Void> scanPages(String cursor, String pattern, List<String> keys) {
+        return cache.keys().scan(cursor, pattern, 10).compose(page -> {
+            keys.addAll(page.getKeys());
+            return page.isComplete() ? Future.succeededFuture() : scanPages(page.getCursor(), pattern, keys);
+        });
+    }
+
+    @Test
+    public void testBulkOperations(TestContext should) {
+        cache.strings().setAll(Map.of("bulk1", "value1", "bulk2", "value2"))
+                .compose(v -> cache.strings().setAll(Map.of("bulk3", "value3"), 1, TimeUnit.MINUTES))
+                .compose(v -> cache.strings().getAll(List.of("bulk1", "bulk2", "bulk3", "missing")))
+                .compose(values -> {
+                    should.assertEquals(Map.of("bulk1", "value1", "bulk2", "value2", "bulk3", "value3"), values);
+                    return cache.integers().setAll(Map.of("count1", 1L, "count2", 2L), 1, TimeUnit.MINUTES);
+                })
+                .compose(v -> cache.integers().getAll(List.of("count1", "count2")))
+                .compose(values -> {
+                    should.assertEquals(Map.of("count1", 1L, "count2", 2L), values);
+                    return cache.strings().getAll(List.of());
+                })
+                .onComplete(should.asyncAssertSuccess(values -> should.assertTrue(values.isEmpty())));
+    }
+
+    @Test
+    public void testGetAndSetOperation(TestContext should) {
+        cache.strings().getAndSet("key1", "value1")
+                .compose(previous -> {
+                    should.assertNull(previous);
+                    return cache.strings().getAndSet("key1", "value2");
+                })
+                .compose(previous -> {
+                    should.assertEquals("value1", previous);
+                    return cache.strings().set("key1", "value3", 1, TimeUnit.MINUTES);
+                })
+                .compose(v -> cache.strings().get("key1"))
+                .onComplete(should.asyncAssertSuccess(value -> should.assertEquals("value3", value)));
+    }
+
     @Test
     public void testDeleteOperation(TestContext should) {
         cache.value(String.class).set("key1", "value1")
@@ -127,4 +268,156 @@ public abstract class OperationCacheTest extends AbstractCacheTest {
                     }
                 }));
     }
+
+    @Test
+    public void testNonTextBinaryOperations(TestContext should) {
+        // Bytes that are not valid UTF-8 must come back unchanged
+        byte[] data = new byte[] { (byte) 0xFF, (byte) 0xFE, 0, (byte) 0xC3, 0x28, (byte) 0x80 };
+
+        cache.binaryOperation().setAll(Map.of("binary:1", Buffer.buffer(data)))
+                .compose(v -> cache.binaryOperation().getAndSet("binary:2", Buffer.buffer(data)))
+                .compose(v -> cache.binaryOperation().getAll(List.of("binary:1", "binary:2")))
+                .onComplete(should.asyncAssertSuccess(values -> {
+                    should.assertEquals(2, values.size());
+                    values.values().forEach(value -> should.assertEquals(Buffer.buffer(data), value));
+                }));
+    }
+
+    @Test
+    public void testRecordValueOperations(TestContext should) {
+        Profile profile = new Profile("Alice", 42, Level.ADMIN, new Address("Prague", null));
+
+        cache.value(Profile.class).set("profile:1", profile)
+                .compose(v -> cache.value(Profile.class).get("profile:1"))
+                .onComplete(should.asyncAssertSuccess(value -> should.assertEquals(profile, value)));
+    }
+
+    @Test
+    public void testGetOrLoad(TestContext should) {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Future<String>> loader = () -> {
+            loads.incrementAndGet();
+            Promise<String> promise = Promise.promise();
+            vertx.setTimer(50, id -> promise.complete("loaded"));
+            return promise.future();
+        };
+
+        // Concurrent misses share a single load
+        List<Future<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            calls.add(cache.strings().getOrLoad("key1", loader, 1, TimeUnit.MINUTES));
+        }
+
+        Future.all(calls)
+                .compose(v -> cache.strings().getOrLoad("key1", loader, 1, TimeUnit.MINUTES))
+                .compose(value -> {
+                    should.assertEquals("loaded", value);
+                    return cache.strings().get("key1");
+                })
+                .onComplete(should.asyncAssertSuccess(value -> {
+                    should.assertEquals("loaded", value);
+                    should.assertEquals(1, loads.get());
+                    calls.forEach(call -> should.assertEquals("loaded", call.result()));
+                }));
+    }
+
+    @Test
+    public void testGetOrLoadCompletesOnCallerContext(TestContext should) {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Future<String>> loader = () -> {
+            loads.incrementAndGet();
+            Promise<String> promise = Promise.promise();
+            vertx.setTimer(200, id -> promise.complete("loaded"));
+            return promise.future();
+        };
+
+        // Callers on different event loops share the load, each getting its result on its own context
+        Async async = should.async(2);
+        for (int i = 0; i < 2; i++) {
+            vertx.deployVerticle(new AbstractVerticle() {
+                @Override
+                public void start() {
+                    cache.strings().getOrLoad("key1", loader, 1, TimeUnit.MINUTES).onComplete(should.asyncAssertSuccess(value -> {
+                        should.assertEquals("loaded", value);
+                        should.assertEquals(context, Vertx.currentContext());
+                        async.countDown();
+                    }));
+                }
+            }).onFailure(should::fail);
+        }
+
+        async.awaitSuccess(5000);
+        should.assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testGetOrLoadFailure(TestContext should) {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.strings().getOrLoad("key1", () -> {
+                    loads.incrementAndGet();
+                    return Future.failedFuture("unavailable");
+                }, 1, TimeUnit.MINUTES)
+                .recover(err -> {
+                    should.assertEquals("unavailable", err.getMessage());
+                    // A failed load is not remembered
+                    return cache.strings().getOrLoad("key1", () -> {
+                        loads.incrementAndGet();
+                        return Future.succeededFuture("loaded");
+                    }, 0, TimeUnit.MINUTES);
+                })
+                .onComplete(should.asyncAssertSuccess(value -> {
+                    should.assertEquals("loaded", value);
+                    should.assertEquals(2, loads.get());
+                }));
+    }
+
+    @Test
+    public void testStats(TestContext should) {
+        cache.strings().set("key1", "value1")
+                .compose(v -> cache.strings().get("key1"))
+                .compose(v -> cache.strings().get("missing"))
+                .compose(v -> cache.strings().getAll(List.of("key1", "missing")))
+                .compose(v -> cache.integers().getOrLoad("counter", () -> Future.succeededFuture(42L), 1, TimeUnit.MINUTES))
+                .compose(v -> cache.integers().getOrLoad("failing", () -> Future.failedFuture("unavailable"), 1, TimeUnit.MINUTES).otherwiseEmpty())
+                .compose(v -> cache.value(Profile.class).get("profile"))
+                .onComplete(should.asyncAssertSuccess(v -> {
+                    CacheStats stats = cache.stats();
+                    should.assertEquals(2L, stats.getHitCount());
+                    should.assertEquals(5L, stats.getMissCount());
+                    should.assertEquals(1L, stats.getLoadSuccessCount());
+                    should.assertEquals(1L, stats.getLoadFailureCount());
+                    should.assertTrue(stats.getTotalLoadTime() > 0);
+
+                    CacheStats strings = stats.operation(CacheStats.STRINGS);
+                    should.assertEquals(2L, strings.getHitCount());
+                    should.assertEquals(2L, strings.getMissCount());
+                    should.assertEquals(0L, strings.getLoadSuccessCount());
+
+                    CacheStats integers = stats.operation(CacheStats.INTEGERS);
+                    should.assertEquals(0L, integers.getHitCount());
+                    should.assertEquals(2L, integers.getMissCount());
+                    should.assertEquals(1L, integers.getLoadSuccessCount());
+                    should.assertEquals(1L, integers.getLoadFailureCount());
+
+                    should.assertEquals(1L, stats.operation(CacheStats.VALUE).getMissCount());
+                    should.assertEquals(0L, stats.operation(CacheStats.JSON).getMissCount());
+
+                    // The stats survive a round trip through JSON
+                    CacheStats copy = new CacheStats(stats.toJson());
+                    should.assertEquals(stats.toJson(), copy.toJson());
+                    should.assertEquals(2L, copy.operation(CacheStats.STRINGS).getHitCount());
+                }));
+    }
+
+    enum Level {
+        USER,
+        ADMIN
+    }
+
+    record Address(String city, String street) {
+    }
+
+    record Profile(String name, int age, Level level, Address address) {
+    }
 }
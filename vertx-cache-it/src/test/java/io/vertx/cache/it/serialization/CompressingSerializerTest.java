@@ -0,0 +1,78 @@
+package io.vertx.cache.it.serialization;
+
+import io.vertx.cache.common.operation.binary.BinarySerializer;
+import io.vertx.cache.common.serialization.CacheCompression;
+import io.vertx.cache.common.serialization.CompressingSerializer;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CompressingSerializerTest {
+
+    private static final BinarySerializer BINARY = new BinarySerializer();
+
+    private static CompressingSerializer<Buffer> serializer(CacheCompression compression) {
+        return new CompressingSerializer<>(BINARY, BINARY, compression, 64);
+    }
+
+    private static Buffer json() {
+        JsonArray users = new JsonArray();
+        for (int i = 0; i < 500; i++) {
+            users.add(new JsonObject().put("id", i).put("name", "user-" + i).put("email", "user-" + i + "@example.com").put("active", i % 2 == 0));
+        }
+        return new JsonObject().put("users", users).toBuffer();
+    }
+
+    private static void assertRoundTrip(CacheCompression compression, Buffer value) {
+        CompressingSerializer<Buffer> serializer = serializer(compression);
+        assertEquals(value, serializer.deserialize(serializer.serialize(value)));
+    }
+
+    @Test
+    public void testCompressesLargeValues() {
+        Buffer value = json();
+        for (CacheCompression compression : new CacheCompression[] { CacheCompression.LZ4, CacheCompression.DEFLATE }) {
+            Buffer serialized = serializer(compression).serialize(value);
+            assertTrue(compression + " did not compress", serialized.length() < value.length() / 3);
+            assertRoundTrip(compression, value);
+        }
+    }
+
+    @Test
+    public void testRoundTrips() {
+        Random random = new Random(42);
+        byte[] noise = new byte[10000];
+        random.nextBytes(noise);
+        byte[] runs = new byte[70000];
+        for (int i = 0; i < runs.length; i++) {
+            runs[i] = (byte) (i / 300 % 3);
+        }
+
+        for (CacheCompression compression : CacheCompression.values()) {
+            assertRoundTrip(compression, Buffer.buffer());
+            assertRoundTrip(compression, Buffer.buffer("short"));
+            assertRoundTrip(compression, Buffer.buffer(noise));
+            assertRoundTrip(compression, Buffer.buffer(runs));
+            assertRoundTrip(compression, Buffer.buffer("abcabcabcabcabcabcabcabcabcabcabcabcabcabcabcabcabcabcabcabcabcabcabcabcabc"));
+            // Values starting with the header marker must not be mistaken for compressed values
+            assertRoundTrip(compression, Buffer.buffer(new byte[] { (byte) 0xFF, 1, 2, 3 }));
+            assertRoundTrip(compression, Buffer.buffer().appendByte((byte) 0xFF).appendBuffer(Buffer.buffer(noise)));
+        }
+    }
+
+    @Test
+    public void testReadsValuesOfOtherCodecs() {
+        Buffer value = json();
+        Buffer compressed = serializer(CacheCompression.LZ4).serialize(value);
+
+        // Values are read according to their header, and values written before compression remain readable
+        assertEquals(value, serializer(CacheCompression.DEFLATE).deserialize(compressed));
+        assertEquals(value, serializer(CacheCompression.LZ4).deserialize(value));
+    }
+}
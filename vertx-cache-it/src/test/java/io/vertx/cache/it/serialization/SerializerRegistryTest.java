@@ -0,0 +1,124 @@
+package io.vertx.cache.it.serialization;
+
+import io.vertx.cache.common.serialization.CacheSerializer;
+import io.vertx.cache.common.serialization.SerializerRegistry;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class SerializerRegistryTest {
+
+    enum Color {
+        RED,
+        GREEN {
+            @Override
+            public String toString() {
+                return "green";
+            }
+        }
+    }
+
+    record Point(int x, int y) {
+    }
+
+    record Shape(String name, Color color, List<Point> points) {
+    }
+
+    record Segment(Point from, Point to, Color color, double length, String label) {
+    }
+
+    public static class Settings {
+
+        private final String theme;
+
+        public Settings(JsonObject json) {
+            this.theme = json.getString("theme");
+        }
+
+        public JsonObject toJson() {
+            return new JsonObject().put("theme", theme);
+        }
+    }
+
+    private static Object roundTrip(SerializerRegistry registry, Object value) {
+        return registry.deserialize(registry.serialize(value));
+    }
+
+    @Test
+    public void testBuiltinTypes() {
+        SerializerRegistry registry = SerializerRegistry.create();
+        List<Object> values = List.of(true, (byte) -3, (short) 1234, 'x', -42, Long.MAX_VALUE, 1.5f, Math.PI, "héllo",
+                Buffer.buffer(new byte[] { 0, (byte) 0xFF }), new JsonObject().put("a", 1), new JsonArray().add("b"));
+        for (Object value : values) {
+            assertEquals(value, roundTrip(registry, value));
+        }
+        assertArrayEquals(new byte[] { 1, 2, 3 }, (byte[]) roundTrip(registry, new byte[] { 1, 2, 3 }));
+        assertNull(registry.serialize(null));
+
+        // A type id and the encoding of the value, without any class name
+        assertEquals(5, registry.serialize(7).length());
+        assertEquals(1 + 5, registry.serialize("hello").length());
+    }
+
+    @Test
+    public void testDerivedTypes() {
+        SerializerRegistry registry = SerializerRegistry.create();
+        Segment segment = new Segment(new Point(1, 2), new Point(3, 4), Color.GREEN, 2.8, null);
+        assertEquals(segment, roundTrip(registry, segment));
+        assertEquals(Color.GREEN, roundTrip(registry, Color.GREEN));
+
+        Settings settings = (Settings) roundTrip(registry, new Settings(new JsonObject().put("theme", "dark")));
+        assertEquals("dark", settings.theme);
+
+        // Lists are not supported, so neither are the records holding them
+        assertFalse(registry.supports(Shape.class));
+        assertFalse(registry.supports(Object.class));
+        assertTrue(registry.supports(int.class));
+    }
+
+    @Test
+    public void testTypedSerializers() {
+        SerializerRegistry writer = SerializerRegistry.create();
+        SerializerRegistry reader = SerializerRegistry.create();
+        Segment segment = new Segment(new Point(-1, 0), new Point(5, 5), Color.RED, 0, "diagonal");
+
+        // The derived ids are bound by the reader the first time its deserializer meets them
+        Buffer data = writer.serializer(Segment.class).serialize(segment);
+        assertEquals(segment, reader.deserializer(Segment.class).deserialize(data));
+        assertEquals(42, (int) reader.deserializer(int.class).deserialize(writer.serializer(Integer.class).serialize(42)));
+    }
+
+    @Test
+    public void testExplicitIds() {
+        SerializerRegistry registry = SerializerRegistry.create().register(Point.class, 64);
+        assertEquals(new Point(7, 8), roundTrip(registry, new Point(7, 8)));
+        // One byte of type id, then the two fixed size components
+        assertEquals(1 + 2 * (1 + 4), registry.serialize(new Point(7, 8)).length());
+
+        CacheSerializer<StringBuilder> serializer = value -> Buffer.buffer(value.toString());
+        registry.register(StringBuilder.class, 300, serializer, data -> new StringBuilder(data.toString()));
+        assertEquals("text", roundTrip(registry, new StringBuilder("text")).toString());
+
+        assertThrows(IllegalStateException.class, () -> registry.register(Color.class, 64));
+        assertThrows(IllegalStateException.class, () -> registry.register(Point.class, 65));
+        assertThrows(IllegalArgumentException.class, () -> registry.register(Color.class, 12));
+        assertThrows(IllegalArgumentException.class, () -> registry.register(Object.class, 70));
+    }
+
+    @Test
+    public void testUnknownTypeId() {
+        SerializerRegistry writer = SerializerRegistry.create().register(Point.class, 64);
+        Buffer data = writer.serialize(new Point(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> SerializerRegistry.create().deserialize(data));
+    }
+}
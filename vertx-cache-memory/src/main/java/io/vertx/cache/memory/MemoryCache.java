@@ -2,9 +2,13 @@ package io.vertx.cache.memory;
 
 import io.vertx.cache.common.Cache;
 import io.vertx.cache.memory.impl.MemoryCacheImpl;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Vertx;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -43,12 +47,34 @@ public interface MemoryCache extends Cache {
     Vertx getVertx();
 
     /**
-     * Retrieves the set of keys currently stored in the cache.
+     * Retrieves the set of keys currently holding a value. Expired entries and keys remembered as absent by {@link MemoryCacheOptions#setNegativeTtl(long) negative caching} are
+     * left out.
      *
-     * @return A set containing all keys present in the cache
+     * @return A live view of the keys present in the cache
      */
     Set<String> keySet();
 
+    /**
+     * Retrieves the keys currently holding a value that start with a prefix, leaving out the same keys as {@link #keySet()}. When {@link MemoryCacheOptions#setKeyIndex(boolean) the key index} is enabled, only the
+     * matching keys are visited.
+     *
+     * @param prefix The key prefix
+     * @return A set containing the matching keys
+     */
+    Set<String> keySet(String prefix);
+
+    /**
+     * Retrieves, in ascending order, the first keys currently holding a value that start with a prefix and come after a given key, leaving out the same keys as
+     * {@link #keySet()}. Paging through the keys with the last key of each page gives every key present the whole time exactly once. When
+     * {@link MemoryCacheOptions#setKeyIndex(boolean) the key index} is enabled, only the keys of the page are visited, otherwise every key is.
+     *
+     * @param prefix The key prefix
+     * @param after The key the page starts after, or null to start from the first key
+     * @param count The maximum number of keys of the page
+     * @return The keys of the page, in ascending order
+     */
+    List<String> keysAfter(String prefix, String after, int count);
+
     /**
      * Puts a value in the cache with the default TTL.
      *
@@ -70,6 +96,55 @@ public interface MemoryCache extends Cache {
      */
     <T> T put(String key, T value, long ttlMillis);
 
+    /**
+     * Puts a value in the cache with the default TTL, discarding the previous value. Unlike {@link #put(String, Object)}, the previous value is released without being read, which
+     * spares copying it back to the heap when it is stored off-heap.
+     *
+     * @param key The key
+     * @param value The value
+     * @param <T> The type of the value
+     */
+    <T> void set(String key, T value);
+
+    /**
+     * Puts a value in the cache with a custom TTL, discarding the previous value without reading it.
+     *
+     * @param key The key
+     * @param value The value
+     * @param ttlMillis The TTL in milliseconds
+     * @param <T> The type of the value
+     */
+    <T> void set(String key, T value, long ttlMillis);
+
+    /**
+     * Atomically puts a value in the cache with the default TTL, unless the key already holds one.
+     *
+     * @param key The key
+     * @param value The value
+     * @param <T> The type of the value
+     * @return true if the value was put, false if the key already holds a value
+     */
+    <T> boolean putIfAbsent(String key, T value);
+
+    /**
+     * Atomically puts a value in the cache with a custom TTL, unless the key already holds one.
+     *
+     * @param key The key
+     * @param value The value
+     * @param ttlMillis The TTL in milliseconds
+     * @param <T> The type of the value
+     * @return true if the value was put, false if the key already holds a value
+     */
+    <T> boolean putIfAbsent(String key, T value, long ttlMillis);
+
+    /**
+     * Checks whether a key holds a value, without reading it.
+     *
+     * @param key The key
+     * @return true if the key holds a value that has not expired
+     */
+    boolean containsKey(String key);
+
     /**
      * Gets a value from the cache.
      *
@@ -86,4 +161,57 @@ public interface MemoryCache extends Cache {
      * @return The removed value, or null if the key didn't exist
      */
     <T> T remove(String key);
+
+    /**
+     * Gets the values of several keys, reading the clock once for all of them.
+     *
+     * @param keys The keys
+     * @param <T> The type of the values
+     * @return The values by key; keys that don't exist or have expired are absent from the map
+     */
+    @GenIgnore
+    <T> Map<String, T> getAll(Collection<String> keys);
+
+    /**
+     * Puts several values in the cache with the default TTL.
+     *
+     * @param entries The values by key
+     * @param <T> The type of the values
+     */
+    @GenIgnore
+    <T> void putAll(Map<String, T> entries);
+
+    /**
+     * Puts several values in the cache with the same custom TTL, reading the clock once for all of them.
+     *
+     * @param entries The values by key
+     * @param ttlMillis The TTL in milliseconds
+     * @param <T> The type of the values
+     */
+    @GenIgnore
+    <T> void putAll(Map<String, T> entries, long ttlMillis);
+
+    /**
+     * Atomically adds to the integer counter stored at a key. The counter is updated in place, keeping the expiration of the entry; a missing or expired key is created with
+     * the default TTL and a value of 0 before adding.
+     *
+     * @param key The key of the counter
+     * @param delta The value to add, negative to subtract
+     * @return The value of the counter after the addition
+     * @throws NumberFormatException if the key holds a value that is not an integer
+     */
+    @GenIgnore
+    long addAndGet(String key, long delta);
+
+    /**
+     * Atomically adds to the floating point counter stored at a key. The counter is updated in place, keeping the expiration of the entry; a missing or expired key is created
+     * with the default TTL and a value of 0 before adding.
+     *
+     * @param key The key of the counter
+     * @param delta The value to add, negative to subtract
+     * @return The value of the counter after the addition
+     * @throws NumberFormatException if the key holds a value that is not a number
+     */
+    @GenIgnore
+    double addAndGet(String key, double delta);
 }
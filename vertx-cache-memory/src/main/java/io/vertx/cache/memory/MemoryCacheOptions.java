@@ -1,7 +1,10 @@
 package io.vertx.cache.memory;
 
 import io.vertx.cache.common.AbstractCacheOptions;
+import io.vertx.cache.common.serialization.SerializerRegistry;
+import io.vertx.cache.common.time.Ticker;
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.json.JsonObject;
 
@@ -12,25 +15,55 @@ import java.util.concurrent.TimeUnit;
 public class MemoryCacheOptions extends AbstractCacheOptions {
 
     public static final long DEFAULT_MAXIMUM_SIZE = 10000;
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 0;
+    public static final boolean DEFAULT_OFF_HEAP = false;
+    public static final long DEFAULT_OFF_HEAP_CAPACITY = 256L * 1024 * 1024;
+    public static final int DEFAULT_OFF_HEAP_SLAB_SIZE = 1024 * 1024;
+    public static final boolean DEFAULT_KEY_INDEX = false;
     public static final long DEFAULT_CLEANUP_INTERVAL = 1;
     public static final TimeUnit DEFAULT_CLEANUP_INTERVAL_TIMEUNIT = TimeUnit.SECONDS;
+    public static final long DEFAULT_CLEANUP_TIME_SLICE = 10;
+    public static final TimeUnit DEFAULT_CLEANUP_TIME_SLICE_TIMEUNIT = TimeUnit.MILLISECONDS;
 
     private long maximumSize;
+    private long maximumWeight;
+    private Weigher weigher;
+    private boolean offHeap;
+    private long offHeapCapacity;
+    private int offHeapSlabSize;
+    private boolean keyIndex;
     private long cleanupInterval;
     private TimeUnit cleanupIntervalTimeUnit;
+    private long cleanupTimeSlice;
+    private TimeUnit cleanupTimeSliceTimeUnit;
 
     public MemoryCacheOptions() {
         super();
         this.maximumSize = DEFAULT_MAXIMUM_SIZE;
+        this.maximumWeight = DEFAULT_MAXIMUM_WEIGHT;
+        this.offHeap = DEFAULT_OFF_HEAP;
+        this.offHeapCapacity = DEFAULT_OFF_HEAP_CAPACITY;
+        this.offHeapSlabSize = DEFAULT_OFF_HEAP_SLAB_SIZE;
+        this.keyIndex = DEFAULT_KEY_INDEX;
         this.cleanupInterval = DEFAULT_CLEANUP_INTERVAL;
         this.cleanupIntervalTimeUnit = DEFAULT_CLEANUP_INTERVAL_TIMEUNIT;
+        this.cleanupTimeSlice = DEFAULT_CLEANUP_TIME_SLICE;
+        this.cleanupTimeSliceTimeUnit = DEFAULT_CLEANUP_TIME_SLICE_TIMEUNIT;
     }
 
     public MemoryCacheOptions(MemoryCacheOptions other) {
         super(other);
         this.maximumSize = other.maximumSize;
+        this.maximumWeight = other.maximumWeight;
+        this.weigher = other.weigher;
+        this.offHeap = other.offHeap;
+        this.offHeapCapacity = other.offHeapCapacity;
+        this.offHeapSlabSize = other.offHeapSlabSize;
+        this.keyIndex = other.keyIndex;
         this.cleanupInterval = other.cleanupInterval;
         this.cleanupIntervalTimeUnit = other.cleanupIntervalTimeUnit;
+        this.cleanupTimeSlice = other.cleanupTimeSlice;
+        this.cleanupTimeSliceTimeUnit = other.cleanupTimeSliceTimeUnit;
     }
 
     public MemoryCacheOptions(JsonObject json) {
@@ -50,6 +83,56 @@ public class MemoryCacheOptions extends AbstractCacheOptions {
         return this;
     }
 
+    @Override
+    public MemoryCacheOptions setClockResolution(long clockResolution) {
+        super.setClockResolution(clockResolution);
+        return this;
+    }
+
+    @Override
+    public MemoryCacheOptions setClockResolutionTimeUnit(TimeUnit clockResolutionTimeUnit) {
+        super.setClockResolutionTimeUnit(clockResolutionTimeUnit);
+        return this;
+    }
+
+    @Override
+    public MemoryCacheOptions setRefreshAfterWrite(long refreshAfterWrite) {
+        super.setRefreshAfterWrite(refreshAfterWrite);
+        return this;
+    }
+
+    @Override
+    public MemoryCacheOptions setRefreshAfterWriteTimeUnit(TimeUnit refreshAfterWriteTimeUnit) {
+        super.setRefreshAfterWriteTimeUnit(refreshAfterWriteTimeUnit);
+        return this;
+    }
+
+    @Override
+    public MemoryCacheOptions setNegativeTtl(long negativeTtl) {
+        super.setNegativeTtl(negativeTtl);
+        return this;
+    }
+
+    @Override
+    public MemoryCacheOptions setNegativeTtlTimeUnit(TimeUnit negativeTtlTimeUnit) {
+        super.setNegativeTtlTimeUnit(negativeTtlTimeUnit);
+        return this;
+    }
+
+    @Override
+    @GenIgnore
+    public MemoryCacheOptions setTicker(Ticker ticker) {
+        super.setTicker(ticker);
+        return this;
+    }
+
+    @Override
+    @GenIgnore
+    public MemoryCacheOptions setSerializerRegistry(SerializerRegistry serializerRegistry) {
+        super.setSerializerRegistry(serializerRegistry);
+        return this;
+    }
+
     public long getMaximumSize() {
         return maximumSize;
     }
@@ -59,6 +142,101 @@ public class MemoryCacheOptions extends AbstractCacheOptions {
         return this;
     }
 
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * Sets the maximum total weight of the entries, as computed by the {@link #setWeigher(Weigher) weigher}. When positive, the cache is bounded by weight and the maximum size
+     * is ignored. With the default weigher, the weight of an entry is its estimated size in bytes.
+     *
+     * @param maximumWeight The maximum weight, or 0 to bound the cache by its number of entries
+     * @return this
+     */
+    public MemoryCacheOptions setMaximumWeight(long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+        return this;
+    }
+
+    @GenIgnore
+    public Weigher getWeigher() {
+        return weigher;
+    }
+
+    /**
+     * Sets the weigher computing the weight of the entries when the cache is bounded by {@link #setMaximumWeight(long) weight}. Defaults to {@link Weigher#bytes()}.
+     *
+     * @param weigher The weigher
+     * @return this
+     */
+    @GenIgnore
+    public MemoryCacheOptions setWeigher(Weigher weigher) {
+        this.weigher = weigher;
+        return this;
+    }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    /**
+     * Sets whether values stored through {@link MemoryCache#binaryOperation()} are kept in direct memory rather than on the heap. Off-heap values are copied back to the heap
+     * when read, so the buffers returned remain valid after the entry has left the cache.
+     *
+     * @param offHeap true to store binary values off-heap
+     * @return this
+     */
+    public MemoryCacheOptions setOffHeap(boolean offHeap) {
+        this.offHeap = offHeap;
+        return this;
+    }
+
+    public long getOffHeapCapacity() {
+        return offHeapCapacity;
+    }
+
+    /**
+     * Sets the maximum amount of direct memory reserved for off-heap values, in bytes. Once it is reached, further binary values are stored on the heap.
+     *
+     * @param offHeapCapacity The capacity in bytes
+     * @return this
+     */
+    public MemoryCacheOptions setOffHeapCapacity(long offHeapCapacity) {
+        this.offHeapCapacity = offHeapCapacity;
+        return this;
+    }
+
+    public int getOffHeapSlabSize() {
+        return offHeapSlabSize;
+    }
+
+    /**
+     * Sets the size of the slabs in which direct memory is reserved, in bytes. Values larger than a slab are given their own allocation.
+     *
+     * @param offHeapSlabSize The slab size in bytes
+     * @return this
+     */
+    public MemoryCacheOptions setOffHeapSlabSize(int offHeapSlabSize) {
+        this.offHeapSlabSize = offHeapSlabSize;
+        return this;
+    }
+
+    public boolean isKeyIndex() {
+        return keyIndex;
+    }
+
+    /**
+     * Sets whether the keys are also kept in an ordered index, so that {@link io.vertx.cache.common.operation.KeyOperation#keys(String) patterns} starting with a literal
+     * prefix, such as {@code tenant:123:*}, only visit the matching keys instead of scanning the whole cache. The index costs an ordered insertion per new key.
+     *
+     * @param keyIndex true to index the keys
+     * @return this
+     */
+    public MemoryCacheOptions setKeyIndex(boolean keyIndex) {
+        this.keyIndex = keyIndex;
+        return this;
+    }
+
     public long getCleanupInterval() {
         return cleanupInterval;
     }
@@ -81,6 +259,34 @@ public class MemoryCacheOptions extends AbstractCacheOptions {
         return this;
     }
 
+    public long getCleanupTimeSlice() {
+        return cleanupTimeSlice;
+    }
+
+    /**
+     * Sets the maximum time a single cleanup run may spend expiring entries on the event loop. Entries left over are expired by a follow-up run.
+     *
+     * @param cleanupTimeSlice The time slice
+     * @return this
+     */
+    public MemoryCacheOptions setCleanupTimeSlice(long cleanupTimeSlice) {
+        this.cleanupTimeSlice = cleanupTimeSlice;
+        return this;
+    }
+
+    public long getCleanupTimeSliceNanos() {
+        return cleanupTimeSliceTimeUnit.toNanos(cleanupTimeSlice);
+    }
+
+    public TimeUnit getCleanupTimeSliceTimeUnit() {
+        return cleanupTimeSliceTimeUnit;
+    }
+
+    public MemoryCacheOptions setCleanupTimeSliceTimeUnit(TimeUnit cleanupTimeSliceTimeUnit) {
+        this.cleanupTimeSliceTimeUnit = cleanupTimeSliceTimeUnit;
+        return this;
+    }
+
     public JsonObject toJson() {
         JsonObject json = new JsonObject();
         MemoryCacheOptionsConverter.toJson(this, json);
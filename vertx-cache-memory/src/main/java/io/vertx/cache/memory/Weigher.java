@@ -0,0 +1,39 @@
+package io.vertx.cache.memory;
+
+import io.vertx.cache.memory.impl.policy.ValueWeigher;
+
+/**
+ * Calculates the weight of cache entries, used to bound a memory cache by {@link MemoryCacheOptions#getMaximumWeight()} rather than by its number of entries. The weight of an
+ * entry is computed when it is written and is not re-evaluated afterward, so values must not change their weight while they are cached.
+ */
+@FunctionalInterface
+public interface Weigher {
+
+    /**
+     * Returns a weigher estimating the retained size of common values in bytes. {@link String}, {@link io.vertx.core.buffer.Buffer}, {@code byte[]},
+     * {@link io.vertx.core.json.JsonObject}, {@link io.vertx.core.json.JsonArray} and boxed numbers are measured; other values are given a fixed weight.
+     *
+     * @return The byte size estimating weigher
+     */
+    static Weigher bytes() {
+        return ValueWeigher.INSTANCE;
+    }
+
+    /**
+     * Returns a weigher giving every entry a weight of one, which makes the maximum weight equivalent to a maximum number of entries.
+     *
+     * @return The singleton weigher
+     */
+    static Weigher singleton() {
+        return (key, value) -> 1;
+    }
+
+    /**
+     * Returns the weight of an entry. The weight must not be negative; an entry with a weight of zero is never evicted to satisfy the weight bound.
+     *
+     * @param key The key of the entry
+     * @param value The value of the entry
+     * @return The weight of the entry
+     */
+    int weigh(String key, Object value);
+}
@@ -1,7 +1,9 @@
 package io.vertx.cache.memory.impl;
 
+import io.vertx.cache.common.CacheStats;
 import io.vertx.cache.common.event.CacheEvent;
 import io.vertx.cache.common.event.CacheEventManager;
+import io.vertx.cache.common.impl.stats.StatsCounter;
 import io.vertx.cache.common.operation.KeyOperation;
 import io.vertx.cache.common.operation.ValueOperation;
 import io.vertx.cache.common.operation.binary.BinaryOperation;
@@ -12,37 +14,88 @@ import io.vertx.cache.common.operation.number.NumberOperation;
 import io.vertx.cache.common.operation.text.StringOperation;
 import io.vertx.cache.common.serialization.CacheDeserializer;
 import io.vertx.cache.common.serialization.CacheSerializer;
+import io.vertx.cache.common.serialization.SerializerRegistry;
+import io.vertx.cache.common.time.CoarseTicker;
+import io.vertx.cache.common.time.Ticker;
 import io.vertx.cache.memory.MemoryCache;
 import io.vertx.cache.memory.MemoryCacheOptions;
+import io.vertx.cache.memory.Weigher;
 import io.vertx.cache.memory.impl.event.MemoryCacheEventManager;
+import io.vertx.cache.memory.impl.index.KeyIndex;
+import io.vertx.cache.memory.impl.offheap.OffHeapStore;
+import io.vertx.cache.memory.impl.offheap.OffHeapValue;
 import io.vertx.cache.memory.impl.operation.MemoryKeyOperation;
 import io.vertx.cache.memory.impl.operation.MemoryValueOperation;
 import io.vertx.cache.memory.impl.operation.binary.MemoryBinaryOperation;
 import io.vertx.cache.memory.impl.operation.json.MemoryJsonOperation;
+import io.vertx.cache.memory.impl.operation.number.CounterCell;
+import io.vertx.cache.memory.impl.operation.number.DoubleCell;
+import io.vertx.cache.memory.impl.operation.number.LongCell;
 import io.vertx.cache.memory.impl.operation.number.MemoryDoubleOperation;
 import io.vertx.cache.memory.impl.operation.number.MemoryLongOperation;
 import io.vertx.cache.memory.impl.operation.text.MemoryStringOperation;
+import io.vertx.cache.memory.impl.policy.CachePolicy;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
 /**
  * Thread-safe implementation of the Vert.x Cache interface using Vert.x features. This implementation provides an in-memory cache with support for per-key expiration.
  *
  * Thread safety is ensured through the use of ConcurrentHashMap and atomic operations for all cache modifications. This allows the cache to be safely used in multi-threaded
  * environments without external synchronization.
+ *
+ * When {@link MemoryCacheOptions#getMaximumSize()} is positive, the cache is bounded by a {@link CachePolicy} that evicts entries using the W-TinyLFU policy. Reads and writes are
+ * recorded in buffers and applied to the policy asynchronously, so neither path takes a global lock. When {@link MemoryCacheOptions#getMaximumWeight()} is positive, the
+ * policy bounds the total weight of the entries instead, as computed by the configured {@link Weigher} when each entry is written.
+ *
+ * When {@link MemoryCacheOptions#isOffHeap()} is set, binary values are copied into an {@link OffHeapStore} and copied back to the heap when read, so that the buffers handed
+ * out never see the memory being reused. Their memory is returned to the store once the entry has left the cache, whatever the reason, and no read is copying it.
+ *
+ * Counters are stored as {@link LongCell} or {@link DoubleCell} values updated in place, so increments neither lose updates nor allocate a new entry. An increment of a live
+ * counter updates its cell directly, without allocating nor taking the lock of the key; creating a counter, or replacing an expired entry or a value of another type, goes through
+ * {@link ConcurrentMap#compute}. Cells are retired as their entry leaves the cache, so that increments stay linearizable with the other operations on the same key. Readers only
+ * ever see the boxed value of a counter.
+ *
+ * When {@link MemoryCacheOptions#isKeyIndex()} is set, the keys are also kept in an ordered {@link KeyIndex}, so that looking keys up by prefix only visits the matching ones.
+ *
+ * Each operation records its reads and loads in its own {@link StatsCounter}, and the cache records the entries the policy evicts or expires in another one, so that recording
+ * never contends across operations. {@link #stats()} sums them.
+ *
+ * Keys a loader found nothing for hold a tombstone, which takes part in eviction and expiration like any entry but is read as a missing value, and is left out of the key sets
+ * along with the expired entries.
+ *
+ * The current time is read from the {@link Ticker} configured by the options, so the read path can avoid a system call per operation when a coarse clock is configured.
+ *
+ * Expiration is driven by a timing wheel held by the same policy. Each cleanup run only visits the entries that are due and is bounded by
+ * {@link MemoryCacheOptions#getCleanupTimeSlice()}; when more entries are due than fit in a slice, the run yields the event loop and continues on a later turn.
  */
 public class MemoryCacheImpl implements MemoryCache {
 
+    private static final Object TOMBSTONE = new Object();
+
     private final Vertx vertx;
-    private final CacheEventManager eventManager;
+    private final MemoryCacheEventManager eventManager;
     private final ConcurrentMap<Class<?>, MemoryValueOperation<?>> valueOperations;
     private final MemoryKeyOperation keyOperation;
     private final MemoryStringOperation stringOperation;
@@ -52,8 +105,19 @@ public class MemoryCacheImpl implements MemoryCache {
     private final MemoryBinaryOperation binaryOperation;
 
     private final ConcurrentMap<String, CacheEntry<?>> cache;
+    private final CachePolicy policy;
+    private final OffHeapStore offHeapStore;
+    private final KeyIndex keyIndex;
+    private final Ticker ticker;
+    private final SerializerRegistry serializerRegistry;
+    private final StatsCounter stats = new StatsCounter();
+    private final Set<String> liveKeys = new LiveKeySet();
+    private final boolean ownsTicker;
     private final long defaultTtl;
+    private final long refreshAfterWriteMillis;
+    private final long negativeTtlMillis;
     private final long cleanupIntervalMillis;
+    private final long cleanupTimeSliceNanos;
     private Long cleanupTimerId;
 
     public MemoryCacheImpl(Vertx vertx) {
@@ -63,36 +127,49 @@ public class MemoryCacheImpl implements MemoryCache {
     public MemoryCacheImpl(Vertx vertx, MemoryCacheOptions options) {
         this.vertx = vertx;
         this.defaultTtl = options.getDefaultTtlMillis() > 0 ? options.getDefaultTtlMillis() : 3600000;
+        this.refreshAfterWriteMillis = options.getRefreshAfterWriteMillis();
+        this.negativeTtlMillis = options.getNegativeTtlMillis();
         this.cleanupIntervalMillis = options.getCleanupIntervalMillis() > 0 ? options.getCleanupIntervalMillis() : 1000;
+        this.cleanupTimeSliceNanos = options.getCleanupTimeSliceNanos() > 0 ? options.getCleanupTimeSliceNanos() : 10_000_000;
+        this.ticker = Ticker.create(vertx, options);
+        this.ownsTicker = options.getTicker() == null;
+        this.serializerRegistry = options.getSerializerRegistry() != null ? options.getSerializerRegistry() : SerializerRegistry.create();
         this.cache = new ConcurrentHashMap<>();
-        this.eventManager = new MemoryCacheEventManager(vertx);
+        this.policy = new CachePolicy(cache, Math.max(options.getMaximumSize(), 0), Math.max(options.getMaximumWeight(), 0),
+                options.getWeigher() != null ? options.getWeigher() : Weigher.bytes(), (key, entry, cause) -> {
+            release(entry);
+            unindex(key);
+            stats.recordRemoval(cause);
+            publishEvent(cause, key);
+        }, ticker.millis());
+        this.keyIndex = options.isKeyIndex() ? new KeyIndex(cache) : null;
+        this.offHeapStore = options.isOffHeap() ? new OffHeapStore(options.getOffHeapCapacity(), options.getOffHeapSlabSize()) : null;
+        this.eventManager = new MemoryCacheEventManager(vertx, CacheEventManager.DEFAULT_EVENT_ADDRESS, ticker);
 
         this.keyOperation = new MemoryKeyOperation(this);
         this.stringOperation = new MemoryStringOperation(this);
         this.longOperation = new MemoryLongOperation(this);
         this.doubleOperation = new MemoryDoubleOperation(this);
         this.jsonOperation = new MemoryJsonOperation(this);
-        this.binaryOperation = new MemoryBinaryOperation(this);
+        this.binaryOperation = new MemoryBinaryOperation(this, offHeapStore);
 
         this.valueOperations = new ConcurrentHashMap<>(Map.of(
                 JsonObject.class, new MemoryValueOperation<>(this, JsonObject.class, new JsonObjectSerializer(), new JsonObjectSerializer()),
                 JsonArray.class, new MemoryValueOperation<>(this, JsonArray.class, new JsonArraySerializer(), new JsonArraySerializer()))
         );
 
-        this.cleanupTimerId = vertx.setPeriodic(cleanupIntervalMillis, id -> checkExpiredEntries());
+        this.cleanupTimerId = vertx.setPeriodic(cleanupIntervalMillis, id -> expireEntries());
     }
 
-    private void checkExpiredEntries() {
-        List<String> expiredKeys = cache.entrySet().stream()
-                .filter(entry -> entry.getValue().isExpired())
-                .map(Map.Entry::getKey)
-                .toList();
+    private void expireEntries() {
+        if (cleanupTimerId == null) {
+            return;
+        }
 
-        expiredKeys.forEach(key -> {
-            if (cache.remove(key) != null) {
-                publishEvent(CacheEvent.EventType.KEY_EXPIRED, key);
-            }
-        });
+        // Continue on a later event loop turn when the time slice did not suffice to expire every due entry
+        if (policy.expireEntries(ticker.millis(), cleanupTimeSliceNanos)) {
+            vertx.runOnContext(v -> expireEntries());
+        }
     }
 
     @Override
@@ -100,9 +177,113 @@ public class MemoryCacheImpl implements MemoryCache {
         return vertx;
     }
 
+    /**
+     * Gets the registry serializing the values of types without a serializer of their own.
+     *
+     * @return The serializer registry
+     */
+    public SerializerRegistry getSerializerRegistry() {
+        return serializerRegistry;
+    }
+
+    /**
+     * Gets the time-to-live of the tombstones stored for the keys a loader found nothing for.
+     *
+     * @return The time-to-live in milliseconds, or 0 if no tombstone is stored
+     */
+    public long getNegativeTtl() {
+        return negativeTtlMillis;
+    }
+
+    /**
+     * Stores a tombstone for a key a loader found nothing for. Reads see the tombstone as a missing value.
+     *
+     * @param key The key
+     */
+    public void putAbsent(String key) {
+        CacheEntry<?> previousEntry = write(key, TOMBSTONE, negativeTtlMillis, ticker.millis());
+        if (previousEntry != null) {
+            release(previousEntry);
+        }
+    }
+
+    /**
+     * Checks whether a key holds a tombstone.
+     *
+     * @param key The key
+     * @return true if the key holds a tombstone that has not expired
+     */
+    public boolean isAbsent(String key) {
+        CacheEntry<?> entry = cache.get(key);
+        return entry != null && entry.getValue() == TOMBSTONE && !entry.isExpired(ticker.millis());
+    }
+
+    /**
+     * Checks whether the value of a key was written long enough ago to be refreshed.
+     *
+     * @param key The key
+     * @return true if refreshing is enabled and the key holds a value older than the refresh time
+     */
+    public boolean isRefreshDue(String key) {
+        if (refreshAfterWriteMillis <= 0) {
+            return false;
+        }
+
+        CacheEntry<?> entry = cache.get(key);
+        return entry != null && ticker.millis() - entry.getWriteTime() >= refreshAfterWriteMillis;
+    }
+
     @Override
     public Set<String> keySet() {
-        return cache.keySet();
+        return liveKeys;
+    }
+
+    @Override
+    public Set<String> keySet(String prefix) {
+        long now = ticker.millis();
+        if (keyIndex != null) {
+            Set<String> keys = keyIndex.keys(prefix);
+            keys.removeIf(key -> !isLive(cache.get(key), now));
+            return keys;
+        }
+        return cache.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix) && isLive(entry.getValue(), now))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public List<String> keysAfter(String prefix, String after, int count) {
+        long now = ticker.millis();
+        if (keyIndex != null) {
+            return keyIndex.keysAfter(prefix, after, count, key -> isLive(cache.get(key), now));
+        }
+
+        // Without the index, the smallest keys after the given one are kept while going through every key
+        PriorityQueue<String> page = new PriorityQueue<>(count, Comparator.reverseOrder());
+        for (Map.Entry<String, CacheEntry<?>> entry : cache.entrySet()) {
+            String key = entry.getKey();
+            if (!key.startsWith(prefix) || (after != null && key.compareTo(after) <= 0) || !isLive(entry.getValue(), now)) {
+                continue;
+            }
+            if (page.size() < count) {
+                page.add(key);
+            } else if (key.compareTo(page.peek()) < 0) {
+                page.poll();
+                page.add(key);
+            }
+        }
+
+        List<String> keys = new ArrayList<>(page);
+        Collections.sort(keys);
+        return keys;
+    }
+
+    /**
+     * Checks whether an entry holds a value readers can see, that is neither a tombstone nor expired.
+     */
+    private static boolean isLive(CacheEntry<?> entry, long now) {
+        return entry != null && entry.getValue() != TOMBSTONE && !entry.isExpired(now);
     }
 
     @Override
@@ -113,36 +294,133 @@ public class MemoryCacheImpl implements MemoryCache {
     @Override
     @SuppressWarnings("unchecked")
     public <T> T put(String key, T value, long ttlMillis) {
-        CacheEntry<T> newEntry = new CacheEntry<>(key, value, ttlMillis);
-        CacheEntry<?> previousEntry = cache.put(key, newEntry);
+        CacheEntry<?> previousEntry = write(key, value, ttlMillis, ticker.millis());
+        if (previousEntry != null) {
+            return (T) detach(previousEntry);
+        } else {
+            return null;
+        }
+    }
 
-        publishEvent(CacheEvent.EventType.KEY_UPDATED, key);
+    @Override
+    public <T> void set(String key, T value) {
+        set(key, value, defaultTtl);
+    }
 
+    @Override
+    public <T> void set(String key, T value, long ttlMillis) {
+        CacheEntry<?> previousEntry = write(key, value, ttlMillis, ticker.millis());
         if (previousEntry != null) {
-            return (T) previousEntry.getValue();
+            release(previousEntry);
+        }
+    }
+
+    @Override
+    public <T> boolean putIfAbsent(String key, T value) {
+        return putIfAbsent(key, value, defaultTtl);
+    }
+
+    @Override
+    public <T> boolean putIfAbsent(String key, T value, long ttlMillis) {
+        long now = ticker.millis();
+        CacheEntry<?> newEntry = new CacheEntry<>(key, value, ttlMillis, policy.weigh(key, value), now);
+        CacheEntry<?> previousEntry = cache.get(key);
+        while (true) {
+            if (isLive(previousEntry, now)) {
+                return false;
+            }
+
+            // An expired entry or a tombstone is replaced only if it still holds the key, so that a concurrent write wins
+            if (previousEntry == null ? cache.putIfAbsent(key, newEntry) == null : cache.replace(key, previousEntry, newEntry)) {
+                break;
+            }
+            previousEntry = cache.get(key);
+        }
+
+        policy.recordWrite(key);
+        if (previousEntry == null) {
+            index(key);
         } else {
-            return null;
+            release(previousEntry);
         }
+        publishEvent(CacheEvent.EventType.KEY_UPDATED, key);
+        return true;
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return isLive(cache.get(key), ticker.millis());
+    }
+
+    @Override
+    public <T> void putAll(Map<String, T> entries) {
+        putAll(entries, defaultTtl);
+    }
+
+    @Override
+    public <T> void putAll(Map<String, T> entries, long ttlMillis) {
+        long now = ticker.millis();
+        entries.forEach((key, value) -> {
+            CacheEntry<?> previousEntry = write(key, value, ttlMillis, now);
+            // The previous values are not returned, so there is no need to copy them
+            if (previousEntry != null) {
+                release(previousEntry);
+            }
+        });
+    }
+
+    private CacheEntry<?> write(String key, Object value, long ttlMillis, long now) {
+        CacheEntry<?> newEntry = new CacheEntry<>(key, value, ttlMillis, policy.weigh(key, value), now);
+        CacheEntry<?> previousEntry = cache.put(key, newEntry);
+        policy.recordWrite(key);
+        if (previousEntry == null) {
+            index(key);
+        }
+
+        publishEvent(CacheEvent.EventType.KEY_UPDATED, key);
+        return previousEntry;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> T get(String key) {
+        return get(key, ticker.millis());
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys) {
+        long now = ticker.millis();
+        Map<String, T> values = new HashMap<>(keys.size() * 4 / 3 + 1);
+        for (String key : keys) {
+            T value = get(key, now);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String key, long now) {
         CacheEntry<?> entry = cache.get(key);
 
         if (entry == null) {
             return null;
         }
 
-        if (entry.isExpired()) {
+        if (entry.isExpired(now)) {
             if (cache.remove(key, entry)) {
+                policy.recordWrite(key);
+                release(entry);
+                unindex(key);
+                stats.recordRemoval(CacheEvent.EventType.KEY_EXPIRED);
                 publishEvent(CacheEvent.EventType.KEY_DELETED, key);
             }
 
             return null;
         }
 
-        return (T) entry.getValue();
+        policy.recordRead(key);
+        return (T) read(entry.getValue());
     }
 
     @Override
@@ -150,12 +428,76 @@ public class MemoryCacheImpl implements MemoryCache {
     public <T> T remove(String key) {
         CacheEntry<?> entry = cache.remove(key);
         if (entry != null) {
+            policy.recordWrite(key);
+            unindex(key);
             publishEvent(CacheEvent.EventType.KEY_DELETED, key);
-            return (T) entry.getValue();
+            return (T) detach(entry);
         }
         return null;
     }
 
+    @Override
+    public long addAndGet(String key, long delta) {
+        long now = ticker.millis();
+        CacheEntry<?> entry = cache.get(key);
+        if (entry != null && entry.getValue() instanceof LongCell cell && !entry.isExpired(now) && cell.enter()) {
+            long result;
+            try {
+                result = cell.addAndGet(delta);
+            } finally {
+                cell.exit();
+            }
+            afterUpdate(key);
+            return result;
+        }
+
+        LongIncrement increment = new LongIncrement(delta, now);
+        cache.compute(key, increment);
+        afterIncrement(key, increment);
+        return increment.result;
+    }
+
+    @Override
+    public double addAndGet(String key, double delta) {
+        long now = ticker.millis();
+        CacheEntry<?> entry = cache.get(key);
+        if (entry != null && entry.getValue() instanceof DoubleCell cell && !entry.isExpired(now) && cell.enter()) {
+            double result;
+            try {
+                result = cell.addAndGet(delta);
+            } finally {
+                cell.exit();
+            }
+            afterUpdate(key);
+            return result;
+        }
+
+        DoubleIncrement increment = new DoubleIncrement(delta, now);
+        cache.compute(key, increment);
+        afterIncrement(key, increment);
+        return increment.result;
+    }
+
+    private void afterUpdate(String key) {
+        policy.recordRead(key);
+        publishEvent(CacheEvent.EventType.KEY_UPDATED, key);
+    }
+
+    private void afterIncrement(String key, Increment increment) {
+        if (!increment.created) {
+            afterUpdate(key);
+            return;
+        }
+
+        policy.recordWrite(key);
+        if (increment.replaced != null) {
+            release(increment.replaced);
+        } else {
+            index(key);
+        }
+        publishEvent(CacheEvent.EventType.KEY_UPDATED, key);
+    }
+
     @Override
     public KeyOperation keys() {
         return keyOperation;
@@ -197,9 +539,37 @@ public class MemoryCacheImpl implements MemoryCache {
         return (ValueOperation<T>) valueOperations.computeIfAbsent(clazz, c -> new MemoryValueOperation<>(this, clazz, serializer, deserializer));
     }
 
+    @Override
+    public CacheStats stats() {
+        Map<String, StatsCounter> families = new LinkedHashMap<>();
+        families.put(CacheStats.STRINGS, stringOperation.statsCounter());
+        families.put(CacheStats.INTEGERS, longOperation.statsCounter());
+        families.put(CacheStats.FLOATS, doubleOperation.statsCounter());
+        families.put(CacheStats.JSON, jsonOperation.statsCounter());
+        families.put(CacheStats.BINARY, binaryOperation.statsCounter());
+        StatsCounter values = new StatsCounter();
+        valueOperations.values().forEach(operation -> values.incrementBy(operation.statsCounter()));
+        families.put(CacheStats.VALUE, values);
+
+        CacheStats snapshot = StatsCounter.snapshot(families, stats);
+        snapshot.setSize(cache.size());
+        long weight = policy.weightedSize();
+        snapshot.setWeight(weight >= 0 ? weight : cache.size());
+        return snapshot;
+    }
+
     @Override
     public Future<Void> clear() {
-        cache.clear();
+        // Entries are removed one by one, so that their off-heap memory and counter cells are released
+        cache.forEach((key, entry) -> {
+            if (cache.remove(key, entry)) {
+                release(entry);
+            }
+        });
+        policy.clear();
+        if (keyIndex != null) {
+            keyIndex.purge();
+        }
         publishEvent(CacheEvent.EventType.CACHE_CLEARED, null);
         return Future.succeededFuture();
     }
@@ -216,11 +586,223 @@ public class MemoryCacheImpl implements MemoryCache {
             vertx.cancelTimer(cleanupTimerId);
             cleanupTimerId = null;
         }
+        // A ticker set on the options belongs to the caller
+        if (ownsTicker && ticker instanceof CoarseTicker coarseTicker) {
+            coarseTicker.close();
+        }
         return clear();
     }
 
+    /**
+     * Returns the value of an entry as seen by readers: counters are boxed and off-heap values are copied to the heap.
+     */
+    private Object read(Object value) {
+        if (value == TOMBSTONE) {
+            return null;
+        } else if (value instanceof OffHeapValue offHeapValue) {
+            return offHeapStore.read(offHeapValue);
+        } else if (value instanceof LongCell cell) {
+            return cell.get();
+        } else if (value instanceof DoubleCell cell) {
+            return cell.get();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value of an entry that has left the cache. Off-heap values are copied to the heap before their memory is released, since the caller may keep them.
+     */
+    private Object detach(CacheEntry<?> entry) {
+        if (entry.getValue() instanceof OffHeapValue value) {
+            Buffer copy = value.copy();
+            offHeapStore.release(value);
+            return copy;
+        }
+        release(entry);
+        return read(entry.getValue());
+    }
+
+    /**
+     * Releases the resources of an entry that has left the cache: off-heap memory is returned to the store, and counter cells are retired so that no update is lost on them.
+     */
+    private void release(CacheEntry<?> entry) {
+        if (entry.getValue() instanceof OffHeapValue value) {
+            offHeapStore.release(value);
+        } else if (entry.getValue() instanceof CounterCell cell) {
+            cell.retire();
+        }
+    }
+
+    private void index(String key) {
+        if (keyIndex != null) {
+            keyIndex.add(key);
+        }
+    }
+
+    private void unindex(String key) {
+        if (keyIndex != null) {
+            keyIndex.remove(key);
+        }
+    }
+
     private void publishEvent(CacheEvent.EventType eventType, String key) {
-        vertx.eventBus().publish(eventManager.getEventAddress(), new CacheEvent(eventType, key).toJson());
+        eventManager.publish(eventType, key);
+    }
+
+    /**
+     * View of the keys holding a value readers can see. Like the key set of the map it is backed by, it is weakly consistent and never fails nor blocks writers; tombstones and
+     * expired entries that have not been cleaned up yet are skipped.
+     */
+    private final class LiveKeySet extends AbstractSet<String> {
+
+        @Override
+        public boolean contains(Object key) {
+            return key instanceof String k && isLive(cache.get(k), ticker.millis());
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            long now = ticker.millis();
+            Iterator<Map.Entry<String, CacheEntry<?>>> entries = cache.entrySet().iterator();
+            return new Iterator<>() {
+                private String next;
+
+                @Override
+                public boolean hasNext() {
+                    while (next == null && entries.hasNext()) {
+                        Map.Entry<String, CacheEntry<?>> entry = entries.next();
+                        if (isLive(entry.getValue(), now)) {
+                            next = entry.getKey();
+                        }
+                    }
+                    return next != null;
+                }
+
+                @Override
+                public String next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    String key = next;
+                    next = null;
+                    return key;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            long now = ticker.millis();
+            int size = 0;
+            for (CacheEntry<?> entry : cache.values()) {
+                if (isLive(entry, now)) {
+                    size++;
+                }
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Remapping function of a counter update that cannot update a live cell directly: it creates the counter, replaces an expired entry or a value of another type, or updates
+     * the counter now holding the key when the cell the direct update found was retired meanwhile. It runs while the map holds the lock of the key, so the entry it sees is the one holding the key.
+     */
+    private abstract class Increment implements BiFunction<String, CacheEntry<?>, CacheEntry<?>> {
+
+        final long now;
+        boolean created;
+        CacheEntry<?> replaced;
+
+        Increment(long now) {
+            this.now = now;
+        }
+
+        @Override
+        public CacheEntry<?> apply(String key, CacheEntry<?> entry) {
+            if (entry == null || entry.isExpired(now) || entry.getValue() == TOMBSTONE) {
+                created = true;
+                replaced = entry;
+                return newEntry(key, create(null), defaultTtl);
+            }
+
+            if (update(entry.getValue())) {
+                return entry;
+            }
+
+            // Replace a plain value by a counter, keeping the remaining time to live
+            created = true;
+            replaced = entry;
+            long ttl = entry.getExpirationTime() > 0 ? Math.max(1, entry.getExpirationTime() - now) : 0;
+            return newEntry(key, create(read(entry.getValue())), ttl);
+        }
+
+        private CacheEntry<?> newEntry(String key, Object cell, long ttlMillis) {
+            return new CacheEntry<>(key, cell, ttlMillis, policy.weigh(key, cell), now);
+        }
+
+        /**
+         * Updates the value in place if it is a counter cell of the right type.
+         */
+        abstract boolean update(Object value);
+
+        /**
+         * Creates a counter cell holding the updated value, starting from the given value or from 0 if it is null.
+         */
+        abstract Object create(Object value);
+    }
+
+    private final class LongIncrement extends Increment {
+
+        private final long delta;
+        private long result;
+
+        LongIncrement(long delta, long now) {
+            super(now);
+            this.delta = delta;
+        }
+
+        @Override
+        boolean update(Object value) {
+            if (value instanceof LongCell cell) {
+                result = cell.addAndGet(delta);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        Object create(Object value) {
+            long base = value == null ? 0 : value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+            result = base + delta;
+            return new LongCell(result);
+        }
+    }
+
+    private final class DoubleIncrement extends Increment {
+
+        private final double delta;
+        private double result;
+
+        DoubleIncrement(double delta, long now) {
+            super(now);
+            this.delta = delta;
+        }
+
+        @Override
+        boolean update(Object value) {
+            if (value instanceof DoubleCell cell) {
+                result = cell.addAndGet(delta);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        Object create(Object value) {
+            double base = value == null ? 0 : value instanceof Number number ? number.doubleValue() : Double.parseDouble(value.toString());
+            result = base + delta;
+            return new DoubleCell(result);
+        }
     }
 
     /**
@@ -229,7 +811,9 @@ public class MemoryCacheImpl implements MemoryCache {
     public static class CacheEntry<T> {
         private final String key;
         private final T value;
+        private final long writeTime;
         private final long expirationTime;
+        private final int weight;
 
         /**
          * Creates a new cache entry.
@@ -239,9 +823,24 @@ public class MemoryCacheImpl implements MemoryCache {
          * @param ttlMillis The TTL in milliseconds
          */
         public CacheEntry(String key, T value, long ttlMillis) {
+            this(key, value, ttlMillis, 1, System.currentTimeMillis());
+        }
+
+        /**
+         * Creates a new cache entry with a weight.
+         *
+         * @param key The key
+         * @param value The value
+         * @param ttlMillis The TTL in milliseconds
+         * @param weight The weight of the entry
+         * @param now The current time in milliseconds
+         */
+        public CacheEntry(String key, T value, long ttlMillis, int weight, long now) {
             this.key = key;
             this.value = value;
-            this.expirationTime = ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : 0;
+            this.writeTime = now;
+            this.expirationTime = ttlMillis > 0 ? now + ttlMillis : 0;
+            this.weight = weight;
         }
 
         /**
@@ -262,13 +861,50 @@ public class MemoryCacheImpl implements MemoryCache {
             return value;
         }
 
+        /**
+         * Gets the time at which this entry was written.
+         *
+         * @return The write time in milliseconds since the epoch
+         */
+        public long getWriteTime() {
+            return writeTime;
+        }
+
+        /**
+         * Gets the time at which this entry expires.
+         *
+         * @return The expiration time in milliseconds since the epoch, or 0 if the entry never expires
+         */
+        public long getExpirationTime() {
+            return expirationTime;
+        }
+
+        /**
+         * Gets the weight of this entry.
+         *
+         * @return The weight, as computed by the cache's weigher when the entry was written
+         */
+        public int getWeight() {
+            return weight;
+        }
+
         /**
          * Checks if this entry has expired.
          *
          * @return true if the entry has expired, false otherwise
          */
         public boolean isExpired() {
-            return expirationTime > 0 && System.currentTimeMillis() > expirationTime;
+            return isExpired(System.currentTimeMillis());
+        }
+
+        /**
+         * Checks if this entry has expired at the given time.
+         *
+         * @param now The current time in milliseconds
+         * @return true if the entry has expired, false otherwise
+         */
+        public boolean isExpired(long now) {
+            return expirationTime > 0 && now > expirationTime;
         }
     }
 }
@@ -2,31 +2,39 @@ package io.vertx.cache.memory.impl.event;
 
 import io.vertx.cache.common.event.CacheEvent;
 import io.vertx.cache.common.event.CacheEventManager;
+import io.vertx.cache.common.impl.event.CacheEventDispatcher;
+import io.vertx.cache.common.time.Ticker;
 import io.vertx.core.Completable;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
-import io.vertx.core.eventbus.MessageConsumer;
-import io.vertx.core.json.JsonObject;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
 
+/**
+ * Event manager of the memory cache. Events are delivered in-process: handlers are indexed by the event type, key or key prefix they subscribed to, and each event is handed as is
+ * to the matching handlers on the context they were registered from, without going through the event bus or JSON.
+ *
+ * Publishing first checks the index, so when nobody listens to an event it is not even created.
+ */
 public class MemoryCacheEventManager implements CacheEventManager {
 
     private final Vertx vertx;
     private final String eventAddress;
-    private final Map<String, MessageConsumer<JsonObject>> consumers;
+    private final Ticker ticker;
+    private final CacheEventDispatcher dispatcher;
 
     public MemoryCacheEventManager(Vertx vertx) {
         this(vertx, DEFAULT_EVENT_ADDRESS);
     }
 
     public MemoryCacheEventManager(Vertx vertx, String eventAddress) {
+        this(vertx, eventAddress, Ticker.system());
+    }
+
+    public MemoryCacheEventManager(Vertx vertx, String eventAddress, Ticker ticker) {
         this.vertx = vertx;
         this.eventAddress = eventAddress;
-        this.consumers = new HashMap<>();
+        this.ticker = ticker;
+        this.dispatcher = new CacheEventDispatcher();
     }
 
     @Override
@@ -39,57 +47,58 @@ public class MemoryCacheEventManager implements CacheEventManager {
         return eventAddress;
     }
 
+    /**
+     * Checks whether any handler would receive an event.
+     *
+     * @param type The type of the event
+     * @param key The key of the event, or null
+     * @return true if at least one handler listens to the event
+     */
+    public boolean hasListeners(CacheEvent.EventType type, String key) {
+        return dispatcher.hasListeners(type, key);
+    }
+
+    /**
+     * Publishes an event to the handlers listening to it. Nothing is allocated when there are none.
+     *
+     * @param type The type of the event
+     * @param key The key of the event, or null for events not related to a key
+     */
+    public void publish(CacheEvent.EventType type, String key) {
+        if (dispatcher.hasListeners(type, key)) {
+            dispatcher.dispatch(new CacheEvent(type, key, ticker.millis()));
+        }
+    }
+
     @Override
     public Future<String> registerEventHandler(Handler<CacheEvent> handler) {
-        String registrationId = UUID.randomUUID().toString();
-        MessageConsumer<JsonObject> consumer = vertx.eventBus().consumer(eventAddress, message -> handler.handle(new CacheEvent(message.body())));
-        consumers.put(registrationId, consumer);
-        return Future.succeededFuture(registrationId);
+        return Future.succeededFuture(dispatcher.register(handler, vertx.getOrCreateContext()));
     }
 
     @Override
     public Future<String> registerEventHandler(CacheEvent.EventType type, Handler<CacheEvent> handler) {
-        String registrationId = UUID.randomUUID().toString();
-        MessageConsumer<JsonObject> consumer = vertx.eventBus().consumer(eventAddress, message -> {
-            CacheEvent event = new CacheEvent(message.body());
-            if (event.getType() == type) {
-                handler.handle(event);
-            }
-        });
-
-        consumers.put(registrationId, consumer);
-        return Future.succeededFuture(registrationId);
+        return Future.succeededFuture(dispatcher.register(type, handler, vertx.getOrCreateContext()));
     }
 
     @Override
     public Future<String> registerKeyEventHandler(String key, Handler<CacheEvent> handler) {
-        String registrationId = UUID.randomUUID().toString();
-        MessageConsumer<JsonObject> consumer = vertx.eventBus().consumer(eventAddress, message -> {
-            CacheEvent event = new CacheEvent(message.body());
-            if (key.equals(event.getKey())) {
-                handler.handle(event);
-            }
-        });
-
-        consumers.put(registrationId, consumer);
-        return Future.succeededFuture(registrationId);
+        return Future.succeededFuture(dispatcher.registerKey(key, handler, vertx.getOrCreateContext()));
+    }
+
+    @Override
+    public Future<String> registerKeyPrefixEventHandler(String prefix, Handler<CacheEvent> handler) {
+        return Future.succeededFuture(dispatcher.registerKeyPrefix(prefix, handler, vertx.getOrCreateContext()));
     }
 
     @Override
     public Future<Void> unregisterEventHandler(String registrationId) {
-        MessageConsumer<JsonObject> consumer = consumers.remove(registrationId);
-        if (consumer != null) {
-            return consumer.unregister();
-        }
+        dispatcher.unregister(registrationId);
         return Future.succeededFuture();
     }
 
     @Override
     public void close(Completable<Void> completion) {
-        for (MessageConsumer<JsonObject> consumer : consumers.values()) {
-            consumer.unregister();
-        }
-        consumers.clear();
+        dispatcher.clear();
         completion.succeed();
     }
-}
\ No newline at end of file
+}
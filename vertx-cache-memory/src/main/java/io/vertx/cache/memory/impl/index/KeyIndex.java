@@ -0,0 +1,110 @@
+package io.vertx.cache.memory.impl.index;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+/**
+ * Ordered index of the keys of a cache map, so that the keys starting with a prefix can be found without scanning the map.
+ *
+ * The index is maintained alongside the map without a lock of its own: a key is added after it is inserted in the map, and removed under the map's lock of the key, only if the
+ * key is absent by then. An insertion racing with a removal can thus only leave a stale key behind, never miss one; lookups skip and drop the stale keys they come across.
+ */
+public final class KeyIndex {
+
+    private final ConcurrentMap<String, ?> data;
+    private final ConcurrentSkipListSet<String> keys = new ConcurrentSkipListSet<>();
+
+    public KeyIndex(ConcurrentMap<String, ?> data) {
+        this.data = data;
+    }
+
+    /**
+     * Indexes a key that has just been inserted in the map.
+     *
+     * @param key The key
+     */
+    public void add(String key) {
+        keys.add(key);
+    }
+
+    /**
+     * Removes a key that has just been removed from the map, unless it has been inserted again meanwhile.
+     *
+     * @param key The key
+     */
+    public void remove(String key) {
+        data.compute(key, (k, value) -> {
+            if (value == null) {
+                keys.remove(k);
+            }
+            return value;
+        });
+    }
+
+    /**
+     * Removes the keys that are no longer in the map, after the map has been cleared.
+     */
+    public void purge() {
+        for (String key : keys) {
+            if (!data.containsKey(key)) {
+                remove(key);
+            }
+        }
+    }
+
+    /**
+     * Gets the keys of the map starting with a prefix. Only the matching range of the index is visited.
+     *
+     * @param prefix The key prefix
+     * @return The matching keys
+     */
+    public Set<String> keys(String prefix) {
+        Set<String> result = new HashSet<>();
+        for (String key : keys.tailSet(prefix)) {
+            if (!key.startsWith(prefix)) {
+                break;
+            }
+            if (data.containsKey(key)) {
+                result.add(key);
+            } else {
+                remove(key);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets, in ascending order, the first keys of the map starting with a prefix and coming after a given key. Only the keys of the page are visited, along with the stale and
+     * rejected keys in between.
+     *
+     * @param prefix The key prefix
+     * @param after The key the page starts after, or null to start from the first key with the prefix
+     * @param count The maximum number of keys of the page
+     * @param filter The test the keys of the page must pass
+     * @return The keys of the page
+     */
+    public List<String> keysAfter(String prefix, String after, int count, Predicate<String> filter) {
+        List<String> result = new ArrayList<>(Math.min(count, 16));
+        NavigableSet<String> range = after != null && after.compareTo(prefix) >= 0 ? keys.tailSet(after, false) : keys.tailSet(prefix, true);
+        for (String key : range) {
+            if (!key.startsWith(prefix)) {
+                break;
+            }
+            if (!data.containsKey(key)) {
+                remove(key);
+            } else if (filter.test(key)) {
+                result.add(key);
+                if (result.size() == count) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+}
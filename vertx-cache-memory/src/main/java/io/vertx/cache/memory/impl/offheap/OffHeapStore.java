@@ -0,0 +1,162 @@
+package io.vertx.cache.memory.impl.offheap;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stores binary values in direct memory, outside of the heap scanned by the garbage collector.
+ *
+ * Memory is reserved in slabs of a fixed size. Each slab is dedicated to a size class, a power of two between {@link #MINIMUM_CHUNK_SIZE} and the slab size, and is carved into
+ * chunks of that size when it is reserved. Released chunks go back to the free list of their size class and are reused by later allocations, so the store never returns
+ * memory to the operating system; it only grows until its capacity is reached. Values larger than a slab get a dedicated direct buffer that is counted against the capacity.
+ *
+ * Allocation and release are lock-free.
+ */
+public final class OffHeapStore {
+
+    public static final int MINIMUM_CHUNK_SIZE = 64;
+
+    private final long capacity;
+    private final int slabSize;
+    private final Queue<ByteBuffer>[] freeLists;
+    private final AtomicLong reserved = new AtomicLong();
+    private final AtomicLong used = new AtomicLong();
+
+    /**
+     * Creates a store.
+     *
+     * @param capacity The maximum amount of direct memory the store may reserve, in bytes
+     * @param slabSize The size of the slabs reserved at once, in bytes. Rounded up to a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public OffHeapStore(long capacity, int slabSize) {
+        this.capacity = capacity;
+        this.slabSize = Math.max(MINIMUM_CHUNK_SIZE, ceilingPowerOfTwo(slabSize));
+        this.freeLists = new Queue[sizeClass(this.slabSize) + 1];
+        for (int i = 0; i < freeLists.length; i++) {
+            freeLists[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Copies a value into direct memory.
+     *
+     * @param value The value to copy
+     * @return The off-heap value, or null if the store has no capacity left for it
+     */
+    public OffHeapValue allocate(Buffer value) {
+        int length = value.length();
+        ByteBuffer chunk;
+        int sizeClass;
+        if (length > slabSize) {
+            if (!reserve(length)) {
+                return null;
+            }
+            chunk = ByteBuffer.allocateDirect(length);
+            sizeClass = -1;
+        } else {
+            sizeClass = sizeClass(length);
+            chunk = freeLists[sizeClass].poll();
+            if (chunk == null && (chunk = reserveSlab(sizeClass)) == null) {
+                return null;
+            }
+        }
+
+        chunk.clear();
+        ByteBuf source = ((BufferInternal) value).getByteBuf();
+        source.getBytes(source.readerIndex(), chunk.duplicate().limit(length));
+        used.addAndGet(chunk.capacity());
+        return new OffHeapValue(chunk, length, sizeClass);
+    }
+
+    /**
+     * Copies a value back to the heap. The value holds a reference while it is copied, so its memory cannot be reused by another value in the meantime.
+     *
+     * @param value The value to read
+     * @return The copy, or null if the value was released concurrently
+     */
+    public Buffer read(OffHeapValue value) {
+        if (!value.retain()) {
+            return null;
+        }
+        try {
+            return value.copy();
+        } finally {
+            release(value);
+        }
+    }
+
+    /**
+     * Releases a reference to a value. The memory of the value returns to the store once no reference remains, and is then reused by later allocations.
+     *
+     * @param value The value to release
+     */
+    public void release(OffHeapValue value) {
+        if (!value.unreference()) {
+            return;
+        }
+
+        used.addAndGet(-value.chunk.capacity());
+        if (value.sizeClass < 0) {
+            // Dedicated buffers are freed by the garbage collector once unreachable
+            reserved.addAndGet(-value.chunk.capacity());
+        } else {
+            freeLists[value.sizeClass].offer(value.chunk);
+        }
+    }
+
+    /**
+     * @return the amount of direct memory reserved by the store, in bytes
+     */
+    public long reserved() {
+        return reserved.get();
+    }
+
+    /**
+     * @return the amount of direct memory held by live values, in bytes
+     */
+    public long used() {
+        return used.get();
+    }
+
+    private ByteBuffer reserveSlab(int sizeClass) {
+        if (!reserve(slabSize)) {
+            return null;
+        }
+
+        ByteBuffer slab = ByteBuffer.allocateDirect(slabSize);
+        int chunkSize = MINIMUM_CHUNK_SIZE << sizeClass;
+        for (int offset = chunkSize; offset < slabSize; offset += chunkSize) {
+            freeLists[sizeClass].offer(slab.slice(offset, chunkSize));
+        }
+        return slab.slice(0, chunkSize);
+    }
+
+    private boolean reserve(long size) {
+        long current;
+        do {
+            current = reserved.get();
+            if (current + size > capacity) {
+                return false;
+            }
+        } while (!reserved.compareAndSet(current, current + size));
+        return true;
+    }
+
+    private static int sizeClass(int length) {
+        if (length <= MINIMUM_CHUNK_SIZE) {
+            return 0;
+        }
+        return Integer.numberOfTrailingZeros(ceilingPowerOfTwo(length)) - Integer.numberOfTrailingZeros(MINIMUM_CHUNK_SIZE);
+    }
+
+    private static int ceilingPowerOfTwo(int x) {
+        return 1 << -Integer.numberOfLeadingZeros(x - 1);
+    }
+}
@@ -0,0 +1,73 @@
+package io.vertx.cache.memory.impl.offheap;
+
+import io.vertx.core.buffer.Buffer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A binary value held in direct memory by an {@link OffHeapStore}.
+ *
+ * The value is reference counted: the cache entry holding it owns one reference, and each read holds another while it copies the bytes. The memory only goes back to the store
+ * once the last reference is released, so a read racing with the removal of its entry never sees the bytes of the value reusing the memory.
+ */
+public final class OffHeapValue {
+
+    private static final AtomicIntegerFieldUpdater<OffHeapValue> REFERENCES = AtomicIntegerFieldUpdater.newUpdater(OffHeapValue.class, "references");
+
+    final ByteBuffer chunk;
+    final int length;
+    final int sizeClass;
+
+    OffHeapValue(ByteBuffer chunk, int length, int sizeClass) {
+        this.chunk = chunk;
+        this.length = length;
+        this.sizeClass = sizeClass;
+        this.references = 1;
+    }
+
+    private volatile int references;
+
+    /**
+     * @return the length of the value in bytes
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Acquires a reference to the value, unless its memory was already released.
+     *
+     * @return true if a reference was acquired, to be released with {@link OffHeapStore#release(OffHeapValue)}
+     */
+    boolean retain() {
+        int current;
+        do {
+            current = references;
+            if (current <= 0) {
+                return false;
+            }
+        } while (!REFERENCES.compareAndSet(this, current, current + 1));
+        return true;
+    }
+
+    /**
+     * Releases a reference to the value.
+     *
+     * @return true if it was the last reference, and the memory can be reused
+     */
+    boolean unreference() {
+        return REFERENCES.decrementAndGet(this) == 0;
+    }
+
+    /**
+     * Copies the value to the heap, so it remains valid after the value has been released.
+     *
+     * @return The copy
+     */
+    public Buffer copy() {
+        byte[] bytes = new byte[length];
+        chunk.duplicate().get(bytes, 0, length);
+        return Buffer.buffer(bytes);
+    }
+}
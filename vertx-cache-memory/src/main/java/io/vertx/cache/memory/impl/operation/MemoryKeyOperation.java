@@ -1,17 +1,27 @@
 package io.vertx.cache.memory.impl.operation;
 
 import io.vertx.cache.common.event.CacheEvent;
+import io.vertx.cache.common.impl.stream.KeyScanStream;
 import io.vertx.cache.common.operation.KeyOperation;
+import io.vertx.cache.common.operation.KeyScanPage;
 import io.vertx.cache.memory.MemoryCache;
 import io.vertx.core.Future;
+import io.vertx.core.streams.ReadStream;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public class MemoryKeyOperation implements KeyOperation {
 
+    /**
+     * The prefix of the cursors resuming a scan after a key, which keeps them apart from {@link #START_CURSOR} whatever the key.
+     */
+    private static final String CURSOR_PREFIX = ">";
+
     private final MemoryCache cache;
 
     public MemoryKeyOperation(MemoryCache cache) {
@@ -20,15 +30,29 @@ public class MemoryKeyOperation implements KeyOperation {
 
     @Override
     public Future<Set<String>> keys(String pattern) {
+        String prefix = literalPrefix(pattern);
+
+        // A pattern without wildcards names a single key
+        if (prefix.length() == pattern.length()) {
+            Set<String> matchingKeys = new HashSet<>();
+            if (cache.keySet().contains(pattern)) {
+                matchingKeys.add(pattern);
+            }
+            return Future.succeededFuture(matchingKeys);
+        }
+
+        // A pattern anchored on a literal prefix only needs to look at the keys starting with it
+        Set<String> candidates = prefix.isEmpty() ? cache.keySet() : cache.keySet(prefix);
+        if (pattern.length() == prefix.length() + 1 && pattern.charAt(prefix.length()) == '*') {
+            return Future.succeededFuture(prefix.isEmpty() ? new HashSet<>(candidates) : candidates);
+        }
+
         // Convert glob pattern to regex pattern
         String regex = globToRegex(pattern);
         Pattern compiledPattern = Pattern.compile(regex);
 
-        // Get all keys from the cache
-        Set<String> allKeys = cache.keySet();
-
         // Filter keys that match the pattern
-        Set<String> matchingKeys = allKeys.stream()
+        Set<String> matchingKeys = candidates.stream()
                 .filter(key -> compiledPattern.matcher(key).matches())
                 .collect(Collectors.toSet());
         return Future.succeededFuture(matchingKeys);
@@ -41,6 +65,66 @@ public class MemoryKeyOperation implements KeyOperation {
         return Future.succeededFuture(allKeys);
     }
 
+    @Override
+    public ReadStream<String> scan(String pattern) {
+        return scan(pattern, DEFAULT_SCAN_COUNT);
+    }
+
+    @Override
+    public ReadStream<String> scan(String pattern, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("The scan count must be positive: " + count);
+        }
+
+        return new KeyScanStream(cache.getVertx().getOrCreateContext(), cursor -> scan(cursor, pattern, count));
+    }
+
+    @Override
+    public Future<KeyScanPage> scan(String cursor, String pattern, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("The scan count must be positive: " + count);
+        }
+
+        // The keys are paged in ascending order, so the last key of a page is all it takes to resume the scan
+        String after;
+        if (START_CURSOR.equals(cursor)) {
+            after = null;
+        } else if (cursor.startsWith(CURSOR_PREFIX)) {
+            after = cursor.substring(CURSOR_PREFIX.length());
+        } else {
+            throw new IllegalArgumentException("Invalid scan cursor: " + cursor);
+        }
+
+        List<String> page = cache.keysAfter(literalPrefix(pattern), after, count);
+        Pattern compiledPattern = Pattern.compile(globToRegex(pattern));
+        List<String> keys = new ArrayList<>(page.size());
+        for (String key : page) {
+            if (compiledPattern.matcher(key).matches()) {
+                keys.add(key);
+            }
+        }
+
+        String next = page.size() < count ? START_CURSOR : CURSOR_PREFIX + page.get(page.size() - 1);
+        return Future.succeededFuture(new KeyScanPage(next, keys));
+    }
+
+    /**
+     * Gets the part of a glob pattern before its first wildcard.
+     *
+     * @param glob The glob pattern
+     * @return The literal prefix, or the whole pattern if it has no wildcard
+     */
+    private String literalPrefix(String glob) {
+        for (int i = 0; i < glob.length(); i++) {
+            switch (glob.charAt(i)) {
+                case '*', '?', '[', '\\':
+                    return glob.substring(0, i);
+                default:
+            }
+        }
+        return glob;
+    }
+
     /**
      * Converts a glob pattern to a regex pattern.
      *
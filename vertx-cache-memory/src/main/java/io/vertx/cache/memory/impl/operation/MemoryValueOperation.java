@@ -1,18 +1,29 @@
 package io.vertx.cache.memory.impl.operation;
 
 import io.vertx.cache.common.event.CacheEvent;
+import io.vertx.cache.common.impl.load.SingleFlight;
+import io.vertx.cache.common.impl.stats.StatsCounter;
 import io.vertx.cache.common.operation.ValueOperation;
 import io.vertx.cache.common.serialization.CacheDeserializer;
 import io.vertx.cache.common.serialization.CacheSerializer;
+import io.vertx.cache.common.serialization.SerializerRegistry;
 import io.vertx.cache.memory.MemoryCache;
+import io.vertx.cache.memory.impl.MemoryCacheImpl;
+import io.vertx.cache.memory.impl.event.MemoryCacheEventManager;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Implementation of the ValueOperation interface using MemoryCacheImpl.
  *
+ * Values are stored as they are, the serializers only matter to the calls converting them. Without serializers of their own, values of the types supported by the
+ * {@link SerializerRegistry serializer registry} of the cache are encoded by the registry; the serializers of other types fail, rather than losing the values they are given.
+ *
  * @param <T> The type of values this operation works with
  */
 public class MemoryValueOperation<T> implements ValueOperation<T> {
@@ -22,46 +33,56 @@ public class MemoryValueOperation<T> implements ValueOperation<T> {
     private final Class<T> valueClass;
     private final CacheSerializer<T> serializer;
     private final CacheDeserializer<T> deserializer;
+    private final SingleFlight<T> loads = new SingleFlight<>();
+    private final StatsCounter stats = new StatsCounter();
 
     public MemoryValueOperation(MemoryCache cache, Class<T> valueClass,
             CacheSerializer<T> serializer, CacheDeserializer<T> deserializer) {
         this.cache = cache;
         this.valueClass = valueClass;
-        this.serializer = serializer != null ? serializer : createDefaultSerializer();
-        this.deserializer = deserializer != null ? deserializer : createDefaultDeserializer();
+
+        SerializerRegistry registry = cache instanceof MemoryCacheImpl impl ? impl.getSerializerRegistry() : SerializerRegistry.create();
+        boolean registered = registry.supports(valueClass);
+        this.serializer = serializer != null ? serializer : registered ? registry.serializer(valueClass) : unsupportedSerializer();
+        this.deserializer = deserializer != null ? deserializer : registered ? registry.deserializer(valueClass) : unsupportedDeserializer();
     }
 
-    private CacheSerializer<T> createDefaultSerializer() {
+    private CacheSerializer<T> unsupportedSerializer() {
         return value -> {
-            // For null values, return null
-            if (value == null) {
-                return null;
-            }
-            // For non-null values, store the object directly
-            // This works for in-memory cache but would need proper serialization for distributed cache
-            return Buffer.buffer(); // Placeholder, the actual object is stored directly
+            throw unsupported();
         };
     }
 
-    private CacheDeserializer<T> createDefaultDeserializer() {
-        return bytes -> {
-            // For null values, return null
-            if (bytes == null) {
-                return null;
-            }
-            // For non-null values, the object is stored directly in the cache
-            // This works for in-memory cache but would need proper deserialization for distributed cache
-            return null; // Placeholder, the actual object is retrieved directly
+    private CacheDeserializer<T> unsupportedDeserializer() {
+        return data -> {
+            throw unsupported();
         };
     }
 
+    private IllegalStateException unsupported() {
+        return new IllegalStateException("No serializer for values of " + valueClass.getName() + ", register the type with the serializer registry of the cache or pass a "
+                + "serializer to the operation");
+    }
+
+    /**
+     * Gets the counter recording the reads and loads of this operation.
+     *
+     * @return The stats counter
+     */
+    public StatsCounter statsCounter() {
+        return stats;
+    }
+
     protected void publishEvent(CacheEvent.EventType eventType, String key) {
-        cache.getVertx().eventBus().publish(cache.events().getEventAddress(), new CacheEvent(eventType, key).toJson());
+        if (cache.events() instanceof MemoryCacheEventManager eventManager) {
+            eventManager.publish(eventType, key);
+        }
     }
 
     @Override
     public Future<T> get(String key) {
         T value = cache.get(key);
+        stats.recordGet(value);
 
         return Future.succeededFuture(value);
     }
@@ -69,6 +90,7 @@ public class MemoryValueOperation<T> implements ValueOperation<T> {
     @Override
     public Future<T> get(String key, CacheDeserializer<T> deserializer) {
         byte[] bytes = cache.get(key);
+        stats.recordGet(bytes);
         if (bytes == null) {
             return Future.succeededFuture(null);
         }
@@ -78,6 +100,48 @@ public class MemoryValueOperation<T> implements ValueOperation<T> {
         return Future.succeededFuture(value);
     }
 
+    @Override
+    public Future<T> getOrLoad(String key, Supplier<Future<T>> loader, long ttl, TimeUnit unit) {
+        MemoryCacheImpl impl = cache instanceof MemoryCacheImpl memoryCache ? memoryCache : null;
+        Supplier<Future<T>> recordedLoader = stats.recordLoads(loader);
+        return get(key).compose(value -> {
+            if (value == null) {
+                // A tombstone records that the loader found nothing for the key not long ago
+                if (impl != null && impl.isAbsent(key)) {
+                    return Future.succeededFuture();
+                }
+                return loads.load(this, key, remember(impl, key, recordedLoader), ttl, unit);
+            }
+
+            // A value past its refresh time is served as is while it is reloaded in the background
+            if (impl != null && impl.isRefreshDue(key)) {
+                loads.refresh(this, key, remember(impl, key, recordedLoader), ttl, unit);
+            }
+            return Future.succeededFuture(value);
+        });
+    }
+
+    /**
+     * Wraps a loader so that a tombstone is stored for the key when it finds nothing, if negative caching is enabled.
+     */
+    private Supplier<Future<T>> remember(MemoryCacheImpl impl, String key, Supplier<Future<T>> loader) {
+        if (impl == null || impl.getNegativeTtl() <= 0) {
+            return loader;
+        }
+        return () -> loader.get().andThen(ar -> {
+            if (ar.succeeded() && ar.result() == null) {
+                impl.putAbsent(key);
+            }
+        });
+    }
+
+    @Override
+    public Future<Map<String, T>> getAll(List<String> keys) {
+        Map<String, T> values = cache.getAll(keys);
+        stats.recordGetAll(values.size(), keys.size() - values.size());
+        return Future.succeededFuture(values);
+    }
+
     @Override
     public Future<T> getAndSet(String key, T value) {
         T oldValue = cache.put(key, value);
@@ -92,7 +156,7 @@ public class MemoryValueOperation<T> implements ValueOperation<T> {
 
     @Override
     public Future<Void> set(String key, T value) {
-        cache.put(key, value);
+        cache.set(key, value);
         return Future.succeededFuture();
     }
 
@@ -100,9 +164,9 @@ public class MemoryValueOperation<T> implements ValueOperation<T> {
     public Future<Void> set(String key, T value, CacheSerializer<T> serializer) {
         if (serializer != null) {
             Buffer data = serializer.serialize(value);
-            cache.put(key, data.getBytes());
+            cache.set(key, data.getBytes());
         } else {
-            cache.put(key, value);
+            cache.set(key, value);
         }
 
         return Future.succeededFuture();
@@ -110,7 +174,7 @@ public class MemoryValueOperation<T> implements ValueOperation<T> {
 
     @Override
     public Future<Void> set(String key, T value, long ttl, TimeUnit unit) {
-        cache.put(key, value, unit.toMillis(ttl));
+        cache.set(key, value, unit.toMillis(ttl));
         return Future.succeededFuture();
     }
 
@@ -118,36 +182,42 @@ public class MemoryValueOperation<T> implements ValueOperation<T> {
     public Future<Void> set(String key, T value, long ttl, TimeUnit unit, CacheSerializer<T> serializer) {
         if (serializer != null) {
             Buffer data = serializer.serialize(value);
-            cache.put(key, data.getBytes(), unit.toMillis(ttl));
+            cache.set(key, data.getBytes(), unit.toMillis(ttl));
         } else {
-            cache.put(key, value, unit.toMillis(ttl));
+            cache.set(key, value, unit.toMillis(ttl));
         }
 
         return Future.succeededFuture();
     }
 
+    @Override
+    public Future<Void> setAll(Map<String, T> entries) {
+        cache.putAll(entries);
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public Future<Void> setAll(Map<String, T> entries, long ttl, TimeUnit unit) {
+        cache.putAll(entries, unit.toMillis(ttl));
+        return Future.succeededFuture();
+    }
+
     @Override
     public Future<Void> setIfAbsent(String key, T value) {
-        T existingValue = cache.get(key);
-        if (existingValue == null) {
-            cache.put(key, value);
-        }
+        cache.putIfAbsent(key, value);
         return Future.succeededFuture();
     }
 
     @Override
     public Future<Void> setIfAbsent(String key, T value, long ttl, TimeUnit unit) {
-        T existingValue = cache.get(key);
-        if (existingValue == null) {
-            cache.put(key, value, unit.toMillis(ttl));
-        }
+        cache.putIfAbsent(key, value, unit.toMillis(ttl));
         return Future.succeededFuture();
     }
 
     @Override
     public Future<Boolean> exists(String... key) {
         for (String k : key) {
-            if (!cache.keySet().contains(k)) {
+            if (!cache.containsKey(k)) {
                 return Future.succeededFuture(false);
             }
         }
@@ -2,12 +2,103 @@ package io.vertx.cache.memory.impl.operation.binary;
 
 import io.vertx.cache.common.operation.binary.BinaryOperation;
 import io.vertx.cache.memory.MemoryCache;
+import io.vertx.cache.memory.impl.offheap.OffHeapStore;
+import io.vertx.cache.memory.impl.offheap.OffHeapValue;
 import io.vertx.cache.memory.impl.operation.MemoryValueOperation;
+import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+
+/**
+ * Binary operations of the memory cache. When an {@link OffHeapStore} is given, values are copied into direct memory on write and copied back to the heap on read; values that
+ * do not fit in the store anymore are kept on the heap. Only {@link #getAndSet(String, Buffer)} reads the value it replaces, the other writes release it without copying it.
+ */
 public class MemoryBinaryOperation extends MemoryValueOperation<Buffer> implements BinaryOperation {
 
+    private final OffHeapStore offHeapStore;
+
     public MemoryBinaryOperation(MemoryCache cache) {
+        this(cache, null);
+    }
+
+    public MemoryBinaryOperation(MemoryCache cache, OffHeapStore offHeapStore) {
         super(cache, Buffer.class, null, null);
+        this.offHeapStore = offHeapStore;
+    }
+
+    @Override
+    public Future<Buffer> getAndSet(String key, Buffer value) {
+        Object oldValue = cache.put(key, store(value));
+        return Future.succeededFuture((Buffer) oldValue);
+    }
+
+    @Override
+    public Future<Void> set(String key, Buffer value) {
+        cache.set(key, store(value));
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public Future<Void> set(String key, Buffer value, long ttl, TimeUnit unit) {
+        cache.set(key, store(value), unit.toMillis(ttl));
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public Future<Void> setAll(Map<String, Buffer> entries) {
+        cache.putAll(store(entries));
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public Future<Void> setAll(Map<String, Buffer> entries, long ttl, TimeUnit unit) {
+        cache.putAll(store(entries), unit.toMillis(ttl));
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public Future<Void> setIfAbsent(String key, Buffer value) {
+        if (!cache.containsKey(key)) {
+            putIfAbsent(key, value, cache::putIfAbsent);
+        }
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public Future<Void> setIfAbsent(String key, Buffer value, long ttl, TimeUnit unit) {
+        if (!cache.containsKey(key)) {
+            long ttlMillis = unit.toMillis(ttl);
+            putIfAbsent(key, value, (k, stored) -> cache.putIfAbsent(k, stored, ttlMillis));
+        }
+        return Future.succeededFuture();
+    }
+
+    /**
+     * Puts a value unless the key holds one, returning its off-heap memory to the store when another writer got there first.
+     */
+    private void putIfAbsent(String key, Buffer value, BiPredicate<String, Object> put) {
+        Object stored = store(value);
+        if (!put.test(key, stored) && stored instanceof OffHeapValue offHeapValue) {
+            offHeapStore.release(offHeapValue);
+        }
+    }
+
+    private Map<String, Object> store(Map<String, Buffer> entries) {
+        Map<String, Object> stored = new LinkedHashMap<>(entries.size() * 4 / 3 + 1);
+        entries.forEach((key, value) -> stored.put(key, store(value)));
+        return stored;
+    }
+
+    private Object store(Buffer value) {
+        if (offHeapStore == null || value == null) {
+            return value;
+        }
+
+        OffHeapValue offHeapValue = offHeapStore.allocate(value);
+        return offHeapValue != null ? offHeapValue : value;
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package io.vertx.cache.memory.impl.operation.number;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A mutable counter stored as the value of a cache entry. Cells are updated in place without holding the lock of their key, so a cell is retired once its entry has left the
+ * cache: an update either enters the cell before it is retired, and the retirement waits for it so that the final value includes it, or finds the cell retired and leaves it
+ * untouched, to be applied to the entry now holding the key.
+ */
+public abstract class CounterCell extends Number {
+
+    private static final AtomicIntegerFieldUpdater<CounterCell> UPDATES = AtomicIntegerFieldUpdater.newUpdater(CounterCell.class, "updates");
+
+    private volatile int updates;
+    private volatile boolean retired;
+
+    /**
+     * Enters an update of the cell, which must be followed by {@link #exit()} once the value is updated.
+     *
+     * @return true if the update may proceed, false if the cell is retired
+     */
+    public final boolean enter() {
+        UPDATES.incrementAndGet(this);
+        if (retired) {
+            UPDATES.decrementAndGet(this);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Exits an update of the cell.
+     */
+    public final void exit() {
+        UPDATES.decrementAndGet(this);
+    }
+
+    /**
+     * Retires the cell after its entry has left the cache, waiting for the updates in progress so that the value is final once this method returns.
+     */
+    public final void retire() {
+        retired = true;
+        while (updates != 0) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.vertx.cache.memory.impl.operation.number;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A mutable floating point counter stored as the value of a cache entry. The value is kept as its raw IEEE 754 bits in an {@link AtomicLong} and updated with a compare and
+ * swap loop, since there is no atomic primitive for doubles. Readers of the cache see the boxed current value, never the cell itself.
+ */
+public final class DoubleCell extends CounterCell {
+
+    private final AtomicLong bits;
+
+    public DoubleCell(double initialValue) {
+        this.bits = new AtomicLong(Double.doubleToRawLongBits(initialValue));
+    }
+
+    /**
+     * Atomically adds to the current value.
+     *
+     * @param delta The value to add
+     * @return The updated value
+     */
+    public double addAndGet(double delta) {
+        while (true) {
+            long current = bits.get();
+            double next = Double.longBitsToDouble(current) + delta;
+            if (bits.compareAndSet(current, Double.doubleToRawLongBits(next))) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * @return the current value
+     */
+    public double get() {
+        return Double.longBitsToDouble(bits.get());
+    }
+
+    @Override
+    public int intValue() {
+        return (int) get();
+    }
+
+    @Override
+    public long longValue() {
+        return (long) get();
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) get();
+    }
+
+    @Override
+    public double doubleValue() {
+        return get();
+    }
+
+    @Override
+    public String toString() {
+        return Double.toString(get());
+    }
+}
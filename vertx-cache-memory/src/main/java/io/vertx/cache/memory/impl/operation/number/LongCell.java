@@ -0,0 +1,60 @@
+package io.vertx.cache.memory.impl.operation.number;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A mutable counter stored as the value of a cache entry, so that incrementing a key updates the entry in place instead of boxing a new value and allocating a new entry.
+ * Readers of the cache see the boxed current value, never the cell itself.
+ */
+public final class LongCell extends CounterCell {
+
+    private static final AtomicLongFieldUpdater<LongCell> VALUE = AtomicLongFieldUpdater.newUpdater(LongCell.class, "value");
+
+    private volatile long value;
+
+    public LongCell(long initialValue) {
+        this.value = initialValue;
+    }
+
+    /**
+     * Atomically adds to the current value.
+     *
+     * @param delta The value to add
+     * @return The updated value
+     */
+    public long addAndGet(long delta) {
+        return VALUE.addAndGet(this, delta);
+    }
+
+    /**
+     * @return the current value
+     */
+    public long get() {
+        return value;
+    }
+
+    @Override
+    public int intValue() {
+        return (int) get();
+    }
+
+    @Override
+    public long longValue() {
+        return get();
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) get();
+    }
+
+    @Override
+    public double doubleValue() {
+        return (double) get();
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(get());
+    }
+}
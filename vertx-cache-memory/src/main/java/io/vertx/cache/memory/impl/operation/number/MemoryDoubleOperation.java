@@ -1,11 +1,14 @@
 package io.vertx.cache.memory.impl.operation.number;
 
-import io.vertx.cache.common.event.CacheEvent;
 import io.vertx.cache.common.operation.number.NumberOperation;
 import io.vertx.cache.memory.MemoryCache;
 import io.vertx.cache.memory.impl.operation.MemoryValueOperation;
 import io.vertx.core.Future;
 
+/**
+ * Number operations of the memory cache. Increments and decrements update a counter cell in place through {@link MemoryCache#addAndGet(String, double)}, so concurrent updates
+ * are never lost. Like writes, they publish {@code KEY_UPDATED} events.
+ */
 public class MemoryDoubleOperation extends MemoryValueOperation<Double> implements NumberOperation<Double> {
 
     public MemoryDoubleOperation(MemoryCache cache) {
@@ -19,17 +22,11 @@ public class MemoryDoubleOperation extends MemoryValueOperation<Double> implemen
 
     @Override
     public Future<Double> increment(String key, Double amount) {
-        Double currentValue = cache.get(key);
-
-        double newValue;
-        if (currentValue == null) {
-            newValue = amount;
-        } else {
-            newValue = currentValue + amount;
+        try {
+            return Future.succeededFuture(cache.addAndGet(key, amount.doubleValue()));
+        } catch (NumberFormatException e) {
+            return Future.failedFuture(e);
         }
-
-        cache.put(key, newValue);
-        return Future.succeededFuture(newValue);
     }
 
     @Override
@@ -39,16 +36,10 @@ public class MemoryDoubleOperation extends MemoryValueOperation<Double> implemen
 
     @Override
     public Future<Double> decrement(String key, Double amount) {
-        Double currentValue = cache.get(key);
-
-        double newValue;
-        if (currentValue == null) {
-            newValue = -amount;
-        } else {
-            newValue = currentValue - amount;
+        try {
+            return Future.succeededFuture(cache.addAndGet(key, -amount.doubleValue()));
+        } catch (NumberFormatException e) {
+            return Future.failedFuture(e);
         }
-
-        cache.put(key, newValue);
-        return Future.succeededFuture(newValue);
     }
 }
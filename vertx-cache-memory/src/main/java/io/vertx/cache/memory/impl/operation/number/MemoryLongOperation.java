@@ -1,11 +1,14 @@
 package io.vertx.cache.memory.impl.operation.number;
 
-import io.vertx.cache.common.event.CacheEvent;
 import io.vertx.cache.common.operation.number.NumberOperation;
 import io.vertx.cache.memory.MemoryCache;
 import io.vertx.cache.memory.impl.operation.MemoryValueOperation;
 import io.vertx.core.Future;
 
+/**
+ * Number operations of the memory cache. Increments and decrements update a counter cell in place through {@link MemoryCache#addAndGet(String, long)}, so concurrent updates
+ * are never lost. Like writes, they publish {@code KEY_UPDATED} events.
+ */
 public class MemoryLongOperation extends MemoryValueOperation<Long> implements NumberOperation<Long> {
 
     public MemoryLongOperation(MemoryCache cache) {
@@ -19,17 +22,11 @@ public class MemoryLongOperation extends MemoryValueOperation<Long> implements N
 
     @Override
     public Future<Long> increment(String key, Long amount) {
-        Long currentValue = cache.get(key);
-
-        Long newValue;
-        if (currentValue == null) {
-            newValue = amount;
-        } else {
-            newValue = currentValue + amount;
+        try {
+            return Future.succeededFuture(cache.addAndGet(key, amount.longValue()));
+        } catch (NumberFormatException e) {
+            return Future.failedFuture(e);
         }
-
-        cache.put(key, newValue);
-        return Future.succeededFuture(newValue);
     }
 
     @Override
@@ -39,16 +36,10 @@ public class MemoryLongOperation extends MemoryValueOperation<Long> implements N
 
     @Override
     public Future<Long> decrement(String key, Long amount) {
-        Long currentValue = cache.get(key);
-
-        long newValue;
-        if (currentValue == null) {
-            newValue = -amount;
-        } else {
-            newValue = currentValue - amount;
+        try {
+            return Future.succeededFuture(cache.addAndGet(key, -amount.longValue()));
+        } catch (NumberFormatException e) {
+            return Future.failedFuture(e);
         }
-
-        cache.put(key, newValue);
-        return Future.succeededFuture(newValue);
     }
 }
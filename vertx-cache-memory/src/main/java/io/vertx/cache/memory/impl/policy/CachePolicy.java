@@ -0,0 +1,295 @@
+package io.vertx.cache.memory.impl.policy;
+
+import io.vertx.cache.common.event.CacheEvent;
+import io.vertx.cache.memory.Weigher;
+import io.vertx.cache.memory.impl.MemoryCacheImpl.CacheEntry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coordinates the bookkeeping of a memory cache without putting a lock on the read or write path. Reads and writes are recorded into buffers and replayed against the policy
+ * by whichever thread manages to acquire the maintenance lock; threads that fail to acquire it simply move on, leaving the work to the current holder.
+ *
+ * Writes only record the key that changed. When replayed, the policy reconciles the key against the current content of the cache, which makes the replay insensitive to the
+ * order in which concurrent writers recorded their changes.
+ *
+ * Entries with an expiration time are scheduled on a {@link TimerWheel}, so expiring entries only costs work proportional to the number of entries that are due.
+ */
+public final class CachePolicy {
+
+    private final ConcurrentMap<String, CacheEntry<?>> data;
+    private final RemovalListener removalListener;
+    private final EvictionPolicy eviction;
+    private final Weigher weigher;
+    private final TimerWheel timerWheel;
+
+    private final ReadBuffer readBuffer = new ReadBuffer();
+    private final Queue<String> writeBuffer = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Node> nodes = new HashMap<>();
+
+    /**
+     * Creates a policy for the given cache content.
+     *
+     * @param data The map backing the cache
+     * @param maximumSize The maximum number of entries, or 0 for an unbounded cache. Ignored when a maximum weight is set
+     * @param maximumWeight The maximum total weight of the entries, or 0 to bound the cache by its number of entries instead
+     * @param weigher The weigher computing the weight of the entries when the cache is bounded by weight
+     * @param removalListener The listener notified of entries removed by the policy
+     * @param now The current time in milliseconds
+     */
+    public CachePolicy(ConcurrentMap<String, CacheEntry<?>> data, long maximumSize, long maximumWeight, Weigher weigher, RemovalListener removalListener, long now) {
+        this.data = data;
+        this.removalListener = removalListener;
+        if (maximumWeight > 0) {
+            this.eviction = new EvictionPolicy(maximumWeight, true);
+            this.weigher = weigher;
+        } else {
+            this.eviction = maximumSize > 0 ? new EvictionPolicy(maximumSize, false) : null;
+            this.weigher = null;
+        }
+        this.timerWheel = new TimerWheel(now);
+    }
+
+    /**
+     * Computes the weight of an entry about to be written. Weighing happens on the writer's thread, so the maintenance only has to adjust the totals.
+     *
+     * @param key The key of the entry
+     * @param value The value of the entry
+     * @return The weight of the entry, always 1 when the cache is not bounded by weight
+     * @throws IllegalArgumentException if the weigher returns a negative weight
+     */
+    public int weigh(String key, Object value) {
+        if (weigher == null) {
+            return 1;
+        }
+
+        int weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Negative weight " + weight + " for key " + key);
+        }
+        return weight;
+    }
+
+    /**
+     * Records a successful read of a key.
+     *
+     * @param key The key that was read
+     */
+    public void recordRead(String key) {
+        if (eviction != null && readBuffer.offer(key)) {
+            tryMaintenance();
+        }
+    }
+
+    /**
+     * Records that the entry of a key was inserted, replaced or removed.
+     *
+     * @param key The key that was written
+     */
+    public void recordWrite(String key) {
+        writeBuffer.add(key);
+        tryMaintenance();
+    }
+
+    /**
+     * Forgets all tracked keys, typically after the cache has been cleared. Keys written concurrently with the clear are reconciled again.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            for (Node node : nodes.values()) {
+                timerWheel.deschedule(node);
+            }
+            nodes.clear();
+            if (eviction != null) {
+                eviction.clear();
+            }
+            maintenance();
+        } finally {
+            lock.unlock();
+        }
+        afterMaintenance();
+    }
+
+    /**
+     * Gets the total weight of the entries, once the pending maintenance is done. Waits for the maintenance lock if needed.
+     *
+     * @return The total weight, or -1 if the cache is not bounded by weight
+     */
+    public long weightedSize() {
+        if (weigher == null) {
+            return -1;
+        }
+
+        long weight;
+        lock.lock();
+        try {
+            maintenance();
+            weight = eviction.weight();
+        } finally {
+            lock.unlock();
+        }
+        afterMaintenance();
+        return weight;
+    }
+
+    /**
+     * Performs any pending maintenance, waiting for the maintenance lock if needed.
+     */
+    public void cleanUp() {
+        lock.lock();
+        try {
+            maintenance();
+        } finally {
+            lock.unlock();
+        }
+        afterMaintenance();
+    }
+
+    /**
+     * Expires the entries that are due at the given time. The work is bounded by a time slice; entries that could not be expired within it are kept aside and expired first on
+     * the next call. If the maintenance lock is busy, nothing is done and the caller is expected to try again later.
+     *
+     * @param now The current time in milliseconds
+     * @param timeSliceNanos The maximum time to spend expiring entries, in nanoseconds
+     * @return true if expired entries remain to be processed
+     */
+    public boolean expireEntries(long now, long timeSliceNanos) {
+        if (!lock.tryLock()) {
+            return false;
+        }
+
+        boolean remaining;
+        try {
+            maintenance();
+            timerWheel.advance(now);
+
+            long deadline = System.nanoTime() + timeSliceNanos;
+            Node node;
+            while ((node = timerWheel.pollExpired()) != null) {
+                expire(node);
+                if (System.nanoTime() - deadline >= 0) {
+                    break;
+                }
+            }
+            remaining = timerWheel.hasExpired();
+        } finally {
+            lock.unlock();
+        }
+        afterMaintenance();
+        return remaining;
+    }
+
+    private void tryMaintenance() {
+        // A writer that fails to acquire the lock relies on the holder re-checking the write buffer after releasing it
+        while (lock.tryLock()) {
+            try {
+                maintenance();
+            } finally {
+                lock.unlock();
+            }
+
+            if (writeBuffer.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    private void afterMaintenance() {
+        if (!writeBuffer.isEmpty()) {
+            tryMaintenance();
+        }
+    }
+
+    private void maintenance() {
+        readBuffer.drainTo(this::onRead);
+
+        String key;
+        while ((key = writeBuffer.poll()) != null) {
+            onWrite(key);
+        }
+
+        if (eviction != null) {
+            eviction.evict(this::evict);
+        }
+    }
+
+    private void onRead(String key) {
+        if (eviction == null) {
+            return;
+        }
+
+        eviction.onRead(key);
+
+        Node node = nodes.get(key);
+        if (node != null) {
+            eviction.onAccess(node);
+        }
+    }
+
+    private void onWrite(String key) {
+        CacheEntry<?> current = data.get(key);
+        Node node = nodes.get(key);
+
+        // Without a size bound, only entries that expire need to be tracked
+        if (current == null || (eviction == null && current.getExpirationTime() == 0)) {
+            if (node != null) {
+                unlink(node);
+            }
+            return;
+        }
+
+        if (node == null) {
+            node = new Node(key, current);
+            nodes.put(key, node);
+            if (eviction != null) {
+                node.weight = current.getWeight();
+                eviction.onAdd(node);
+            }
+        } else if (node.entry != current) {
+            node.entry = current;
+            if (eviction != null) {
+                eviction.onUpdate(node, current.getWeight());
+                eviction.onRead(key);
+                eviction.onAccess(node);
+            }
+        } else {
+            return;
+        }
+
+        if (current.getExpirationTime() > 0) {
+            timerWheel.schedule(node);
+        } else {
+            timerWheel.deschedule(node);
+        }
+    }
+
+    private void unlink(Node node) {
+        nodes.remove(node.key);
+        timerWheel.deschedule(node);
+        if (eviction != null) {
+            eviction.onRemove(node);
+        }
+    }
+
+    private void evict(Node node) {
+        nodes.remove(node.key);
+        timerWheel.deschedule(node);
+        if (data.remove(node.key, node.entry)) {
+            removalListener.onRemoval(node.key, node.entry, CacheEvent.EventType.KEY_EVICTED);
+        }
+    }
+
+    private void expire(Node node) {
+        unlink(node);
+        if (data.remove(node.key, node.entry)) {
+            removalListener.onRemoval(node.key, node.entry, CacheEvent.EventType.KEY_EXPIRED);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package io.vertx.cache.memory.impl.policy;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Window TinyLFU eviction policy. New keys enter a small LRU admission window; keys leaving the window compete against the least recently used key of the main region and are
+ * only admitted when the {@link FrequencySketch} estimates them to be more popular. The main region is a segmented LRU split into a probation and a protected segment, so that
+ * keys accessed more than once are shielded from scans.
+ *
+ * Each region is bounded by the total weight of its nodes. When the cache is bounded by its number of entries, every node weighs one. Nodes weighing zero are never chosen as
+ * victims, since evicting them frees nothing: like in Caffeine, they are moved to the most recently used end of their segment and the next eldest node is considered instead.
+ *
+ * This class is not thread-safe, it is only accessed by the {@link CachePolicy} while holding its maintenance lock.
+ */
+final class EvictionPolicy {
+
+    private static final double WINDOW_PERCENTAGE = 0.01;
+    private static final double PROTECTED_PERCENTAGE = 0.80;
+    private static final int ADMIT_HASHDOS_THRESHOLD = 6;
+
+    private final long maximum;
+    private final long windowMaximum;
+    private final long mainMaximum;
+    private final long protectedMaximum;
+    private final boolean weighted;
+    private final FrequencySketch sketch;
+
+    private final LinkedHashMap<String, Node> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Node> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Node> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+
+    /**
+     * Creates a policy bounded by the total weight of its nodes.
+     *
+     * @param maximum The maximum total weight
+     * @param weighted Whether nodes may weigh more than one, in which case the frequency sketch grows with the number of tracked keys
+     */
+    EvictionPolicy(long maximum, boolean weighted) {
+        this.maximum = maximum;
+        this.windowMaximum = Math.min(maximum, Math.max(1, (long) (maximum * WINDOW_PERCENTAGE)));
+        this.mainMaximum = maximum - windowMaximum;
+        this.protectedMaximum = (long) (mainMaximum * PROTECTED_PERCENTAGE);
+        this.weighted = weighted;
+        this.sketch = new FrequencySketch(weighted ? 16 : maximum);
+    }
+
+    /**
+     * @return the number of keys tracked by the policy
+     */
+    long size() {
+        return window.size() + probation.size() + protectedSegment.size();
+    }
+
+    /**
+     * @return the total weight of the keys tracked by the policy
+     */
+    long weight() {
+        return windowWeight + probationWeight + protectedWeight;
+    }
+
+    /**
+     * Records the frequency of a key that may or may not be present in the cache.
+     *
+     * @param key The accessed key
+     */
+    void onRead(String key) {
+        sketch.increment(key);
+    }
+
+    /**
+     * Adds a newly inserted key to the admission window.
+     *
+     * @param node The node of the inserted key
+     */
+    void onAdd(Node node) {
+        window.put(node.key, node);
+        node.segment = Node.Segment.WINDOW;
+        windowWeight += node.weight;
+        if (weighted) {
+            sketch.ensureCapacity(size());
+        }
+        sketch.increment(node.key);
+    }
+
+    /**
+     * Changes the weight of a key that is tracked by the policy.
+     *
+     * @param node The node of the updated key
+     * @param weight The new weight of the key
+     */
+    void onUpdate(Node node, int weight) {
+        long delta = weight - node.weight;
+        node.weight = weight;
+        switch (node.segment) {
+            case WINDOW -> windowWeight += delta;
+            case PROBATION -> probationWeight += delta;
+            case PROTECTED -> protectedWeight += delta;
+        }
+    }
+
+    /**
+     * Updates the recency of a key that is tracked by the policy, promoting it to the protected segment if it was on probation.
+     *
+     * @param node The node of the accessed key
+     */
+    void onAccess(Node node) {
+        switch (node.segment) {
+            case WINDOW -> window.get(node.key);
+            case PROBATION -> {
+                unlink(node);
+                node.segment = Node.Segment.PROTECTED;
+                protectedSegment.put(node.key, node);
+                protectedWeight += node.weight;
+                demoteFromProtected();
+            }
+            case PROTECTED -> protectedSegment.get(node.key);
+        }
+    }
+
+    /**
+     * Stops tracking a key that was removed from the cache.
+     *
+     * @param node The node of the removed key
+     */
+    void onRemove(Node node) {
+        unlink(node);
+    }
+
+    /**
+     * Evicts keys until the policy is within its bounds.
+     *
+     * @param evictor Receives each node chosen for eviction, after it has been unlinked from the policy
+     */
+    void evict(Consumer<Node> evictor) {
+        while (windowWeight > windowMaximum && !window.isEmpty()) {
+            Node candidate = eldest(window);
+            unlink(candidate);
+
+            // An entry heavier than the whole cache can never be retained, and must not flush the other entries trying
+            if (candidate.weight > maximum) {
+                evictor.accept(candidate);
+                continue;
+            }
+
+            if (candidate.weight == 0 || probationWeight + protectedWeight + candidate.weight <= mainMaximum) {
+                addToProbation(candidate);
+                continue;
+            }
+
+            Node victim = victim(probation);
+            if (victim == null) {
+                victim = victim(protectedSegment);
+            }
+
+            if (victim == null || admit(candidate.key, victim.key)) {
+                if (victim != null) {
+                    unlink(victim);
+                    evictor.accept(victim);
+                }
+                addToProbation(candidate);
+            } else {
+                evictor.accept(candidate);
+            }
+        }
+
+        while (weight() > maximum) {
+            Node victim = victim(probation);
+            if (victim == null) {
+                victim = victim(protectedSegment);
+            }
+            if (victim == null) {
+                victim = victim(window);
+            }
+            if (victim == null) {
+                return;
+            }
+
+            unlink(victim);
+            evictor.accept(victim);
+        }
+    }
+
+    /**
+     * Stops tracking all keys. The frequency history is retained.
+     */
+    void clear() {
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+        windowWeight = 0;
+        probationWeight = 0;
+        protectedWeight = 0;
+    }
+
+    private boolean admit(String candidateKey, String victimKey) {
+        int victimFrequency = sketch.frequency(victimKey);
+        int candidateFrequency = sketch.frequency(candidateKey);
+        if (candidateFrequency > victimFrequency) {
+            return true;
+        }
+
+        if (candidateFrequency < ADMIT_HASHDOS_THRESHOLD) {
+            return false;
+        }
+
+        // Admit a warm candidate now and then, so an attacker cannot pin the victim by inflating its frequency
+        return (ThreadLocalRandom.current().nextInt() & 127) == 0;
+    }
+
+    private void demoteFromProtected() {
+        while (protectedWeight > protectedMaximum && protectedSegment.size() > 1) {
+            Node node = eldest(protectedSegment);
+            unlink(node);
+            addToProbation(node);
+        }
+    }
+
+    private void addToProbation(Node node) {
+        node.segment = Node.Segment.PROBATION;
+        probation.put(node.key, node);
+        probationWeight += node.weight;
+    }
+
+    private void unlink(Node node) {
+        switch (node.segment) {
+            case WINDOW -> {
+                window.remove(node.key);
+                windowWeight -= node.weight;
+            }
+            case PROBATION -> {
+                probation.remove(node.key);
+                probationWeight -= node.weight;
+            }
+            case PROTECTED -> {
+                protectedSegment.remove(node.key);
+                protectedWeight -= node.weight;
+            }
+        }
+    }
+
+    /**
+     * Gets the eldest node of a segment that weighs more than zero, moving the zero weight nodes found before it to the most recently used end of the segment. Each node is
+     * looked at once at most, so that a segment of zero weight nodes only is walked through a single time.
+     *
+     * @return The victim, or null if every node of the segment weighs zero
+     */
+    private static Node victim(LinkedHashMap<String, Node> segment) {
+        for (int i = segment.size(); i > 0; i--) {
+            Node node = eldest(segment);
+            if (node.weight > 0) {
+                return node;
+            }
+            segment.get(node.key);
+        }
+        return null;
+    }
+
+    private static Node eldest(LinkedHashMap<String, Node> segment) {
+        Iterator<Node> iterator = segment.values().iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+}
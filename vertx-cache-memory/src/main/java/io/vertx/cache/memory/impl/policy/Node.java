@@ -0,0 +1,33 @@
+package io.vertx.cache.memory.impl.policy;
+
+import io.vertx.cache.memory.impl.MemoryCacheImpl.CacheEntry;
+
+/**
+ * The policy's view of a cached key. A node references the entry that was present in the cache when the key was last reconciled, along with the bookkeeping needed by the
+ * eviction policy and the timer wheel. The weight is only meaningful to a weighted eviction policy.
+ */
+final class Node {
+
+    final String key;
+    CacheEntry<?> entry;
+    Segment segment;
+    int weight;
+
+    Node previousInTimer;
+    Node nextInTimer;
+
+    Node(String key, CacheEntry<?> entry) {
+        this.key = key;
+        this.entry = entry;
+        this.weight = 1;
+    }
+
+    /**
+     * The region of the W-TinyLFU policy a node currently belongs to.
+     */
+    enum Segment {
+        WINDOW,
+        PROBATION,
+        PROTECTED
+    }
+}
@@ -0,0 +1,94 @@
+package io.vertx.cache.memory.impl.policy;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A striped, lossy buffer recording key accesses. Readers pick a stripe based on their thread and append without locking; when a stripe is full or contended the access is
+ * simply dropped, since the policy only needs a representative sample of reads. The buffer is drained by the {@link CachePolicy} while holding its maintenance lock.
+ */
+final class ReadBuffer {
+
+    private static final int STRIPES = ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors() * 4);
+    private static final int STRIPE_MASK = STRIPES - 1;
+    private static final int BUFFER_SIZE = 16;
+    private static final int BUFFER_MASK = BUFFER_SIZE - 1;
+
+    private final Stripe[] stripes;
+
+    ReadBuffer() {
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Records an access to a key.
+     *
+     * @param key The key that was read
+     * @return true if the stripe is full and the buffer should be drained
+     */
+    boolean offer(String key) {
+        return stripes[stripeIndex()].offer(key);
+    }
+
+    /**
+     * Drains all recorded accesses into the consumer. Must only be called by a single thread at a time.
+     *
+     * @param consumer The consumer of the recorded keys
+     */
+    void drainTo(Consumer<String> consumer) {
+        for (Stripe stripe : stripes) {
+            stripe.drainTo(consumer);
+        }
+    }
+
+    private static int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9e3779b9;
+        return (hash ^ (hash >>> 16)) & STRIPE_MASK;
+    }
+
+    private static int ceilingPowerOfTwo(int x) {
+        return 1 << -Integer.numberOfLeadingZeros(x - 1);
+    }
+
+    private static final class Stripe {
+
+        private final AtomicLong readCounter = new AtomicLong();
+        private final AtomicLong writeCounter = new AtomicLong();
+        private final AtomicReferenceArray<String> buffer = new AtomicReferenceArray<>(BUFFER_SIZE);
+
+        boolean offer(String key) {
+            long head = readCounter.get();
+            long tail = writeCounter.get();
+            long size = tail - head;
+            if (size >= BUFFER_SIZE) {
+                return true;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) (tail & BUFFER_MASK), key);
+                return size + 1 >= BUFFER_SIZE;
+            }
+            return false;
+        }
+
+        void drainTo(Consumer<String> consumer) {
+            long head = readCounter.get();
+            long tail = writeCounter.get();
+            for (; head < tail; head++) {
+                int index = (int) (head & BUFFER_MASK);
+                String key = buffer.get(index);
+                if (key == null) {
+                    // The writer claimed the slot but has not published it yet
+                    break;
+                }
+                buffer.lazySet(index, null);
+                consumer.accept(key);
+            }
+            readCounter.lazySet(head);
+        }
+    }
+}
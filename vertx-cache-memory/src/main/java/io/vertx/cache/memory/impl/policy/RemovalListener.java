@@ -0,0 +1,20 @@
+package io.vertx.cache.memory.impl.policy;
+
+import io.vertx.cache.common.event.CacheEvent;
+import io.vertx.cache.memory.impl.MemoryCacheImpl.CacheEntry;
+
+/**
+ * Listener notified when the {@link CachePolicy} removes an entry from the cache on its own behalf.
+ */
+@FunctionalInterface
+public interface RemovalListener {
+
+    /**
+     * Called after an entry has been removed from the cache.
+     *
+     * @param key The key of the removed entry
+     * @param entry The removed entry
+     * @param cause The type of event describing why the entry was removed
+     */
+    void onRemoval(String key, CacheEntry<?> entry, CacheEvent.EventType cause);
+}
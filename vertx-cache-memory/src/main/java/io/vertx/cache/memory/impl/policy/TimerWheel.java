@@ -0,0 +1,161 @@
+package io.vertx.cache.memory.impl.policy;
+
+/**
+ * A hierarchical timing wheel scheduling the expiration of cache entries. Each level is an array of buckets holding a doubly linked list of nodes whose expiration time falls
+ * within the bucket's span; coarser levels cover longer horizons and their nodes cascade down as time advances. Scheduling and descheduling are O(1), and advancing the wheel
+ * only visits the buckets whose span has elapsed, so the cost of a tick is proportional to the number of entries due rather than to the size of the cache.
+ *
+ * Nodes that are due are moved to an expired list instead of being expired immediately, so the caller can process them in bounded slices.
+ *
+ * This class is not thread-safe, it is only accessed by the {@link CachePolicy} while holding its maintenance lock.
+ */
+final class TimerWheel {
+
+    private static final int[] BUCKETS = { 64, 64, 64, 64, 64, 1 };
+
+    /**
+     * The log2 of each level's bucket span in milliseconds: ~64ms, ~4s, ~4.4m, ~4.7h, ~12.4d and the overflow level.
+     */
+    private static final int[] SHIFT = { 6, 12, 18, 24, 30, 36 };
+
+    private final Node[][] wheel;
+    private final Node expired;
+    private long currentTime;
+
+    TimerWheel(long now) {
+        this.currentTime = now;
+        this.expired = sentinel();
+        this.wheel = new Node[BUCKETS.length][];
+        for (int i = 0; i < BUCKETS.length; i++) {
+            wheel[i] = new Node[BUCKETS[i]];
+            for (int j = 0; j < BUCKETS[i]; j++) {
+                wheel[i][j] = sentinel();
+            }
+        }
+    }
+
+    /**
+     * Schedules a node according to the expiration time of its entry, replacing any previous schedule.
+     *
+     * @param node The node to schedule
+     */
+    void schedule(Node node) {
+        deschedule(node);
+
+        long expirationTime = node.entry.getExpirationTime();
+        link(expirationTime < currentTime ? expired : findBucket(expirationTime), node);
+    }
+
+    /**
+     * Removes a node from the wheel or from the expired list, if it is scheduled.
+     *
+     * @param node The node to deschedule
+     */
+    void deschedule(Node node) {
+        if (node.nextInTimer != null) {
+            node.nextInTimer.previousInTimer = node.previousInTimer;
+            node.previousInTimer.nextInTimer = node.nextInTimer;
+            node.nextInTimer = null;
+            node.previousInTimer = null;
+        }
+    }
+
+    /**
+     * Advances the wheel to the given time, moving every node whose entry has expired to the expired list and cascading the others to finer levels.
+     *
+     * @param now The current time in milliseconds
+     */
+    void advance(long now) {
+        long previousTime = currentTime;
+        if (now <= previousTime) {
+            return;
+        }
+
+        currentTime = now;
+        for (int i = 0; i < SHIFT.length; i++) {
+            long previousTicks = previousTime >>> SHIFT[i];
+            long currentTicks = now >>> SHIFT[i];
+            long delta = currentTicks - previousTicks;
+            if (delta <= 0) {
+                break;
+            }
+            expire(i, previousTicks, delta);
+        }
+    }
+
+    /**
+     * Removes and returns the next node from the expired list.
+     *
+     * @return The next expired node, or null if there is none
+     */
+    Node pollExpired() {
+        Node node = expired.nextInTimer;
+        if (node == expired) {
+            return null;
+        }
+
+        deschedule(node);
+        return node;
+    }
+
+    /**
+     * @return true if the expired list still holds nodes
+     */
+    boolean hasExpired() {
+        return expired.nextInTimer != expired;
+    }
+
+    private void expire(int level, long previousTicks, long delta) {
+        Node[] buckets = wheel[level];
+        int mask = buckets.length - 1;
+        int steps = (int) Math.min(1 + delta, buckets.length);
+        int start = (int) (previousTicks & mask);
+
+        for (int i = start; i < start + steps; i++) {
+            Node sentinel = buckets[i & mask];
+            Node node = sentinel.nextInTimer;
+            sentinel.nextInTimer = sentinel;
+            sentinel.previousInTimer = sentinel;
+
+            while (node != sentinel) {
+                Node next = node.nextInTimer;
+                node.nextInTimer = null;
+                node.previousInTimer = null;
+
+                if (node.entry.getExpirationTime() < currentTime) {
+                    link(expired, node);
+                } else {
+                    link(findBucket(node.entry.getExpirationTime()), node);
+                }
+                node = next;
+            }
+        }
+    }
+
+    private Node findBucket(long time) {
+        long duration = time - currentTime;
+        int last = wheel.length - 1;
+        for (int i = 0; i < last; i++) {
+            if (duration < (1L << SHIFT[i + 1])) {
+                long ticks = time >>> SHIFT[i];
+                int index = (int) (ticks & (wheel[i].length - 1));
+                return wheel[i][index];
+            }
+        }
+        return wheel[last][0];
+    }
+
+    private static void link(Node sentinel, Node node) {
+        node.previousInTimer = sentinel.previousInTimer;
+        node.nextInTimer = sentinel;
+        sentinel.previousInTimer.nextInTimer = node;
+        sentinel.previousInTimer = node;
+    }
+
+    private static Node sentinel() {
+        Node sentinel = new Node(null, null);
+        sentinel.nextInTimer = sentinel;
+        sentinel.previousInTimer = sentinel;
+        return sentinel;
+    }
+}
@@ -0,0 +1,103 @@
+package io.vertx.cache.memory.impl.policy;
+
+import io.vertx.cache.memory.Weigher;
+import io.vertx.cache.memory.impl.offheap.OffHeapValue;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimates the retained heap size of cache entries in bytes. The estimates assume a 64-bit JVM with compressed references and are meant to size a cache against the heap,
+ * not to be exact: object headers and padding are approximated and shared instances are counted every time they are referenced.
+ */
+public final class ValueWeigher implements Weigher {
+
+    public static final ValueWeigher INSTANCE = new ValueWeigher();
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int ARRAY_HEADER = 16;
+    private static final int BOXED_NUMBER = 16;
+    private static final int MAP_ENTRY = 32;
+    private static final int BUFFER_OVERHEAD = 48;
+    private static final int OFF_HEAP_VALUE = 48;
+    private static final int UNKNOWN = 64;
+
+    private ValueWeigher() {
+    }
+
+    @Override
+    public int weigh(String key, Object value) {
+        long weight = OBJECT_HEADER + sizeOf(key) + sizeOf(value);
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static long sizeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+
+        if (value instanceof String string) {
+            return sizeOf(string);
+        }
+
+        if (value instanceof Buffer buffer) {
+            return BUFFER_OVERHEAD + buffer.length();
+        }
+
+        if (value instanceof OffHeapValue) {
+            // Only the handle lives on the heap
+            return OFF_HEAP_VALUE;
+        }
+
+        if (value instanceof byte[] bytes) {
+            return ARRAY_HEADER + bytes.length;
+        }
+
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return BOXED_NUMBER;
+        }
+
+        if (value instanceof JsonObject json) {
+            return OBJECT_HEADER + sizeOf(json.getMap());
+        }
+
+        if (value instanceof JsonArray json) {
+            return OBJECT_HEADER + sizeOf(json.getList());
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            return sizeOf(map);
+        }
+
+        if (value instanceof List<?> list) {
+            return sizeOf(list);
+        }
+
+        return UNKNOWN;
+    }
+
+    private static long sizeOf(String string) {
+        // Compact strings store one byte per Latin-1 character; assume the denser encoding
+        return OBJECT_HEADER + ARRAY_HEADER + string.length();
+    }
+
+    private static long sizeOf(Map<?, ?> map) {
+        long size = OBJECT_HEADER + ARRAY_HEADER + (long) map.size() * REFERENCE;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            size += MAP_ENTRY + sizeOf(entry.getKey()) + sizeOf(entry.getValue());
+        }
+        return size;
+    }
+
+    private static long sizeOf(List<?> list) {
+        long size = OBJECT_HEADER + ARRAY_HEADER + (long) list.size() * REFERENCE;
+        for (Object element : list) {
+            size += sizeOf(element);
+        }
+        return size;
+    }
+}
@@ -0,0 +1,55 @@
+package io.vertx.cache.near;
+
+import io.vertx.cache.common.Cache;
+import io.vertx.cache.distributed.DistributedCache;
+import io.vertx.cache.memory.MemoryCache;
+import io.vertx.cache.near.impl.NearCacheImpl;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Vertx;
+
+/**
+ * NearCache is a two-level {@link Cache}: a bounded in-memory cache serves the reads locally, in front of a distributed cache holding the shared state.
+ *
+ * Writes go to the distributed cache first. Local values are invalidated through the keyspace notifications of Redis, which must be enabled on the server (for instance with
+ * {@code notify-keyspace-events KEA}), so that a value changed by any node stops being served locally. A node always reads its own writes once they have completed.
+ */
+@VertxGen
+public interface NearCache extends Cache {
+
+    /**
+     * Creates a near cache in front of a new distributed cache configured by the options.
+     *
+     * @param vertx The Vert.x instance used for the cache
+     * @param options The near cache options
+     * @return A new near cache instance
+     */
+    static NearCache create(Vertx vertx, NearCacheOptions options) {
+        return new NearCacheImpl(vertx, options);
+    }
+
+    /**
+     * Creates a near cache in front of an existing distributed cache. The distributed cache is not closed with the near cache.
+     *
+     * @param vertx The Vert.x instance used for the cache
+     * @param distributedCache The distributed cache
+     * @param options The near cache options, whose distributed options are ignored
+     * @return A new near cache instance
+     */
+    static NearCache create(Vertx vertx, DistributedCache distributedCache, NearCacheOptions options) {
+        return new NearCacheImpl(vertx, distributedCache, options);
+    }
+
+    /**
+     * Gets the local cache serving the reads.
+     *
+     * @return The local cache
+     */
+    MemoryCache getLocalCache();
+
+    /**
+     * Gets the distributed cache holding the shared state.
+     *
+     * @return The distributed cache
+     */
+    DistributedCache getDistributedCache();
+}
@@ -0,0 +1,111 @@
+package io.vertx.cache.near;
+
+import io.vertx.cache.distributed.DistributedCacheOptions;
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.concurrent.TimeUnit;
+
+@DataObject
+@JsonGen(publicConverter = false)
+public class NearCacheOptions {
+
+    public static final long DEFAULT_LOCAL_MAXIMUM_SIZE = 10000;
+    public static final long DEFAULT_LOCAL_TTL = 1;
+    public static final TimeUnit DEFAULT_LOCAL_TTL_TIMEUNIT = TimeUnit.MINUTES;
+
+    private DistributedCacheOptions distributedOptions;
+    private long localMaximumSize;
+    private long localTtl;
+    private TimeUnit localTtlTimeUnit;
+
+    public NearCacheOptions() {
+        this.distributedOptions = new DistributedCacheOptions();
+        this.localMaximumSize = DEFAULT_LOCAL_MAXIMUM_SIZE;
+        this.localTtl = DEFAULT_LOCAL_TTL;
+        this.localTtlTimeUnit = DEFAULT_LOCAL_TTL_TIMEUNIT;
+    }
+
+    public NearCacheOptions(NearCacheOptions other) {
+        this.distributedOptions = other.distributedOptions != null ? new DistributedCacheOptions(other.distributedOptions) : new DistributedCacheOptions();
+        this.localMaximumSize = other.localMaximumSize;
+        this.localTtl = other.localTtl;
+        this.localTtlTimeUnit = other.localTtlTimeUnit;
+    }
+
+    public NearCacheOptions(JsonObject json) {
+        this();
+        NearCacheOptionsConverter.fromJson(json, this);
+    }
+
+    public DistributedCacheOptions getDistributedOptions() {
+        return distributedOptions;
+    }
+
+    /**
+     * Sets the options of the distributed cache backing the near cache.
+     *
+     * @param distributedOptions The distributed cache options
+     * @return this
+     */
+    public NearCacheOptions setDistributedOptions(DistributedCacheOptions distributedOptions) {
+        this.distributedOptions = distributedOptions;
+        return this;
+    }
+
+    public long getLocalMaximumSize() {
+        return localMaximumSize;
+    }
+
+    /**
+     * Sets the maximum number of entries kept in the local cache. The least valuable entries are evicted beyond it, and will be read from the distributed cache again.
+     *
+     * @param localMaximumSize The maximum number of local entries
+     * @return this
+     */
+    public NearCacheOptions setLocalMaximumSize(long localMaximumSize) {
+        this.localMaximumSize = localMaximumSize;
+        return this;
+    }
+
+    public long getLocalTtl() {
+        return localTtl;
+    }
+
+    /**
+     * Sets how long a value is kept in the local cache. Values are invalidated as soon as they change in the distributed cache, the TTL only bounds how long a value may
+     * remain stale when an invalidation is lost, for instance while the connection to Redis is being re-established.
+     *
+     * @param localTtl The local TTL
+     * @return this
+     */
+    public NearCacheOptions setLocalTtl(long localTtl) {
+        this.localTtl = localTtl;
+        return this;
+    }
+
+    public TimeUnit getLocalTtlTimeUnit() {
+        return localTtlTimeUnit;
+    }
+
+    public NearCacheOptions setLocalTtlTimeUnit(TimeUnit localTtlTimeUnit) {
+        this.localTtlTimeUnit = localTtlTimeUnit;
+        return this;
+    }
+
+    public long getLocalTtlMillis() {
+        return localTtlTimeUnit.toMillis(localTtl);
+    }
+
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        NearCacheOptionsConverter.toJson(this, json);
+        return json;
+    }
+
+    @Override
+    public String toString() {
+        return toJson().encodePrettily();
+    }
+}
@@ -0,0 +1,247 @@
+package io.vertx.cache.near.impl;
+
+import io.vertx.cache.common.CacheStats;
+import io.vertx.cache.common.event.CacheEvent;
+import io.vertx.cache.common.event.CacheEventManager;
+import io.vertx.cache.common.impl.stats.StatsCounter;
+import io.vertx.cache.common.operation.KeyOperation;
+import io.vertx.cache.common.operation.ValueOperation;
+import io.vertx.cache.common.operation.binary.BinaryOperation;
+import io.vertx.cache.common.operation.json.JsonOperation;
+import io.vertx.cache.common.operation.number.NumberOperation;
+import io.vertx.cache.common.operation.text.StringOperation;
+import io.vertx.cache.common.serialization.CacheDeserializer;
+import io.vertx.cache.common.serialization.CacheSerializer;
+import io.vertx.cache.distributed.DistributedCache;
+import io.vertx.cache.memory.MemoryCache;
+import io.vertx.cache.memory.MemoryCacheOptions;
+import io.vertx.cache.near.NearCache;
+import io.vertx.cache.near.NearCacheOptions;
+import io.vertx.cache.near.impl.operation.NearBinaryOperation;
+import io.vertx.cache.near.impl.operation.NearJsonOperation;
+import io.vertx.cache.near.impl.operation.NearNumberOperation;
+import io.vertx.cache.near.impl.operation.NearStringOperation;
+import io.vertx.cache.near.impl.operation.NearValueOperation;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Implementation of the near cache. Values read from or written to the distributed cache are kept in a local {@link MemoryCache}, and removed from it when the distributed cache
+ * reports that their key changed.
+ *
+ * An invalidation may overtake the reply of a read or a write, since notifications and replies travel on different connections. Each load therefore holds a token for its key,
+ * which invalidations revoke: the loaded value is only kept locally if its token is still valid when the reply arrives. Values are not kept locally until the invalidation
+ * handler is registered, as invalidations could be missed before.
+ *
+ * The stats of the near cache count the reads served locally and remotely alike. Evictions, expirations and the size are those of the local cache, the stats of the distributed
+ * cache are available from {@link #getDistributedCache()}.
+ */
+public class NearCacheImpl implements NearCache {
+
+    private final MemoryCache local;
+    private final DistributedCache remote;
+    private final boolean ownsRemote;
+    private final long localTtlMillis;
+    private final ConcurrentMap<String, Object> loads = new ConcurrentHashMap<>();
+
+    private final NearStringOperation stringOperation;
+    private final NearNumberOperation<Long> longOperation;
+    private final NearNumberOperation<Double> doubleOperation;
+    private final NearJsonOperation jsonOperation;
+    private final NearBinaryOperation binaryOperation;
+    private final ConcurrentMap<Class<?>, NearValueOperation<?>> valueOperations = new ConcurrentHashMap<>();
+
+    private final Future<String> invalidationRegistration;
+    private volatile boolean tracking;
+
+    public NearCacheImpl(Vertx vertx, NearCacheOptions options) {
+        this(vertx, DistributedCache.create(vertx, options.getDistributedOptions()), true, options);
+    }
+
+    public NearCacheImpl(Vertx vertx, DistributedCache remote, NearCacheOptions options) {
+        this(vertx, remote, false, options);
+    }
+
+    private NearCacheImpl(Vertx vertx, DistributedCache remote, boolean ownsRemote, NearCacheOptions options) {
+        this.remote = remote;
+        this.ownsRemote = ownsRemote;
+        this.localTtlMillis = options.getLocalTtlMillis();
+        this.local = MemoryCache.create(vertx, new MemoryCacheOptions()
+                .setMaximumSize(options.getLocalMaximumSize())
+                .setDefaultTtl(options.getLocalTtl())
+                .setDefaultTtlTimeUnit(options.getLocalTtlTimeUnit()));
+
+        this.stringOperation = new NearStringOperation(this, remote.strings());
+        this.longOperation = new NearNumberOperation<>(this, remote.integers(), Long.class);
+        this.doubleOperation = new NearNumberOperation<>(this, remote.floats(), Double.class);
+        this.jsonOperation = new NearJsonOperation(this, remote.jsonOperation());
+        this.binaryOperation = new NearBinaryOperation(this, remote.binaryOperation());
+
+        this.invalidationRegistration = remote.events().registerEventHandler(this::handleEvent).onSuccess(id -> tracking = true);
+    }
+
+    private void handleEvent(CacheEvent event) {
+        if (event.getType() == CacheEvent.EventType.CACHE_CLEARED) {
+            loads.clear();
+            local.clear();
+        } else if (event.getKey() != null) {
+            invalidate(event.getKey());
+        }
+    }
+
+    /**
+     * Gets the value of a key from the local cache.
+     *
+     * @param key The key
+     * @param type The expected type of the value
+     * @return The local value, or null if the key is not cached locally with a value of this type
+     */
+    public <T> T getLocal(String key, Class<T> type) {
+        Object value = local.get(key);
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    /**
+     * Starts loading a key from the distributed cache, by a read or a write.
+     *
+     * @param key The key
+     * @return The token of the load, to pass to {@link #complete(String, Object, Object)}
+     */
+    public Object begin(String key) {
+        Object token = new Object();
+        loads.put(key, token);
+        return token;
+    }
+
+    /**
+     * Completes the load of a key. The value is kept locally if the key has not been invalidated since the load began, and the local value is dropped otherwise.
+     *
+     * @param key The key
+     * @param token The token returned by {@link #begin(String)}
+     * @param value The value now held by the distributed cache, or null if it is unknown or absent
+     */
+    public void complete(String key, Object token, Object value) {
+        // Replies and invalidations may be handled on different threads, the token check and the local update are done atomically under the lock of the key
+        loads.compute(key, (k, current) -> {
+            if (current == token && value != null && tracking) {
+                local.put(key, value, localTtlMillis);
+            } else {
+                local.remove(key);
+            }
+            return current == token ? null : current;
+        });
+    }
+
+    /**
+     * Drops the local value of a key and revokes the pending load of the key, if any.
+     *
+     * @param key The key
+     */
+    public void invalidate(String key) {
+        loads.compute(key, (k, current) -> {
+            local.remove(key);
+            return null;
+        });
+    }
+
+    @Override
+    public MemoryCache getLocalCache() {
+        return local;
+    }
+
+    @Override
+    public DistributedCache getDistributedCache() {
+        return remote;
+    }
+
+    @Override
+    public KeyOperation keys() {
+        return remote.keys();
+    }
+
+    @Override
+    public StringOperation strings() {
+        return stringOperation;
+    }
+
+    @Override
+    public JsonOperation jsonOperation() {
+        return jsonOperation;
+    }
+
+    @Override
+    public BinaryOperation binaryOperation() {
+        return binaryOperation;
+    }
+
+    @Override
+    public NumberOperation<Long> integers() {
+        return longOperation;
+    }
+
+    @Override
+    public NumberOperation<Double> floats() {
+        return doubleOperation;
+    }
+
+    @Override
+    public <T> ValueOperation<T> value(Class<T> clazz) {
+        return value(clazz, null, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ValueOperation<T> value(Class<T> clazz, CacheSerializer<T> serializer, CacheDeserializer<T> deserializer) {
+        return (ValueOperation<T>) valueOperations.computeIfAbsent(clazz,
+                c -> new NearValueOperation<>(this, remote.value(clazz, serializer, deserializer), clazz));
+    }
+
+    @Override
+    public CacheStats stats() {
+        Map<String, StatsCounter> families = new LinkedHashMap<>();
+        families.put(CacheStats.STRINGS, stringOperation.statsCounter());
+        families.put(CacheStats.INTEGERS, longOperation.statsCounter());
+        families.put(CacheStats.FLOATS, doubleOperation.statsCounter());
+        families.put(CacheStats.JSON, jsonOperation.statsCounter());
+        families.put(CacheStats.BINARY, binaryOperation.statsCounter());
+        StatsCounter values = new StatsCounter();
+        valueOperations.values().forEach(operation -> values.incrementBy(operation.statsCounter()));
+        families.put(CacheStats.VALUE, values);
+
+        CacheStats snapshot = StatsCounter.snapshot(families, new StatsCounter());
+        CacheStats localStats = local.stats();
+        snapshot.setEvictionCount(localStats.getEvictionCount());
+        snapshot.setExpirationCount(localStats.getExpirationCount());
+        snapshot.setSize(localStats.getSize());
+        snapshot.setWeight(localStats.getWeight());
+        return snapshot;
+    }
+
+    @Override
+    public Future<Void> clear() {
+        return remote.clear().onComplete(ar -> {
+            loads.clear();
+            local.clear();
+        });
+    }
+
+    @Override
+    public Future<Void> close() {
+        Future<Void> unregistered = invalidationRegistration
+                .compose(id -> remote.events().unregisterEventHandler(id))
+                .otherwiseEmpty();
+        return unregistered
+                .compose(v -> local.close())
+                .compose(v -> ownsRemote ? remote.close() : Future.succeededFuture());
+    }
+
+    @Override
+    public CacheEventManager events() {
+        return remote.events();
+    }
+}
@@ -0,0 +1,15 @@
+package io.vertx.cache.near.impl.operation;
+
+import io.vertx.cache.common.operation.binary.BinaryOperation;
+import io.vertx.cache.near.impl.NearCacheImpl;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Near cache implementation of the BinaryOperation interface.
+ */
+public class NearBinaryOperation extends NearCacheOperation<Buffer, BinaryOperation> implements BinaryOperation {
+
+    public NearBinaryOperation(NearCacheImpl cache, BinaryOperation remote) {
+        super(cache, remote, Buffer.class);
+    }
+}
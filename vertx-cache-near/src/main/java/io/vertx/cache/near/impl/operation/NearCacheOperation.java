@@ -0,0 +1,186 @@
+package io.vertx.cache.near.impl.operation;
+
+import io.vertx.cache.common.impl.load.SingleFlight;
+import io.vertx.cache.common.impl.stats.StatsCounter;
+import io.vertx.cache.common.operation.CacheOperation;
+import io.vertx.cache.near.impl.NearCacheImpl;
+import io.vertx.core.Future;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Base of the near cache operations. Reads are served from the local cache when possible and fill it otherwise; writes go to the distributed operation and then update the
+ * local cache, so that the node reads its own writes.
+ *
+ * @param <V> The type of values this operation works with
+ * @param <O> The type of the distributed operation
+ */
+public abstract class NearCacheOperation<V, O extends CacheOperation<V>> implements CacheOperation<V> {
+
+    protected final NearCacheImpl cache;
+    protected final O remote;
+    protected final Class<V> type;
+    private final SingleFlight<V> loads = new SingleFlight<>();
+    private final StatsCounter stats = new StatsCounter();
+
+    protected NearCacheOperation(NearCacheImpl cache, O remote, Class<V> type) {
+        this.cache = cache;
+        this.remote = remote;
+        this.type = type;
+    }
+
+    /**
+     * Gets the counter recording the reads and loads of this operation, whether they were served locally or not.
+     *
+     * @return The stats counter
+     */
+    public StatsCounter statsCounter() {
+        return stats;
+    }
+
+    /**
+     * Runs a write on the distributed cache and updates the local cache with the value the key holds afterwards.
+     *
+     * @param key The key written
+     * @param write The write
+     * @param value Extracts the value the key holds after the write from its result, or returns null if it is unknown
+     * @return The result of the write
+     */
+    protected <R> Future<R> write(String key, Future<R> write, Function<R, Object> value) {
+        Object token = cache.begin(key);
+        return write.andThen(ar -> cache.complete(key, token, ar.succeeded() ? value.apply(ar.result()) : null));
+    }
+
+    /**
+     * Runs a write on the distributed cache after which the value of the key is unknown, and drops the local value.
+     */
+    protected <R> Future<R> invalidate(String key, Future<R> write) {
+        return write(key, write, result -> null);
+    }
+
+    @Override
+    public Future<V> get(String key) {
+        V value = cache.getLocal(key, type);
+        if (value != null) {
+            stats.recordGet(value);
+            return Future.succeededFuture(value);
+        }
+
+        Object token = cache.begin(key);
+        return remote.get(key).andThen(ar -> {
+            if (ar.succeeded()) {
+                stats.recordGet(ar.result());
+            }
+            cache.complete(key, token, ar.succeeded() ? ar.result() : null);
+        });
+    }
+
+    @Override
+    public Future<V> getOrLoad(String key, Supplier<Future<V>> loader, long ttl, TimeUnit unit) {
+        return loads.getOrLoad(this, key, stats.recordLoads(loader), ttl, unit);
+    }
+
+    @Override
+    public Future<Map<String, V>> getAll(List<String> keys) {
+        Map<String, V> values = new HashMap<>(keys.size() * 4 / 3 + 1);
+        List<String> missing = new ArrayList<>();
+        for (String key : keys) {
+            V value = cache.getLocal(key, type);
+            if (value != null) {
+                values.put(key, value);
+            } else {
+                missing.add(key);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            stats.recordGetAll(values.size(), 0);
+            return Future.succeededFuture(values);
+        }
+
+        List<Object> tokens = new ArrayList<>(missing.size());
+        for (String key : missing) {
+            tokens.add(cache.begin(key));
+        }
+        return remote.getAll(missing).andThen(ar -> {
+            for (int i = 0; i < missing.size(); i++) {
+                String key = missing.get(i);
+                cache.complete(key, tokens.get(i), ar.succeeded() ? ar.result().get(key) : null);
+            }
+        }).map(remoteValues -> {
+            values.putAll(remoteValues);
+            stats.recordGetAll(values.size(), keys.size() - values.size());
+            return values;
+        });
+    }
+
+    @Override
+    public Future<V> getAndSet(String key, V value) {
+        return write(key, remote.getAndSet(key, value), previous -> value);
+    }
+
+    @Override
+    public Future<V> getAndDelete(String key) {
+        return invalidate(key, remote.getAndDelete(key));
+    }
+
+    @Override
+    public Future<Void> set(String key, V value) {
+        return write(key, remote.set(key, value), v -> value);
+    }
+
+    @Override
+    public Future<Void> set(String key, V value, long ttl, TimeUnit unit) {
+        return write(key, remote.set(key, value, ttl, unit), v -> value);
+    }
+
+    @Override
+    public Future<Void> setAll(Map<String, V> entries) {
+        return setAll(entries, remote.setAll(entries));
+    }
+
+    @Override
+    public Future<Void> setAll(Map<String, V> entries, long ttl, TimeUnit unit) {
+        return setAll(entries, remote.setAll(entries, ttl, unit));
+    }
+
+    private Future<Void> setAll(Map<String, V> entries, Future<Void> write) {
+        Map<String, Object> tokens = new HashMap<>(entries.size() * 4 / 3 + 1);
+        entries.keySet().forEach(key -> tokens.put(key, cache.begin(key)));
+        return write.andThen(ar -> entries.forEach((key, value) -> cache.complete(key, tokens.get(key), ar.succeeded() ? value : null)));
+    }
+
+    @Override
+    public Future<Void> setIfAbsent(String key, V value) {
+        return invalidate(key, remote.setIfAbsent(key, value));
+    }
+
+    @Override
+    public Future<Void> setIfAbsent(String key, V value, long ttl, TimeUnit unit) {
+        return invalidate(key, remote.setIfAbsent(key, value, ttl, unit));
+    }
+
+    @Override
+    public Future<Boolean> exists(String... key) {
+        return remote.exists(key);
+    }
+
+    @Override
+    public Future<Void> delete(String... keys) {
+        Object[] tokens = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            tokens[i] = cache.begin(keys[i]);
+        }
+        return remote.delete(keys).andThen(ar -> {
+            for (int i = 0; i < keys.length; i++) {
+                cache.complete(keys[i], tokens[i], null);
+            }
+        });
+    }
+}
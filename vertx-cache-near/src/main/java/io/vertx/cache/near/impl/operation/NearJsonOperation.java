@@ -0,0 +1,15 @@
+package io.vertx.cache.near.impl.operation;
+
+import io.vertx.cache.common.operation.json.JsonOperation;
+import io.vertx.cache.near.impl.NearCacheImpl;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Near cache implementation of the JsonOperation interface.
+ */
+public class NearJsonOperation extends NearCacheOperation<JsonObject, JsonOperation> implements JsonOperation {
+
+    public NearJsonOperation(NearCacheImpl cache, JsonOperation remote) {
+        super(cache, remote, JsonObject.class);
+    }
+}
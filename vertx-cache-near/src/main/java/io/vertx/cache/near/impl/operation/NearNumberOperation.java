@@ -0,0 +1,37 @@
+package io.vertx.cache.near.impl.operation;
+
+import io.vertx.cache.common.operation.number.NumberOperation;
+import io.vertx.cache.near.impl.NearCacheImpl;
+import io.vertx.core.Future;
+
+/**
+ * Near cache implementation of the NumberOperation interface. Increments and decrements return the new value, which is kept locally.
+ *
+ * @param <T> The type of numbers this operation works with
+ */
+public class NearNumberOperation<T extends Number> extends NearCacheOperation<T, NumberOperation<T>> implements NumberOperation<T> {
+
+    public NearNumberOperation(NearCacheImpl cache, NumberOperation<T> remote, Class<T> type) {
+        super(cache, remote, type);
+    }
+
+    @Override
+    public Future<T> increment(String key) {
+        return write(key, remote.increment(key), value -> value);
+    }
+
+    @Override
+    public Future<T> increment(String key, T amount) {
+        return write(key, remote.increment(key, amount), value -> value);
+    }
+
+    @Override
+    public Future<T> decrement(String key) {
+        return write(key, remote.decrement(key), value -> value);
+    }
+
+    @Override
+    public Future<T> decrement(String key, T amount) {
+        return write(key, remote.decrement(key, amount), value -> value);
+    }
+}
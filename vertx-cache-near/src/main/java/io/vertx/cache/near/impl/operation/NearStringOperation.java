@@ -0,0 +1,39 @@
+package io.vertx.cache.near.impl.operation;
+
+import io.vertx.cache.common.operation.text.StringOperation;
+import io.vertx.cache.near.impl.NearCacheImpl;
+import io.vertx.core.Future;
+
+/**
+ * Near cache implementation of the StringOperation interface.
+ */
+public class NearStringOperation extends NearCacheOperation<String, StringOperation> implements StringOperation {
+
+    public NearStringOperation(NearCacheImpl cache, StringOperation remote) {
+        super(cache, remote, String.class);
+    }
+
+    @Override
+    public Future<Long> length(String key) {
+        String value = cache.getLocal(key, String.class);
+        if (value != null) {
+            return Future.succeededFuture((long) value.length());
+        }
+        return remote.length(key);
+    }
+
+    @Override
+    public Future<Integer> append(String key, String value) {
+        return invalidate(key, remote.append(key, value));
+    }
+
+    @Override
+    public Future<String> getRange(String key, int start, int end) {
+        return remote.getRange(key, start, end);
+    }
+
+    @Override
+    public Future<Long> setRange(String key, long offset, String value) {
+        return invalidate(key, remote.setRange(key, offset, value));
+    }
+}
@@ -0,0 +1,51 @@
+package io.vertx.cache.near.impl.operation;
+
+import io.vertx.cache.common.operation.ValueOperation;
+import io.vertx.cache.common.serialization.CacheDeserializer;
+import io.vertx.cache.common.serialization.CacheSerializer;
+import io.vertx.cache.near.impl.NearCacheImpl;
+import io.vertx.core.Future;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Near cache implementation of the ValueOperation interface. Reads and writes with a custom serializer bypass the local cache, as the value they see may differ from the one
+ * of the default serializer.
+ *
+ * @param <T> The type of values this operation works with
+ */
+public class NearValueOperation<T> extends NearCacheOperation<T, ValueOperation<T>> implements ValueOperation<T> {
+
+    public NearValueOperation(NearCacheImpl cache, ValueOperation<T> remote, Class<T> type) {
+        super(cache, remote, type);
+    }
+
+    @Override
+    public Future<T> get(String key, CacheDeserializer<T> deserializer) {
+        return remote.get(key, deserializer).andThen(ar -> {
+            if (ar.succeeded()) {
+                statsCounter().recordGet(ar.result());
+            }
+        });
+    }
+
+    @Override
+    public Future<Void> set(String key, T value, CacheSerializer<T> serializer) {
+        return invalidate(key, remote.set(key, value, serializer));
+    }
+
+    @Override
+    public Future<Void> set(String key, T value, long ttl, TimeUnit unit, CacheSerializer<T> serializer) {
+        return invalidate(key, remote.set(key, value, ttl, unit, serializer));
+    }
+
+    @Override
+    public CacheSerializer<T> getSerializer() {
+        return remote.getSerializer();
+    }
+
+    @Override
+    public CacheDeserializer<T> getDeserializer() {
+        return remote.getDeserializer();
+    }
+}
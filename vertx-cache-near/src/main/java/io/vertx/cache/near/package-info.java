@@ -0,0 +1,4 @@
+@ModuleGen(name = "vertx-cache", groupPackage = "io.vertx")
+package io.vertx.cache.near;
+
+import io.vertx.codegen.annotations.ModuleGen;